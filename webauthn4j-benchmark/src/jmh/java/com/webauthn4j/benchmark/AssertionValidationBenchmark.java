@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnAuthenticationManager;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the assertion validation hot path of {@link WebAuthnAuthenticationManager} per credential algorithm.
+ * Assertions are pre-generated with the emulated authenticator in webauthn4j-test so that only the library cost is measured.
+ * Run with the GC profiler (configured in build.gradle) to get the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AssertionValidationBenchmark {
+
+    private static final int DATA_SET_SIZE = 64;
+
+    @Param({"ES256", "RS256", "EdDSA"})
+    private String algorithm;
+
+    private WebAuthnAuthenticationManager webAuthnAuthenticationManager;
+
+    private AuthenticationRequest[] authenticationRequests;
+    private AuthenticationData[] authenticationDataArray;
+    private AuthenticationParameters[] authenticationParametersArray;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        webAuthnAuthenticationManager = new WebAuthnAuthenticationManager();
+
+        BenchmarkAuthenticator benchmarkAuthenticator = new BenchmarkAuthenticator(toCOSEAlgorithmIdentifier(algorithm));
+        Authenticator authenticator = benchmarkAuthenticator.register();
+
+        authenticationRequests = new AuthenticationRequest[DATA_SET_SIZE];
+        authenticationDataArray = new AuthenticationData[DATA_SET_SIZE];
+        authenticationParametersArray = new AuthenticationParameters[DATA_SET_SIZE];
+        for (int i = 0; i < DATA_SET_SIZE; i++) {
+            BenchmarkAuthenticator.Assertion assertion = benchmarkAuthenticator.authenticate(authenticator);
+            authenticationRequests[i] = assertion.getAuthenticationRequest();
+            authenticationParametersArray[i] = assertion.getAuthenticationParameters();
+            authenticationDataArray[i] = webAuthnAuthenticationManager.parse(authenticationRequests[i]);
+            // make sure generated data is valid before measurement
+            webAuthnAuthenticationManager.validate(authenticationDataArray[i], authenticationParametersArray[i]);
+        }
+    }
+
+    @Benchmark
+    public AuthenticationData parse() {
+        return webAuthnAuthenticationManager.parse(authenticationRequests[next()]);
+    }
+
+    @Benchmark
+    public AuthenticationData validate() {
+        int i = next();
+        return webAuthnAuthenticationManager.validate(authenticationDataArray[i], authenticationParametersArray[i]);
+    }
+
+    @Benchmark
+    public AuthenticationData parseAndValidate() {
+        int i = next();
+        return webAuthnAuthenticationManager.validate(authenticationRequests[i], authenticationParametersArray[i]);
+    }
+
+    private int next() {
+        int i = index;
+        index = (i + 1) % DATA_SET_SIZE;
+        return i;
+    }
+
+    static COSEAlgorithmIdentifier toCOSEAlgorithmIdentifier(String algorithm) {
+        switch (algorithm) {
+            case "ES256":
+                return COSEAlgorithmIdentifier.ES256;
+            case "RS256":
+                return COSEAlgorithmIdentifier.RS256;
+            case "EdDSA":
+                return COSEAlgorithmIdentifier.EdDSA;
+            default:
+                throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
+}
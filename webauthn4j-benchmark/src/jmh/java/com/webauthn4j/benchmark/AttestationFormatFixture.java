@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnRegistrationManager;
+import com.webauthn4j.anchor.TrustAnchorsResolver;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.EmulatorUtil;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.RegistrationObject;
+import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidkey.AndroidKeyAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidsafetynet.AndroidSafetyNetAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.apple.AppleAnonymousAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.packed.PackedAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.tpm.TPMAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.u2f.FIDOU2FAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.CertPathTrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.NullCertPathTrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.TrustAnchorCertPathTrustworthinessValidator;
+
+import java.time.Instant;
+import java.util.Collections;
+
+/**
+ * Registration inputs for one attestation statement format, together with the validators needed to verify it.
+ * Emulated authenticators in webauthn4j-test are used for every format except apple, for which no emulator exists
+ * and the recorded test vector from {@link TestDataUtil} is used instead.
+ */
+class AttestationFormatFixture {
+
+    private static final String RP_ID = "example.com";
+
+    private final RegistrationRequest registrationRequest;
+    private final RegistrationParameters registrationParameters;
+    private final RegistrationObject registrationObject;
+    private final AttestationStatementValidator attestationStatementValidator;
+    private final CertPathTrustworthinessValidator certPathTrustworthinessValidator;
+
+    private AttestationFormatFixture(
+            RegistrationRequest registrationRequest,
+            RegistrationParameters registrationParameters,
+            RegistrationObject registrationObject,
+            AttestationStatementValidator attestationStatementValidator,
+            CertPathTrustworthinessValidator certPathTrustworthinessValidator) {
+        this.registrationRequest = registrationRequest;
+        this.registrationParameters = registrationParameters;
+        this.registrationObject = registrationObject;
+        this.attestationStatementValidator = attestationStatementValidator;
+        this.certPathTrustworthinessValidator = certPathTrustworthinessValidator;
+    }
+
+    static AttestationFormatFixture create(String format) {
+        TrustAnchorsResolver trustAnchorsResolver3tier = TestAttestationUtil.createTrustAnchorProviderWith3tierTestRootCACertificate();
+        switch (format) {
+            case "packed":
+                return create(EmulatorUtil.createClientPlatform(EmulatorUtil.PACKED_AUTHENTICATOR), AttestationConveyancePreference.DIRECT,
+                        new PackedAttestationStatementValidator(), new TrustAnchorCertPathTrustworthinessValidator(trustAnchorsResolver3tier));
+            case "tpm":
+                return create(EmulatorUtil.createClientPlatform(EmulatorUtil.TPM_AUTHENTICATOR), AttestationConveyancePreference.DIRECT,
+                        new TPMAttestationStatementValidator(), new TrustAnchorCertPathTrustworthinessValidator(trustAnchorsResolver3tier));
+            case "android-key":
+                return create(EmulatorUtil.createClientPlatform(EmulatorUtil.ANDROID_KEY_AUTHENTICATOR), AttestationConveyancePreference.DIRECT,
+                        new AndroidKeyAttestationStatementValidator(), new TrustAnchorCertPathTrustworthinessValidator(trustAnchorsResolver3tier));
+            case "android-safetynet":
+                AndroidSafetyNetAttestationStatementValidator androidSafetyNetAttestationStatementValidator = new AndroidSafetyNetAttestationStatementValidator();
+                // the attestation is generated once at setup, so the timestamp must stay acceptable for the whole run
+                androidSafetyNetAttestationStatementValidator.setBackwardThreshold(Integer.MAX_VALUE);
+                return create(EmulatorUtil.createClientPlatform(EmulatorUtil.ANDROID_SAFETY_NET_AUTHENTICATOR), AttestationConveyancePreference.DIRECT,
+                        androidSafetyNetAttestationStatementValidator, new TrustAnchorCertPathTrustworthinessValidator(trustAnchorsResolver3tier));
+            case "fido-u2f":
+                return create(EmulatorUtil.createClientPlatform(new FIDOU2FAuthenticatorAdaptor()), AttestationConveyancePreference.DIRECT,
+                        new FIDOU2FAttestationStatementValidator(), new TrustAnchorCertPathTrustworthinessValidator(TestAttestationUtil.createTrustAnchorProviderWith2tierTestRootCACertificate()));
+            case "none":
+                return create(EmulatorUtil.createClientPlatform(EmulatorUtil.PACKED_AUTHENTICATOR), AttestationConveyancePreference.NONE,
+                        new NoneAttestationStatementValidator(), new NullCertPathTrustworthinessValidator());
+            case "apple":
+                return createApple();
+            default:
+                throw new IllegalArgumentException("Unsupported attestation statement format: " + format);
+        }
+    }
+
+    private static AttestationFormatFixture create(
+            ClientPlatform clientPlatform,
+            AttestationConveyancePreference attestationConveyancePreference,
+            AttestationStatementValidator attestationStatementValidator,
+            CertPathTrustworthinessValidator certPathTrustworthinessValidator) {
+        Challenge challenge = new DefaultChallenge();
+        AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
+                new AuthenticatorSelectionCriteria(
+                        AuthenticatorAttachment.CROSS_PLATFORM,
+                        true,
+                        UserVerificationRequirement.REQUIRED);
+        PublicKeyCredentialParameters publicKeyCredentialParameters = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+        PublicKeyCredentialUserEntity publicKeyCredentialUserEntity = new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName");
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(RP_ID, "example.com"),
+                publicKeyCredentialUserEntity,
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters),
+                null,
+                Collections.emptyList(),
+                authenticatorSelectionCriteria,
+                attestationConveyancePreference,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        AuthenticatorAttestationResponse response = clientPlatform.create(credentialCreationOptions).getAuthenticatorResponse();
+
+        RegistrationRequest registrationRequest = new RegistrationRequest(response.getAttestationObject(), response.getClientDataJSON());
+        ServerProperty serverProperty = new ServerProperty(clientPlatform.getOrigin(), RP_ID, challenge, null);
+        RegistrationParameters registrationParameters = new RegistrationParameters(serverProperty, null, false, true);
+        RegistrationObject registrationObject = createRegistrationObject(registrationRequest, serverProperty, Instant.now());
+        return new AttestationFormatFixture(registrationRequest, registrationParameters, registrationObject, attestationStatementValidator, certPathTrustworthinessValidator);
+    }
+
+    private static AttestationFormatFixture createApple() {
+        RegistrationObject registrationObject = TestDataUtil.createRegistrationObjectWithAppleAttestation();
+        RegistrationRequest registrationRequest = new RegistrationRequest(registrationObject.getAttestationObjectBytes(), registrationObject.getCollectedClientDataBytes());
+        RegistrationParameters registrationParameters = new RegistrationParameters(registrationObject.getServerProperty(), null, false, true);
+        // Apple WebAuthn Root CA is not shipped with webauthn4j-test, so the certificate path is not validated for apple
+        return new AttestationFormatFixture(registrationRequest, registrationParameters, registrationObject, new AppleAnonymousAttestationStatementValidator(), new NullCertPathTrustworthinessValidator());
+    }
+
+    private static RegistrationObject createRegistrationObject(RegistrationRequest registrationRequest, ServerProperty serverProperty, Instant timestamp) {
+        RegistrationData registrationData = WebAuthnRegistrationManager.createNonStrictWebAuthnRegistrationManager().parse(registrationRequest);
+        //noinspection ConstantConditions
+        return new RegistrationObject(
+                registrationData.getAttestationObject(),
+                registrationData.getAttestationObjectBytes(),
+                registrationData.getCollectedClientData(),
+                registrationData.getCollectedClientDataBytes(),
+                registrationData.getClientExtensions(),
+                registrationData.getTransports(),
+                serverProperty,
+                timestamp
+        );
+    }
+
+    RegistrationRequest getRegistrationRequest() {
+        return registrationRequest;
+    }
+
+    RegistrationParameters getRegistrationParameters() {
+        return registrationParameters;
+    }
+
+    RegistrationObject getRegistrationObject() {
+        return registrationObject;
+    }
+
+    AttestationStatementValidator getAttestationStatementValidator() {
+        return attestationStatementValidator;
+    }
+
+    CertPathTrustworthinessValidator getCertPathTrustworthinessValidator() {
+        return certPathTrustworthinessValidator;
+    }
+}
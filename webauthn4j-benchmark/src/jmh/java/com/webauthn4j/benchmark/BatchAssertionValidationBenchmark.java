@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnAuthenticationManager;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.AuthenticationValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WebAuthnAuthenticationManager#validateAll(List, List, ForkJoinPool)} with a pool of 1 to 16 workers.
+ * With enough cores, the time per batch should decrease almost linearly with the parallelism, as the signature
+ * verification dominates and only the parsing is done on the caller thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchAssertionValidationBenchmark {
+
+    private static final int BATCH_SIZE = 256;
+
+    @Param({"ES256", "RS256"})
+    private String algorithm;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int parallelism;
+
+    private WebAuthnAuthenticationManager webAuthnAuthenticationManager;
+    private ForkJoinPool forkJoinPool;
+
+    private List<AuthenticationRequest> authenticationRequests;
+    private List<AuthenticationParameters> authenticationParametersList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        webAuthnAuthenticationManager = new WebAuthnAuthenticationManager();
+        forkJoinPool = new ForkJoinPool(parallelism);
+
+        BenchmarkAuthenticator benchmarkAuthenticator = new BenchmarkAuthenticator(AssertionValidationBenchmark.toCOSEAlgorithmIdentifier(algorithm));
+        Authenticator authenticator = benchmarkAuthenticator.register();
+
+        authenticationRequests = new ArrayList<>(BATCH_SIZE);
+        authenticationParametersList = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            BenchmarkAuthenticator.Assertion assertion = benchmarkAuthenticator.authenticate(authenticator);
+            authenticationRequests.add(assertion.getAuthenticationRequest());
+            authenticationParametersList.add(assertion.getAuthenticationParameters());
+        }
+        // make sure generated data is valid before measurement
+        for (AuthenticationValidationResult result : webAuthnAuthenticationManager.validateAll(authenticationRequests, authenticationParametersList, forkJoinPool)) {
+            if (!result.isSucceeded()) {
+                throw new IllegalStateException("Generated assertion is not valid", result.getException());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    @Benchmark
+    public List<AuthenticationValidationResult> validateAll() {
+        return webAuthnAuthenticationManager.validateAll(authenticationRequests, authenticationParametersList, forkJoinPool);
+    }
+}
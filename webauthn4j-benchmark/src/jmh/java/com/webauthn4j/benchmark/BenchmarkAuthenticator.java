@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.EmulatorUtil;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.webauthn.PackedAuthenticator;
+import com.webauthn4j.test.client.ClientPlatform;
+
+import java.util.Collections;
+
+/**
+ * Generates registrations and assertions for benchmarks with the emulated packed authenticator.
+ * The signature counter is kept at zero so that the same assertion can be validated repeatedly.
+ */
+class BenchmarkAuthenticator {
+
+    private static final String RP_ID = "example.com";
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+    private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+    private final COSEAlgorithmIdentifier algorithm;
+    private final ClientPlatform clientPlatform;
+
+    BenchmarkAuthenticator(COSEAlgorithmIdentifier algorithm) {
+        this.algorithm = algorithm;
+        PackedAuthenticator packedAuthenticator = new PackedAuthenticator();
+        packedAuthenticator.setCountUpEnabled(false);
+        this.clientPlatform = EmulatorUtil.createClientPlatform(packedAuthenticator);
+    }
+
+    Authenticator register() {
+        AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
+                new AuthenticatorSelectionCriteria(
+                        AuthenticatorAttachment.CROSS_PLATFORM,
+                        true,
+                        UserVerificationRequirement.REQUIRED);
+        PublicKeyCredentialParameters publicKeyCredentialParameters = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, algorithm);
+        PublicKeyCredentialUserEntity publicKeyCredentialUserEntity = new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName");
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(RP_ID, "example.com"),
+                publicKeyCredentialUserEntity,
+                new DefaultChallenge(),
+                Collections.singletonList(publicKeyCredentialParameters),
+                null,
+                Collections.emptyList(),
+                authenticatorSelectionCriteria,
+                AttestationConveyancePreference.NONE,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        AuthenticatorAttestationResponse registrationResponse = clientPlatform.create(credentialCreationOptions).getAuthenticatorResponse();
+        AttestationObject attestationObject = attestationObjectConverter.convert(registrationResponse.getAttestationObject());
+        return TestDataUtil.createAuthenticator(attestationObject);
+    }
+
+    Assertion authenticate(Authenticator authenticator) {
+        Challenge challenge = new DefaultChallenge();
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                RP_ID,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse response = credential.getAuthenticatorResponse();
+        String clientExtensionJSON = authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults());
+
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                response.getAuthenticatorData(),
+                response.getClientDataJSON(),
+                clientExtensionJSON,
+                response.getSignature()
+        );
+        ServerProperty serverProperty = new ServerProperty(clientPlatform.getOrigin(), RP_ID, challenge, null);
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(serverProperty, authenticator, null, true);
+        return new Assertion(authenticationRequest, authenticationParameters);
+    }
+
+    static class Assertion {
+
+        private final AuthenticationRequest authenticationRequest;
+        private final AuthenticationParameters authenticationParameters;
+
+        Assertion(AuthenticationRequest authenticationRequest, AuthenticationParameters authenticationParameters) {
+            this.authenticationRequest = authenticationRequest;
+            this.authenticationParameters = authenticationParameters;
+        }
+
+        AuthenticationRequest getAuthenticationRequest() {
+            return authenticationRequest;
+        }
+
+        AuthenticationParameters getAuthenticationParameters() {
+            return authenticationParameters;
+        }
+    }
+}
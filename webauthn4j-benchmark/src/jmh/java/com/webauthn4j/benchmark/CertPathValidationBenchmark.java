@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
+import com.webauthn4j.validator.RegistrationObject;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.CertPathTrustworthinessValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CertPathTrustworthinessValidator} per attestation statement format carrying an attestation certificate path.
+ * apple is not covered as the Apple WebAuthn Root CA is not available in webauthn4j-test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CertPathValidationBenchmark {
+
+    @Param({"packed", "tpm", "android-key", "android-safetynet", "fido-u2f"})
+    private String format;
+
+    private CertPathTrustworthinessValidator certPathTrustworthinessValidator;
+    private AAGUID aaguid;
+    private CertificateBaseAttestationStatement attestationStatement;
+    private Instant timestamp;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        AttestationFormatFixture fixture = AttestationFormatFixture.create(format);
+        RegistrationObject registrationObject = fixture.getRegistrationObject();
+        certPathTrustworthinessValidator = fixture.getCertPathTrustworthinessValidator();
+        //noinspection ConstantConditions
+        aaguid = registrationObject.getAttestationObject().getAuthenticatorData().getAttestedCredentialData().getAaguid();
+        attestationStatement = (CertificateBaseAttestationStatement) registrationObject.getAttestationObject().getAttestationStatement();
+        timestamp = registrationObject.getTimestamp();
+    }
+
+    @Benchmark
+    public CertPathTrustworthinessValidator validateCertPath() {
+        certPathTrustworthinessValidator.validate(aaguid, attestationStatement, timestamp);
+        return certPathTrustworthinessValidator;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.ChallengeGenerator;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DefaultChallenge#DefaultChallenge()} with {@link ChallengeGenerator} under 1 to 64 concurrent threads.
+ * Both produce 16 bytes challenges so that only the random source differs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChallengeGenerationBenchmark {
+
+    private final ChallengeGenerator challengeGenerator = new ChallengeGenerator(16);
+
+    @Benchmark
+    @Threads(1)
+    public Challenge defaultChallenge_01threads() {
+        return new DefaultChallenge();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Challenge defaultChallenge_04threads() {
+        return new DefaultChallenge();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Challenge defaultChallenge_16threads() {
+        return new DefaultChallenge();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Challenge defaultChallenge_64threads() {
+        return new DefaultChallenge();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Challenge challengeGenerator_01threads() {
+        return challengeGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Challenge challengeGenerator_04threads() {
+        return challengeGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Challenge challengeGenerator_16threads() {
+        return challengeGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Challenge challengeGenerator_64threads() {
+        return challengeGenerator.generate();
+    }
+}
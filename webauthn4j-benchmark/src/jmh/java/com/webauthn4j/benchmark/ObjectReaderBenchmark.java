@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.client.ExtensionClientOutput;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.test.TestDataUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares readValue calls, which look up the deserializer on every call, with readers from readerFor.
+ * The TypeReference variants also include the allocation of an anonymous TypeReference per call, as converters used to do.
+ * The payloads are small, so that the lookup is a visible part of the cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectReaderBenchmark {
+
+    private static final TypeReference<AuthenticationExtensionsClientOutputs<ExtensionClientOutput>> TYPE_REFERENCE =
+            new TypeReference<AuthenticationExtensionsClientOutputs<ExtensionClientOutput>>() {
+            };
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final JsonConverter jsonConverter = objectConverter.getJsonConverter();
+    private final CborConverter cborConverter = objectConverter.getCborConverter();
+
+    private final byte[] clientDataJSON = ("{\"type\":\"webauthn.get\",\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\"," +
+            "\"origin\":\"https://example.com\",\"crossOrigin\":false}").getBytes(StandardCharsets.UTF_8);
+    private final String clientExtensionsJSON = "{\"credProps\":{\"rk\":true}}";
+    private final byte[] collectedClientDataCbor = cborConverter.writeValueAsBytes(TestDataUtil.createClientData(ClientDataType.WEBAUTHN_GET));
+
+    @Benchmark
+    public CollectedClientData json_readValue_class() {
+        return jsonConverter.readValue(clientDataJSON, CollectedClientData.class);
+    }
+
+    @Benchmark
+    public CollectedClientData json_readerFor_class() {
+        return jsonConverter.readerFor(CollectedClientData.class).readValue(clientDataJSON);
+    }
+
+    @Benchmark
+    public AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> json_readValue_typeReference() {
+        return jsonConverter.readValue(clientExtensionsJSON, new TypeReference<AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput>>() {
+        });
+    }
+
+    @Benchmark
+    public AuthenticationExtensionsClientOutputs<ExtensionClientOutput> json_readerFor_typeReference() {
+        return jsonConverter.readerFor(TYPE_REFERENCE).readValue(clientExtensionsJSON);
+    }
+
+    @Benchmark
+    public CollectedClientData cbor_readValue_class() {
+        return cborConverter.readValue(collectedClientDataCbor, CollectedClientData.class);
+    }
+
+    @Benchmark
+    public CollectedClientData cbor_readerFor_class() {
+        return cborConverter.readerFor(CollectedClientData.class).readValue(collectedClientDataCbor);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default {@link ObjectConverter} with {@link ObjectConverter#createOptimized()}, which differ only in
+ * the bean property access generated by Blackbird or Afterburner.
+ * The clientDataJSON contains an escaped character, so that {@link CollectedClientDataConverter} parses it with Jackson
+ * rather than with its scanner for typical clientDataJSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptimizedObjectConverterBenchmark {
+
+    @Param({"default", "optimized"})
+    public String objectConverterType;
+
+    private MetadataBLOBFactory metadataBLOBFactory;
+    private CollectedClientDataConverter collectedClientDataConverter;
+
+    private String metadataBLOB;
+    private final byte[] clientDataJSON = ("{\"type\":\"webauthn.get\",\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\"," +
+            "\"origin\":\"https:\\/\\/example.com\",\"crossOrigin\":false}").getBytes(StandardCharsets.UTF_8);
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectConverter objectConverter = objectConverterType.equals("optimized") ? ObjectConverter.createOptimized() : new ObjectConverter();
+        metadataBLOBFactory = new MetadataBLOBFactory(objectConverter);
+        collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+        try (InputStream inputStream = OptimizedObjectConverterBenchmark.class.getResourceAsStream("/blob.jwt")) {
+            if (inputStream == null) {
+                throw new IllegalStateException("blob.jwt is not found");
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            metadataBLOB = new String(outputStream.toByteArray(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MetadataBLOB metadataBLOBFactory_parse() {
+        return metadataBLOBFactory.parse(metadataBLOB);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public CollectedClientData collectedClientDataConverter_convert() {
+        return collectedClientDataConverter.convert(clientDataJSON);
+    }
+
+}
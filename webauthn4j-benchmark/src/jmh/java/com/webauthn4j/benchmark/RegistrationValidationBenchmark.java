@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnRegistrationManager;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.attestation.statement.AttestationType;
+import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WebAuthnRegistrationManager#validate} per attestation statement format, split into the CBOR parse
+ * stage, the attestation statement verification stage and the whole registration validation.
+ * The certificate path validation stage is measured separately by {@link CertPathValidationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RegistrationValidationBenchmark {
+
+    @Param({"packed", "tpm", "android-key", "android-safetynet", "apple", "fido-u2f", "none"})
+    private String format;
+
+    private AttestationFormatFixture fixture;
+    private WebAuthnRegistrationManager webAuthnRegistrationManager;
+    private AttestationStatementValidator attestationStatementValidator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixture = AttestationFormatFixture.create(format);
+        attestationStatementValidator = fixture.getAttestationStatementValidator();
+        webAuthnRegistrationManager = new WebAuthnRegistrationManager(
+                Collections.singletonList(attestationStatementValidator),
+                fixture.getCertPathTrustworthinessValidator(),
+                new DefaultSelfAttestationTrustworthinessValidator()
+        );
+        // make sure generated data is valid before measurement
+        webAuthnRegistrationManager.validate(fixture.getRegistrationRequest(), fixture.getRegistrationParameters());
+    }
+
+    @Benchmark
+    public RegistrationData parse() {
+        return webAuthnRegistrationManager.parse(fixture.getRegistrationRequest());
+    }
+
+    @Benchmark
+    public AttestationType verifyAttestationStatement() {
+        return attestationStatementValidator.validate(fixture.getRegistrationObject());
+    }
+
+    @Benchmark
+    public RegistrationData parseAndValidate() {
+        return webAuthnRegistrationManager.validate(fixture.getRegistrationRequest(), fixture.getRegistrationParameters());
+    }
+}
@@ -24,19 +24,29 @@ import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.AuthenticationData;
 import com.webauthn4j.data.AuthenticationParameters;
 import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.AuthenticationValidationResult;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ExecutorUtil;
 import com.webauthn4j.validator.AuthenticationDataValidator;
 import com.webauthn4j.validator.CustomAuthenticationValidator;
 import com.webauthn4j.validator.exception.ValidationException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class WebAuthnAuthenticationManager {
 
@@ -48,6 +58,8 @@ public class WebAuthnAuthenticationManager {
     private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
 
     private final AuthenticationDataValidator authenticationDataValidator;
+    // null to use the shared validation pool, which is created on first use
+    private Executor validationExecutor;
 
     public WebAuthnAuthenticationManager(
             @NonNull List<CustomAuthenticationValidator> customAuthenticationValidators,
@@ -75,17 +87,61 @@ public class WebAuthnAuthenticationManager {
     public @NonNull AuthenticationData parse(@NonNull AuthenticationRequest authenticationRequest) throws DataConversionException {
         AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
 
-        byte[] credentialId = authenticationRequest.getCredentialId();
-        byte[] signature = authenticationRequest.getSignature();
-        byte[] userHandle = authenticationRequest.getUserHandle();
-        byte[] clientDataBytes = authenticationRequest.getClientDataJSON();
+        return parse(
+                authenticationRequest.getCredentialId(),
+                authenticationRequest.getUserHandle(),
+                authenticationRequest.getAuthenticatorData(),
+                authenticationRequest.getClientDataJSON(),
+                authenticationRequest.getClientExtensionsJSON(),
+                authenticationRequest.getSignature()
+        );
+    }
+
+    /**
+     * Parses an assertion from {@link ByteBuffer}s, which can be direct buffers of a network framework.
+     * Each buffer is copied once, from its position to its limit, without changing the position.
+     * Unlike {@link #parse(AuthenticationRequest)}, no intermediate {@link AuthenticationRequest} copies are made.
+     *
+     * @param credentialId         credentialId
+     * @param userHandle           userHandle
+     * @param authenticatorData    authenticatorData
+     * @param clientDataJSON       clientDataJSON
+     * @param clientExtensionsJSON clientExtensionsJSON
+     * @param signature            signature
+     * @return parsed data
+     * @throws DataConversionException if the data can't be parsed
+     */
+    @SuppressWarnings("squid:S1130")
+    public @NonNull AuthenticationData parse(
+            @Nullable ByteBuffer credentialId,
+            @Nullable ByteBuffer userHandle,
+            @Nullable ByteBuffer authenticatorData,
+            @Nullable ByteBuffer clientDataJSON,
+            @Nullable String clientExtensionsJSON,
+            @Nullable ByteBuffer signature) throws DataConversionException {
+        return parse(
+                ArrayUtil.toByteArray(credentialId),
+                ArrayUtil.toByteArray(userHandle),
+                ArrayUtil.toByteArray(authenticatorData),
+                ArrayUtil.toByteArray(clientDataJSON),
+                clientExtensionsJSON,
+                ArrayUtil.toByteArray(signature)
+        );
+    }
+
+    private @NonNull AuthenticationData parse(
+            @Nullable byte[] credentialId,
+            @Nullable byte[] userHandle,
+            @Nullable byte[] authenticatorDataBytes,
+            @Nullable byte[] clientDataBytes,
+            @Nullable String clientExtensionsJSON,
+            @Nullable byte[] signature) {
         CollectedClientData collectedClientData =
                 clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
-        byte[] authenticatorDataBytes = authenticationRequest.getAuthenticatorData();
         AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData =
                 authenticatorDataBytes == null ? null : authenticatorDataConverter.convert(authenticatorDataBytes);
         AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions =
-                authenticationRequest.getClientExtensionsJSON() == null ? null : authenticationExtensionsClientOutputsConverter.convert(authenticationRequest.getClientExtensionsJSON());
+                clientExtensionsJSON == null ? null : authenticationExtensionsClientOutputsConverter.convert(clientExtensionsJSON);
 
         return new AuthenticationData(
                 credentialId,
@@ -97,7 +153,6 @@ public class WebAuthnAuthenticationManager {
                 clientExtensions,
                 signature
         );
-
     }
 
     @SuppressWarnings("squid:S1130")
@@ -117,7 +172,158 @@ public class WebAuthnAuthenticationManager {
         return authenticationData;
     }
 
+    /**
+     * Parses the request on the caller thread, and validates it on the validation executor
+     *
+     * @param authenticationRequest request
+     * @param authenticationParameters parameters
+     * @return future completed with the validated data, or exceptionally with the {@link DataConversionException} or the {@link ValidationException}
+     */
+    public @NonNull CompletableFuture<AuthenticationData> validateAsync(@NonNull AuthenticationRequest authenticationRequest, @NonNull AuthenticationParameters authenticationParameters) {
+        AuthenticationData authenticationData;
+        try {
+            authenticationData = parse(authenticationRequest);
+        } catch (RuntimeException e) {
+            CompletableFuture<AuthenticationData> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return validateAsync(authenticationData, authenticationParameters);
+    }
+
+    /**
+     * Validates the parsed data on the validation executor
+     *
+     * @param authenticationData parsed data
+     * @param authenticationParameters parameters
+     * @return future completed with the validated data, or exceptionally with the {@link ValidationException}
+     */
+    public @NonNull CompletableFuture<AuthenticationData> validateAsync(@NonNull AuthenticationData authenticationData, @NonNull AuthenticationParameters authenticationParameters) {
+        return CompletableFuture.supplyAsync(() -> validate(authenticationData, authenticationParameters), getValidationExecutor());
+    }
+
+    /**
+     * Validates a batch of assertions with the pool returned by {@link ExecutorUtil#getValidationPool()}
+     *
+     * @param authenticationRequests       requests
+     * @param authenticationParametersList parameters, in the same order as the requests
+     * @return results, in the same order as the requests
+     * @see #validateAll(List, List, ForkJoinPool)
+     */
+    public @NonNull List<AuthenticationValidationResult> validateAll(
+            @NonNull List<AuthenticationRequest> authenticationRequests,
+            @NonNull List<AuthenticationParameters> authenticationParametersList) {
+        return validateAll(authenticationRequests, authenticationParametersList, ExecutorUtil.getValidationPool());
+    }
+
+    /**
+     * Validates a batch of assertions. Requests are parsed in one pass on the caller thread, and then the validation,
+     * which is dominated by the signature verification, is forked over the {@link ForkJoinPool}.
+     * A failure of an assertion doesn't affect the others, and is reported in its result.
+     * When assertions of the same credential are in a batch, the counter check behaves as if they were validated concurrently.
+     *
+     * @param authenticationRequests       requests
+     * @param authenticationParametersList parameters, in the same order as the requests
+     * @param forkJoinPool                 pool to run the validation
+     * @return results, in the same order as the requests
+     */
+    public @NonNull List<AuthenticationValidationResult> validateAll(
+            @NonNull List<AuthenticationRequest> authenticationRequests,
+            @NonNull List<AuthenticationParameters> authenticationParametersList,
+            @NonNull ForkJoinPool forkJoinPool) {
+        AssertUtil.notNull(authenticationRequests, "authenticationRequests must not be null");
+        AssertUtil.notNull(authenticationParametersList, "authenticationParametersList must not be null");
+        AssertUtil.notNull(forkJoinPool, "forkJoinPool must not be null");
+        AssertUtil.isTrue(authenticationRequests.size() == authenticationParametersList.size(), "authenticationRequests and authenticationParametersList must have the same size");
+
+        int size = authenticationRequests.size();
+        AuthenticationData[] authenticationDataArray = new AuthenticationData[size];
+        AuthenticationParameters[] authenticationParametersArray = authenticationParametersList.toArray(new AuthenticationParameters[0]);
+        RuntimeException[] exceptions = new RuntimeException[size];
+        for (int i = 0; i < size; i++) {
+            try {
+                authenticationDataArray[i] = parse(authenticationRequests.get(i));
+            } catch (RuntimeException e) {
+                exceptions[i] = e;
+            }
+        }
+        if (size > 0) {
+            forkJoinPool.invoke(new BatchValidationTask(this, authenticationDataArray, authenticationParametersArray, exceptions, 0, size));
+        }
+
+        List<AuthenticationValidationResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(new AuthenticationValidationResult(authenticationDataArray[i], exceptions[i]));
+        }
+        return results;
+    }
+
+    public @NonNull Executor getValidationExecutor() {
+        return validationExecutor != null ? validationExecutor : ExecutorUtil.getValidationPool();
+    }
+
+    /**
+     * Sets the executor running the signature and certificate validation of validateAsync.
+     * The default is the pool returned by {@link ExecutorUtil#getValidationPool()}, which is dedicated to the validation
+     * and shared by all managers. An executor set here should be bounded as well, as every pending validation holds
+     * its parsed request until it runs.
+     *
+     * @param validationExecutor executor
+     */
+    public void setValidationExecutor(@NonNull Executor validationExecutor) {
+        AssertUtil.notNull(validationExecutor, "validationExecutor must not be null");
+        this.validationExecutor = validationExecutor;
+    }
+
     public @NonNull AuthenticationDataValidator getAuthenticationDataValidator() {
         return authenticationDataValidator;
     }
+
+    /**
+     * Validates a range of a batch, splitting it in halves until a few assertions are left
+     */
+    private static final class BatchValidationTask extends RecursiveAction {
+
+        // an assertion takes tens of microseconds to validate, so a few of them outweigh the cost of forking a task
+        private static final int SEQUENTIAL_THRESHOLD = 4;
+
+        private final WebAuthnAuthenticationManager webAuthnAuthenticationManager;
+        private final AuthenticationData[] authenticationDataArray;
+        private final AuthenticationParameters[] authenticationParametersArray;
+        private final RuntimeException[] exceptions;
+        private final int from;
+        private final int to;
+
+        private BatchValidationTask(WebAuthnAuthenticationManager webAuthnAuthenticationManager, AuthenticationData[] authenticationDataArray,
+                                    AuthenticationParameters[] authenticationParametersArray, RuntimeException[] exceptions, int from, int to) {
+            this.webAuthnAuthenticationManager = webAuthnAuthenticationManager;
+            this.authenticationDataArray = authenticationDataArray;
+            this.authenticationParametersArray = authenticationParametersArray;
+            this.exceptions = exceptions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new BatchValidationTask(webAuthnAuthenticationManager, authenticationDataArray, authenticationParametersArray, exceptions, from, middle),
+                        new BatchValidationTask(webAuthnAuthenticationManager, authenticationDataArray, authenticationParametersArray, exceptions, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                // skip the assertion which could not be parsed
+                if (exceptions[i] != null) {
+                    continue;
+                }
+                try {
+                    webAuthnAuthenticationManager.validate(authenticationDataArray[i], authenticationParametersArray[i]);
+                } catch (RuntimeException e) {
+                    exceptions[i] = e;
+                }
+            }
+        }
+    }
 }
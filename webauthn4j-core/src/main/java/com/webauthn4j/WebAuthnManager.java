@@ -41,6 +41,9 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public class WebAuthnManager {
 
@@ -177,6 +180,45 @@ public class WebAuthnManager {
     }
 
 
+    public @NonNull CompletableFuture<RegistrationData> validateAsync(@NonNull RegistrationRequest registrationRequest, @NonNull RegistrationParameters registrationParameters) {
+        return this.webAuthnRegistrationManager.validateAsync(registrationRequest, registrationParameters);
+    }
+
+    public @NonNull CompletableFuture<RegistrationData> validateAsync(@NonNull RegistrationData registrationData, @NonNull RegistrationParameters registrationParameters) {
+        return this.webAuthnRegistrationManager.validateAsync(registrationData, registrationParameters);
+    }
+
+    public @NonNull CompletableFuture<AuthenticationData> validateAsync(@NonNull AuthenticationRequest authenticationRequest, @NonNull AuthenticationParameters authenticationParameters) {
+        return this.webAuthnAuthenticationManager.validateAsync(authenticationRequest, authenticationParameters);
+    }
+
+    public @NonNull CompletableFuture<AuthenticationData> validateAsync(@NonNull AuthenticationData authenticationData, @NonNull AuthenticationParameters authenticationParameters) {
+        return this.webAuthnAuthenticationManager.validateAsync(authenticationData, authenticationParameters);
+    }
+
+    public @NonNull List<AuthenticationValidationResult> validateAll(@NonNull List<AuthenticationRequest> authenticationRequests, @NonNull List<AuthenticationParameters> authenticationParametersList) {
+        return this.webAuthnAuthenticationManager.validateAll(authenticationRequests, authenticationParametersList);
+    }
+
+    public @NonNull List<AuthenticationValidationResult> validateAll(@NonNull List<AuthenticationRequest> authenticationRequests, @NonNull List<AuthenticationParameters> authenticationParametersList, @NonNull ForkJoinPool forkJoinPool) {
+        return this.webAuthnAuthenticationManager.validateAll(authenticationRequests, authenticationParametersList, forkJoinPool);
+    }
+
+    public @NonNull Executor getValidationExecutor() {
+        return this.webAuthnRegistrationManager.getValidationExecutor();
+    }
+
+    /**
+     * Sets the executor running the validation of validateAsync of the underlying managers, as
+     * {@link WebAuthnAuthenticationManager#setValidationExecutor(Executor)} does.
+     *
+     * @param validationExecutor executor
+     */
+    public void setValidationExecutor(@NonNull Executor validationExecutor) {
+        this.webAuthnRegistrationManager.setValidationExecutor(validationExecutor);
+        this.webAuthnAuthenticationManager.setValidationExecutor(validationExecutor);
+    }
+
     public @NonNull RegistrationDataValidator getRegistrationDataValidator() {
         return this.webAuthnRegistrationManager.getRegistrationDataValidator();
     }
@@ -30,7 +30,9 @@ import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ExecutorUtil;
 import com.webauthn4j.validator.CustomRegistrationValidator;
 import com.webauthn4j.validator.RegistrationDataValidator;
 import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
@@ -47,11 +49,15 @@ import com.webauthn4j.validator.attestation.trustworthiness.self.NullSelfAttesta
 import com.webauthn4j.validator.attestation.trustworthiness.self.SelfAttestationTrustworthinessValidator;
 import com.webauthn4j.validator.exception.ValidationException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class WebAuthnRegistrationManager {
 
@@ -64,6 +70,8 @@ public class WebAuthnRegistrationManager {
     private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
 
     private final RegistrationDataValidator registrationDataValidator;
+    // null to use the shared validation pool, which is created on first use
+    private Executor validationExecutor;
 
     public WebAuthnRegistrationManager(
             @NonNull List<AttestationStatementValidator> attestationStatementValidators,
@@ -169,27 +177,65 @@ public class WebAuthnRegistrationManager {
     public @NonNull RegistrationData parse(@NonNull RegistrationRequest registrationRequest) throws DataConversionException {
         AssertUtil.notNull(registrationRequest, "registrationRequest must not be null");
 
-        byte[] clientDataBytes = registrationRequest.getClientDataJSON();
-        byte[] attestationObjectBytes = registrationRequest.getAttestationObject();
+        return parse(
+                registrationRequest.getAttestationObject(),
+                registrationRequest.getClientDataJSON(),
+                registrationRequest.getClientExtensionsJSON(),
+                registrationRequest.getTransports()
+        );
+    }
+
+    /**
+     * Parses a registration from {@link ByteBuffer}s, which can be direct buffers of a network framework.
+     * Each buffer is copied once, from its position to its limit, without changing the position.
+     * Unlike {@link #parse(RegistrationRequest)}, no intermediate {@link RegistrationRequest} copies are made.
+     *
+     * @param attestationObject    attestationObject
+     * @param clientDataJSON       clientDataJSON
+     * @param clientExtensionsJSON clientExtensionsJSON
+     * @param transports           transports
+     * @return parsed data
+     * @throws DataConversionException if the data can't be parsed
+     */
+    @SuppressWarnings("squid:S1130")
+    public @NonNull RegistrationData parse(
+            @Nullable ByteBuffer attestationObject,
+            @Nullable ByteBuffer clientDataJSON,
+            @Nullable String clientExtensionsJSON,
+            @Nullable Set<String> transports) throws DataConversionException {
+        return parse(
+                ArrayUtil.toByteArray(attestationObject),
+                ArrayUtil.toByteArray(clientDataJSON),
+                clientExtensionsJSON,
+                transports
+        );
+    }
 
+    private @NonNull RegistrationData parse(
+            @Nullable byte[] attestationObjectBytes,
+            @Nullable byte[] clientDataBytes,
+            @Nullable String clientExtensionsJSON,
+            @Nullable Set<String> transportValues) {
         CollectedClientData collectedClientData =
                 clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
-        AttestationObject attestationObject =
-                attestationObjectBytes == null ? null : attestationObjectConverter.convert(attestationObjectBytes);
+        AttestationObjectConverter.ConvertedAttestationObject convertedAttestationObject =
+                attestationObjectBytes == null ? null : attestationObjectConverter.convertWithAuthenticatorDataBytes(attestationObjectBytes);
+        AttestationObject attestationObject = convertedAttestationObject == null ? null : convertedAttestationObject.getAttestationObject();
+        byte[] authenticatorDataBytes = convertedAttestationObject == null ? null : convertedAttestationObject.getAuthenticatorDataBytes();
         Set<AuthenticatorTransport> transports =
-                registrationRequest.getTransports() == null ? null : authenticatorTransportConverter.convertSet(registrationRequest.getTransports());
+                transportValues == null ? null : authenticatorTransportConverter.convertSet(transportValues);
         AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions =
-                registrationRequest.getClientExtensionsJSON() == null ? null : authenticationExtensionsClientOutputsConverter.convert(registrationRequest.getClientExtensionsJSON());
+                clientExtensionsJSON == null ? null : authenticationExtensionsClientOutputsConverter.convert(clientExtensionsJSON);
 
         return new RegistrationData(
                 attestationObject,
                 attestationObjectBytes,
+                authenticatorDataBytes,
                 collectedClientData,
                 clientDataBytes,
                 clientExtensions,
                 transports
         );
-
     }
 
     @SuppressWarnings("squid:S1130")
@@ -205,6 +251,51 @@ public class WebAuthnRegistrationManager {
         return registrationData;
     }
 
+    /**
+     * Parses the request on the caller thread, and validates it on the validation executor
+     *
+     * @param registrationRequest request
+     * @param registrationParameters parameters
+     * @return future completed with the validated data, or exceptionally with the {@link DataConversionException} or the {@link ValidationException}
+     */
+    public @NonNull CompletableFuture<RegistrationData> validateAsync(@NonNull RegistrationRequest registrationRequest, @NonNull RegistrationParameters registrationParameters) {
+        RegistrationData registrationData;
+        try {
+            registrationData = parse(registrationRequest);
+        } catch (RuntimeException e) {
+            CompletableFuture<RegistrationData> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return validateAsync(registrationData, registrationParameters);
+    }
+
+    /**
+     * Validates the parsed data on the validation executor
+     *
+     * @param registrationData parsed data
+     * @param registrationParameters parameters
+     * @return future completed with the validated data, or exceptionally with the {@link ValidationException}
+     */
+    public @NonNull CompletableFuture<RegistrationData> validateAsync(@NonNull RegistrationData registrationData, @NonNull RegistrationParameters registrationParameters) {
+        return CompletableFuture.supplyAsync(() -> validate(registrationData, registrationParameters), getValidationExecutor());
+    }
+
+    public @NonNull Executor getValidationExecutor() {
+        return validationExecutor != null ? validationExecutor : ExecutorUtil.getValidationPool();
+    }
+
+    /**
+     * Sets the executor running the validation of validateAsync, as
+     * {@link WebAuthnAuthenticationManager#setValidationExecutor(Executor)} does.
+     *
+     * @param validationExecutor executor
+     */
+    public void setValidationExecutor(@NonNull Executor validationExecutor) {
+        AssertUtil.notNull(validationExecutor, "validationExecutor must not be null");
+        this.validationExecutor = validationExecutor;
+    }
+
     public @NonNull RegistrationDataValidator getRegistrationDataValidator() {
         return registrationDataValidator;
     }
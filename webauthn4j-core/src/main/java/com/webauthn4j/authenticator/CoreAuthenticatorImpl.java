@@ -27,18 +27,20 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 /**
  * An {@link CoreAuthenticator} implementation
  */
-public class CoreAuthenticatorImpl implements CoreAuthenticator {
+public class CoreAuthenticatorImpl implements AtomicCounterAuthenticator {
 
     private static final String ATTESTED_CREDENTIAL_DATA_MUST_NOT_BE_NULL = "attestedCredentialData must not be null";
+    private static final AtomicLongFieldUpdater<CoreAuthenticatorImpl> COUNTER_UPDATER = AtomicLongFieldUpdater.newUpdater(CoreAuthenticatorImpl.class, "counter");
 
     //~ Instance fields ================================================================================================
     private AttestedCredentialData attestedCredentialData;
     private AttestationStatement attestationStatement;
-    private long counter;
+    private volatile long counter;
     private AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticatorExtensions;
 
     public CoreAuthenticatorImpl(@NonNull AttestedCredentialData attestedCredentialData,
@@ -93,13 +95,23 @@ public class CoreAuthenticatorImpl implements CoreAuthenticator {
 
     @Override
     public void setCounter(long value) {
+        assertCounterValue(value);
+        this.counter = value;
+    }
+
+    @Override
+    public boolean compareAndSetCounter(long expectedValue, long newValue) {
+        assertCounterValue(newValue);
+        return COUNTER_UPDATER.compareAndSet(this, expectedValue, newValue);
+    }
+
+    private static void assertCounterValue(long value) {
         if (value > ConstUtil.UINT_MAX_VALUE) {
             throw new IllegalArgumentException("[Assertion failed] - this argument is unsigned int. it must not exceed 4294967295.");
         }
         if (value < 0) {
             throw new IllegalArgumentException("[Assertion failed] - this argument is unsigned int. it must not be negative value.");
         }
-        this.counter = value;
     }
 
     @Override
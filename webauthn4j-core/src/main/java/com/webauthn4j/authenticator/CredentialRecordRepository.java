@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Stores registered credentials as {@link Authenticator}s keyed by credential ID, so that the {@link Authenticator}
+ * for {@link com.webauthn4j.data.AuthenticationParameters} can be looked up from the credential ID of an assertion.
+ */
+public interface CredentialRecordRepository {
+
+    /**
+     * Saves the credential. A credential already saved with the same credential ID is replaced.
+     *
+     * @param authenticator credential
+     */
+    void save(@NonNull Authenticator authenticator);
+
+    /**
+     * Returns the credential saved with the credential ID
+     *
+     * @param credentialId credential ID
+     * @return credential, or null if not found
+     */
+    @Nullable Authenticator find(@NonNull byte[] credentialId);
+
+    /**
+     * Updates the signature counter of the credential after a successful authentication
+     *
+     * @param credentialId credential ID
+     * @param counter      new counter value
+     * @return true if the credential is found and updated
+     */
+    boolean updateCounter(@NonNull byte[] credentialId, long counter);
+
+    /**
+     * Deletes the credential
+     *
+     * @param credentialId credential ID
+     * @return true if the credential was found and deleted
+     */
+    boolean delete(@NonNull byte[] credentialId);
+
+}
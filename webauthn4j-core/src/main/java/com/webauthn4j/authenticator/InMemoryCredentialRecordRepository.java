@@ -0,0 +1,312 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ConstUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * High-density in-memory {@link CredentialRecordRepository}.
+ * <p>
+ * Each credential is packed into a single byte array holding the signature counter, the transports, the AAGUID
+ * and the CBOR encoded credential public key, and the byte arrays are held in open-addressing hash tables keyed
+ * by the credential ID byte array itself. There is no wrapper object per entry, so the heap cost of a credential is
+ * little more than its credential ID and public key. The tables are split into lock-striped segments for concurrency.
+ * <p>
+ * Only the data needed to validate assertions is kept. The attestation statement and the extensions are not stored,
+ * so an {@link Authenticator} returned by {@link #find(byte[])} doesn't have them.
+ */
+public class InMemoryCredentialRecordRepository implements CredentialRecordRepository {
+
+    private static final int COUNTER_OFFSET = 0;
+    private static final int FLAGS_OFFSET = 4;
+    private static final int TRANSPORTS_OFFSET = 5;
+    private static final int FLAG_TRANSPORTS_PRESENT = 0x01;
+
+    private static final AuthenticatorTransport[] KNOWN_TRANSPORTS = {
+            AuthenticatorTransport.USB, AuthenticatorTransport.NFC, AuthenticatorTransport.BLE, AuthenticatorTransport.INTERNAL
+    };
+
+    private final CborConverter cborConverter;
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    public InMemoryCredentialRecordRepository(@NonNull ObjectConverter objectConverter, int segmentCount) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        AssertUtil.isTrue(segmentCount > 0 && segmentCount <= (1 << 16), "segmentCount must be between 1 and 65536");
+        this.cborConverter = objectConverter.getCborConverter();
+        int size = Integer.highestOneBit(segmentCount * 2 - 1);
+        this.segments = new Segment[size];
+        for (int i = 0; i < size; i++) {
+            segments[i] = new Segment();
+        }
+        // a segment is selected by the upper bits of the hash, and a slot in the segment by the lower bits
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(size);
+    }
+
+    public InMemoryCredentialRecordRepository(@NonNull ObjectConverter objectConverter) {
+        this(objectConverter, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    @Override
+    public void save(@NonNull Authenticator authenticator) {
+        AssertUtil.notNull(authenticator, "authenticator must not be null");
+        byte[] credentialId = authenticator.getAttestedCredentialData().getCredentialId();
+        byte[] record = encode(authenticator);
+        int hash = hash(credentialId);
+        selectSegment(hash).put(credentialId, hash, record);
+    }
+
+    @Override
+    public @Nullable Authenticator find(@NonNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        int hash = hash(credentialId);
+        byte[] record = selectSegment(hash).get(credentialId, hash);
+        return record == null ? null : decode(credentialId.clone(), record);
+    }
+
+    @Override
+    public boolean updateCounter(@NonNull byte[] credentialId, long counter) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        AssertUtil.isTrue(counter >= 0 && counter <= ConstUtil.UINT_MAX_VALUE, "counter must be within unsigned int range");
+        int hash = hash(credentialId);
+        return selectSegment(hash).updateCounter(credentialId, hash, counter);
+    }
+
+    @Override
+    public boolean delete(@NonNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        int hash = hash(credentialId);
+        return selectSegment(hash).remove(credentialId, hash);
+    }
+
+    /**
+     * Returns the number of stored credentials
+     *
+     * @return the number of stored credentials
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private @NonNull Segment selectSegment(int hash) {
+        return segmentShift == 32 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    static int hash(@NonNull byte[] credentialId) {
+        // murmur3 finalizer, as the lower bits are used as the slot index
+        int hash = Arrays.hashCode(credentialId);
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    @NonNull byte[] encode(@NonNull Authenticator authenticator) {
+        AttestedCredentialData attestedCredentialData = authenticator.getAttestedCredentialData();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(128);
+        long counter = authenticator.getCounter();
+        outputStream.write((int) (counter >>> 24));
+        outputStream.write((int) (counter >>> 16));
+        outputStream.write((int) (counter >>> 8));
+        outputStream.write((int) counter);
+        Set<AuthenticatorTransport> transports = authenticator.getTransports();
+        outputStream.write(transports == null ? 0 : FLAG_TRANSPORTS_PRESENT);
+        if (transports == null) {
+            outputStream.write(0);
+        } else {
+            AssertUtil.isTrue(transports.size() <= 0xFF, "too many transports");
+            outputStream.write(transports.size());
+            for (AuthenticatorTransport transport : transports) {
+                int code = Arrays.asList(KNOWN_TRANSPORTS).indexOf(transport) + 1;
+                outputStream.write(code);
+                if (code == 0) {
+                    byte[] value = transport.getValue().getBytes(StandardCharsets.UTF_8);
+                    AssertUtil.isTrue(value.length <= 0xFF, "transport value is too long");
+                    outputStream.write(value.length);
+                    outputStream.write(value, 0, value.length);
+                }
+            }
+        }
+        byte[] aaguid = attestedCredentialData.getAaguid().getBytes();
+        outputStream.write(aaguid, 0, aaguid.length);
+        byte[] coseKey = cborConverter.writeValueAsBytes(attestedCredentialData.getCOSEKey());
+        outputStream.write(coseKey, 0, coseKey.length);
+        return outputStream.toByteArray();
+    }
+
+    @NonNull Authenticator decode(@NonNull byte[] credentialId, @NonNull byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        long counter = buffer.getInt(COUNTER_OFFSET) & 0xFFFFFFFFL;
+        boolean transportsPresent = (record[FLAGS_OFFSET] & FLAG_TRANSPORTS_PRESENT) != 0;
+        //This cast is necessary to be complied with JDK 17 when targeting JDK 8
+        ((Buffer) buffer).position(TRANSPORTS_OFFSET);
+        int transportCount = buffer.get() & 0xFF;
+        Set<AuthenticatorTransport> transports = transportsPresent ? new HashSet<>(transportCount) : null;
+        for (int i = 0; i < transportCount; i++) {
+            int code = buffer.get() & 0xFF;
+            AuthenticatorTransport transport;
+            if (code == 0) {
+                byte[] value = new byte[buffer.get() & 0xFF];
+                buffer.get(value);
+                transport = AuthenticatorTransport.create(new String(value, StandardCharsets.UTF_8));
+            } else {
+                transport = KNOWN_TRANSPORTS[code - 1];
+            }
+            //noinspection ConstantConditions as transports is not null when transportCount is positive
+            transports.add(transport);
+        }
+        byte[] aaguid = new byte[16];
+        buffer.get(aaguid);
+        byte[] coseKeyBytes = new byte[buffer.remaining()];
+        buffer.get(coseKeyBytes);
+        COSEKey coseKey = cborConverter.readValue(coseKeyBytes, COSEKey.class);
+        //noinspection ConstantConditions as the record is written by encode
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(new AAGUID(aaguid), credentialId, coseKey);
+        return new AuthenticatorImpl(attestedCredentialData, null, counter, transports, null, null);
+    }
+
+    /**
+     * Open-addressing hash table with linear probing. Keys and records are held in two parallel arrays.
+     */
+    private static class Segment {
+
+        private static final byte[] TOMBSTONE = new byte[0];
+        private static final int INITIAL_CAPACITY = 16;
+
+        private byte[][] keys = new byte[INITIAL_CAPACITY][];
+        private byte[][] records = new byte[INITIAL_CAPACITY][];
+        private int size;
+        private int tombstones;
+
+        private synchronized @Nullable byte[] get(@NonNull byte[] key, int hash) {
+            int index = indexOf(key, hash);
+            // the record is copied under the lock, as updateCounter writes the counter into it in place
+            return index < 0 ? null : records[index].clone();
+        }
+
+        private synchronized void put(@NonNull byte[] key, int hash, @NonNull byte[] record) {
+            int index = indexOf(key, hash);
+            if (index >= 0) {
+                records[index] = record;
+                return;
+            }
+            // keep the load factor including tombstones at or below 0.75
+            if ((size + tombstones + 1) * 4L > keys.length * 3L) {
+                rehash(size * 2L >= keys.length ? keys.length * 2 : keys.length);
+            }
+            int mask = keys.length - 1;
+            int i = hash & mask;
+            while (keys[i] != null && keys[i] != TOMBSTONE) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == TOMBSTONE) {
+                tombstones--;
+            }
+            keys[i] = key;
+            records[i] = record;
+            size++;
+        }
+
+        private synchronized boolean updateCounter(@NonNull byte[] key, int hash, long counter) {
+            int index = indexOf(key, hash);
+            if (index < 0) {
+                return false;
+            }
+            byte[] record = records[index];
+            record[COUNTER_OFFSET] = (byte) (counter >>> 24);
+            record[COUNTER_OFFSET + 1] = (byte) (counter >>> 16);
+            record[COUNTER_OFFSET + 2] = (byte) (counter >>> 8);
+            record[COUNTER_OFFSET + 3] = (byte) counter;
+            return true;
+        }
+
+        private synchronized boolean remove(@NonNull byte[] key, int hash) {
+            int index = indexOf(key, hash);
+            if (index < 0) {
+                return false;
+            }
+            keys[index] = TOMBSTONE;
+            records[index] = null;
+            size--;
+            tombstones++;
+            return true;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private int indexOf(@NonNull byte[] key, int hash) {
+            int mask = keys.length - 1;
+            int i = hash & mask;
+            while (true) {
+                byte[] candidate = keys[i];
+                if (candidate == null) {
+                    return -1;
+                }
+                if (candidate != TOMBSTONE && Arrays.equals(candidate, key)) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private void rehash(int capacity) {
+            byte[][] oldKeys = keys;
+            byte[][] oldRecords = records;
+            keys = new byte[capacity][];
+            records = new byte[capacity][];
+            tombstones = 0;
+            int mask = capacity - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                byte[] key = oldKeys[j];
+                if (key == null || key == TOMBSTONE) {
+                    continue;
+                }
+                int i = hash(key) & mask;
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                records[i] = oldRecords[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,707 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ConstUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@link CredentialRecordRepository} backed by memory-mapped files, which keeps credentials off the Java heap.
+ * <p>
+ * Credentials are stored as fixed-size records in {@code records.dat}, and an open-addressing hash index over the
+ * credential IDs is stored in {@code index.dat}. Both files are mapped with {@link FileChannel#map}, so a lookup reads
+ * the mapped pages directly, and reopening an existing directory needs no loading or rebuilding.
+ * The counter of a record is updated in place, also through {@link Authenticator#setCounter(long)} of an
+ * {@link Authenticator} returned by {@link #find(byte[])}, whose {@link AtomicCounterAuthenticator#compareAndSetCounter}
+ * compares against the mapped record, and therefore is atomic across instances returned by {@link #find(byte[])}.
+ * <p>
+ * The capacity and the maximum sizes of a credential ID and a CBOR encoded credential public key are fixed when the
+ * files are created. Records of deleted credentials are linked into a free list, whose head is persisted in the header,
+ * and reused by later saves. Tombstones left in the index are reclaimed by deletes and saves. Only the transports
+ * defined as constants of {@link AuthenticatorTransport} are stored, and the attestation statement and the extensions
+ * are not stored.
+ * Changes are written back to the files by the operating system, or explicitly by {@link #flush()}.
+ */
+public class MappedCredentialRecordRepository implements CredentialRecordRepository, Closeable {
+
+    private static final String INDEX_FILE_NAME = "index.dat";
+    private static final String RECORDS_FILE_NAME = "records.dat";
+
+    private static final int MAGIC = 0x5741344A; // "WA4J"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4096;
+    private static final int HEADER_MAGIC_OFFSET = 0;
+    private static final int HEADER_VERSION_OFFSET = 4;
+    private static final int HEADER_MAX_CREDENTIALS_OFFSET = 8;
+    private static final int HEADER_CREDENTIAL_ID_CAPACITY_OFFSET = 12;
+    private static final int HEADER_COSE_KEY_CAPACITY_OFFSET = 16;
+    private static final int HEADER_RECORD_COUNT_OFFSET = 20;
+    private static final int HEADER_SIZE_OFFSET = 24;
+    private static final int HEADER_FREE_RECORD_OFFSET = 28;
+    private static final int HEADER_TOMBSTONE_COUNT_OFFSET = 32;
+
+    private static final int SLOT_SIZE = 8;
+    private static final int SLOT_EMPTY = 0;
+    private static final int SLOT_DELETED = -1;
+
+    private static final int RECORD_STATE_OFFSET = 0;
+    private static final int RECORD_FLAGS_OFFSET = 1;
+    private static final int RECORD_TRANSPORTS_OFFSET = 2;
+    private static final int RECORD_COUNTER_OFFSET = 4;
+    // a deleted record links the next free record in place of the counter
+    private static final int RECORD_NEXT_FREE_OFFSET = RECORD_COUNTER_OFFSET;
+    private static final int RECORD_AAGUID_OFFSET = 8;
+    private static final int RECORD_CREDENTIAL_ID_LENGTH_OFFSET = 24;
+    private static final int RECORD_COSE_KEY_LENGTH_OFFSET = 26;
+    private static final int RECORD_DATA_OFFSET = 28;
+    private static final byte RECORD_STATE_LIVE = 1;
+    private static final byte RECORD_STATE_DELETED = 2;
+    private static final int FLAG_TRANSPORTS_PRESENT = 0x01;
+
+    private static final int DEFAULT_CREDENTIAL_ID_CAPACITY = 128;
+    private static final int DEFAULT_COSE_KEY_CAPACITY = 352;
+
+    private static final AuthenticatorTransport[] KNOWN_TRANSPORTS = {
+            AuthenticatorTransport.USB, AuthenticatorTransport.NFC, AuthenticatorTransport.BLE, AuthenticatorTransport.INTERNAL
+    };
+
+    private final CborConverter cborConverter;
+    private final FileChannel indexChannel;
+    private final FileChannel recordsChannel;
+    private final MappedByteBuffer header;
+    private final MappedRegion slots;
+    private final MappedRegion records;
+    private final int maxCredentials;
+    private final int credentialIdCapacity;
+    private final int coseKeyCapacity;
+    private final int recordSize;
+    private final int slotMask;
+    private final StampedLock lock = new StampedLock();
+    private final Object[] counterLocks = new Object[64];
+
+    /**
+     * Opens the repository in the directory, creating the files if they don't exist.
+     *
+     * @param objectConverter      object converter
+     * @param directory            directory to store the files
+     * @param maxCredentials       maximum number of credentials
+     * @param credentialIdCapacity maximum length of a credential ID
+     * @param coseKeyCapacity      maximum length of a CBOR encoded credential public key
+     */
+    public MappedCredentialRecordRepository(@NonNull ObjectConverter objectConverter, @NonNull Path directory, int maxCredentials, int credentialIdCapacity, int coseKeyCapacity) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        AssertUtil.notNull(directory, "directory must not be null");
+        AssertUtil.isTrue(maxCredentials > 0 && maxCredentials <= (1 << 29), "maxCredentials must be between 1 and 536870912");
+        AssertUtil.isTrue(credentialIdCapacity > 0 && credentialIdCapacity <= 1023, "credentialIdCapacity must be between 1 and 1023");
+        AssertUtil.isTrue(coseKeyCapacity > 0 && coseKeyCapacity <= 0xFFFF, "coseKeyCapacity must be between 1 and 65535");
+        this.cborConverter = objectConverter.getCborConverter();
+        for (int i = 0; i < counterLocks.length; i++) {
+            counterLocks[i] = new Object();
+        }
+        FileChannel openedIndexChannel = null;
+        FileChannel openedRecordsChannel = null;
+        try {
+            Files.createDirectories(directory);
+            Path indexFile = directory.resolve(INDEX_FILE_NAME);
+            boolean exists = Files.exists(indexFile);
+            openedIndexChannel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            openedRecordsChannel = FileChannel.open(directory.resolve(RECORDS_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            indexChannel = openedIndexChannel;
+            recordsChannel = openedRecordsChannel;
+            header = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (exists) {
+                if (header.getInt(HEADER_MAGIC_OFFSET) != MAGIC || header.getInt(HEADER_VERSION_OFFSET) != VERSION) {
+                    throw new IllegalArgumentException(indexFile + " is not a credential record index");
+                }
+                if (header.getInt(HEADER_MAX_CREDENTIALS_OFFSET) != maxCredentials ||
+                        header.getInt(HEADER_CREDENTIAL_ID_CAPACITY_OFFSET) != credentialIdCapacity ||
+                        header.getInt(HEADER_COSE_KEY_CAPACITY_OFFSET) != coseKeyCapacity) {
+                    throw new IllegalArgumentException("Parameters don't match the ones " + indexFile + " was created with");
+                }
+            } else {
+                header.putInt(HEADER_MAX_CREDENTIALS_OFFSET, maxCredentials);
+                header.putInt(HEADER_CREDENTIAL_ID_CAPACITY_OFFSET, credentialIdCapacity);
+                header.putInt(HEADER_COSE_KEY_CAPACITY_OFFSET, coseKeyCapacity);
+                header.putInt(HEADER_RECORD_COUNT_OFFSET, 0);
+                header.putInt(HEADER_SIZE_OFFSET, 0);
+                header.putInt(HEADER_FREE_RECORD_OFFSET, 0);
+                header.putInt(HEADER_TOMBSTONE_COUNT_OFFSET, 0);
+                header.putInt(HEADER_VERSION_OFFSET, VERSION);
+                header.putInt(HEADER_MAGIC_OFFSET, MAGIC);
+            }
+            this.maxCredentials = maxCredentials;
+            this.credentialIdCapacity = credentialIdCapacity;
+            this.coseKeyCapacity = coseKeyCapacity;
+            // records are power of two sized, so that no record crosses the boundary of a mapped chunk
+            this.recordSize = Integer.highestOneBit((RECORD_DATA_OFFSET + credentialIdCapacity + coseKeyCapacity) * 2 - 1);
+            // the index is kept at most half full
+            int slotCount = Integer.highestOneBit(maxCredentials * 4 - 1);
+            this.slotMask = slotCount - 1;
+            this.slots = new MappedRegion(indexChannel, HEADER_SIZE, (long) slotCount * SLOT_SIZE);
+            this.records = new MappedRegion(recordsChannel, 0, (long) maxCredentials * recordSize);
+        } catch (IOException e) {
+            closeOnFailure(e, openedIndexChannel, openedRecordsChannel);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeOnFailure(e, openedIndexChannel, openedRecordsChannel);
+            throw e;
+        }
+    }
+
+    private static void closeOnFailure(@NonNull Throwable cause, @Nullable Closeable... closeables) {
+        for (Closeable closeable : closeables) {
+            if (closeable == null) {
+                continue;
+            }
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Opens the repository in the directory with default record layout, creating the files if they don't exist.
+     *
+     * @param objectConverter object converter
+     * @param directory       directory to store the files
+     * @param maxCredentials  maximum number of credentials
+     */
+    public MappedCredentialRecordRepository(@NonNull ObjectConverter objectConverter, @NonNull Path directory, int maxCredentials) {
+        this(objectConverter, directory, maxCredentials, DEFAULT_CREDENTIAL_ID_CAPACITY, DEFAULT_COSE_KEY_CAPACITY);
+    }
+
+    @Override
+    public void save(@NonNull Authenticator authenticator) {
+        AssertUtil.notNull(authenticator, "authenticator must not be null");
+        AttestedCredentialData attestedCredentialData = authenticator.getAttestedCredentialData();
+        byte[] credentialId = attestedCredentialData.getCredentialId();
+        byte[] coseKey = cborConverter.writeValueAsBytes(attestedCredentialData.getCOSEKey());
+        AssertUtil.isTrue(credentialId.length <= credentialIdCapacity, "credentialId must not be longer than " + credentialIdCapacity);
+        AssertUtil.isTrue(coseKey.length <= coseKeyCapacity, "COSE key must not be longer than " + coseKeyCapacity);
+        int hash = InMemoryCredentialRecordRepository.hash(credentialId);
+
+        long stamp = lock.writeLock();
+        try {
+            int slot = findSlot(credentialId, hash);
+            int recordNumber;
+            if (slot >= 0) {
+                recordNumber = slots.getInt(slotPosition(slot) + 4) - 1;
+            } else {
+                // tombstones make probe sequences long, so the index is rebuilt once they take a quarter of the slots
+                if (header.getInt(HEADER_TOMBSTONE_COUNT_OFFSET) > (slotMask + 1) / 4) {
+                    rebuildIndex();
+                }
+                recordNumber = allocateRecord();
+            }
+            writeRecord(recordNumber, credentialId, coseKey, attestedCredentialData.getAaguid(), authenticator.getCounter(), authenticator.getTransports());
+            if (slot < 0) {
+                // the slot is published after the record is written. The first tombstone in the probe sequence is reused
+                int emptySlot = findEmptySlot(hash);
+                long position = slotPosition(emptySlot);
+                if (slots.getInt(position + 4) == SLOT_DELETED) {
+                    header.putInt(HEADER_TOMBSTONE_COUNT_OFFSET, header.getInt(HEADER_TOMBSTONE_COUNT_OFFSET) - 1);
+                }
+                slots.putInt(position, hash);
+                slots.putInt(position + 4, recordNumber + 1);
+                header.putInt(HEADER_SIZE_OFFSET, header.getInt(HEADER_SIZE_OFFSET) + 1);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public @Nullable Authenticator find(@NonNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        int hash = InMemoryCredentialRecordRepository.hash(credentialId);
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                int recordNumber = findRecordNumber(credentialId, hash);
+                RecordData recordData = recordNumber < 0 ? null : readRecord(recordNumber);
+                if (lock.validate(stamp)) {
+                    return recordData == null ? null : decode(credentialId.clone(), recordNumber, recordData);
+                }
+            } catch (RuntimeException e) {
+                // a concurrent write can make an optimistic read see an inconsistent record; retried with the read lock
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            int recordNumber = findRecordNumber(credentialId, hash);
+            RecordData recordData = recordNumber < 0 ? null : readRecord(recordNumber);
+            return recordData == null ? null : decode(credentialId.clone(), recordNumber, recordData);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean updateCounter(@NonNull byte[] credentialId, long counter) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        AssertUtil.isTrue(counter >= 0 && counter <= ConstUtil.UINT_MAX_VALUE, "counter must be within unsigned int range");
+        int hash = InMemoryCredentialRecordRepository.hash(credentialId);
+        long stamp = lock.readLock();
+        try {
+            int recordNumber = findRecordNumber(credentialId, hash);
+            if (recordNumber < 0) {
+                return false;
+            }
+            writeCounter(recordNumber, counter);
+            return true;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean delete(@NonNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        int hash = InMemoryCredentialRecordRepository.hash(credentialId);
+        long stamp = lock.writeLock();
+        try {
+            int slot = findSlot(credentialId, hash);
+            if (slot < 0) {
+                return false;
+            }
+            long position = slotPosition(slot);
+            int recordNumber = slots.getInt(position + 4) - 1;
+            slots.putInt(position + 4, SLOT_DELETED);
+            header.putInt(HEADER_TOMBSTONE_COUNT_OFFSET, header.getInt(HEADER_TOMBSTONE_COUNT_OFFSET) + 1);
+            reclaimTombstones(slot);
+            freeRecord(recordNumber);
+            header.putInt(HEADER_SIZE_OFFSET, header.getInt(HEADER_SIZE_OFFSET) - 1);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the signature counter of the credential, reading it from the mapped record without decoding the credential
+     *
+     * @param credentialId credential ID
+     * @return the signature counter, or -1 if not found
+     */
+    public long getCounter(@NonNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        int hash = InMemoryCredentialRecordRepository.hash(credentialId);
+        long stamp = lock.readLock();
+        try {
+            int recordNumber = findRecordNumber(credentialId, hash);
+            return recordNumber < 0 ? -1 : records.getInt((long) recordNumber * recordSize + RECORD_COUNTER_OFFSET) & 0xFFFFFFFFL;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of stored credentials
+     *
+     * @return the number of stored credentials
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return header.getInt(HEADER_SIZE_OFFSET);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Writes changes back to the files
+     */
+    public void flush() {
+        long stamp = lock.writeLock();
+        try {
+            header.force();
+            slots.force();
+            records.force();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        try {
+            indexChannel.close();
+        } finally {
+            recordsChannel.close();
+        }
+    }
+
+    private long slotPosition(int slot) {
+        return (long) slot * SLOT_SIZE;
+    }
+
+    private int findSlot(@NonNull byte[] credentialId, int hash) {
+        for (int i = 0, slot = hash & slotMask; i <= slotMask; i++, slot = (slot + 1) & slotMask) {
+            long position = slotPosition(slot);
+            int reference = slots.getInt(position + 4);
+            if (reference == SLOT_EMPTY) {
+                return -1;
+            }
+            if (reference != SLOT_DELETED && slots.getInt(position) == hash && matches(reference - 1, credentialId)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int findEmptySlot(int hash) {
+        for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            int reference = slots.getInt(slotPosition(slot) + 4);
+            if (reference == SLOT_EMPTY || reference == SLOT_DELETED) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Turns the tombstone at the slot into an empty slot if the next slot is empty, together with the tombstones
+     * right before it, as no probe sequence goes through them to reach a live slot.
+     */
+    private void reclaimTombstones(int slot) {
+        if (slots.getInt(slotPosition((slot + 1) & slotMask) + 4) != SLOT_EMPTY) {
+            return;
+        }
+        int reclaimed = 0;
+        for (int current = slot; slots.getInt(slotPosition(current) + 4) == SLOT_DELETED; current = (current - 1) & slotMask) {
+            long position = slotPosition(current);
+            slots.putInt(position, 0);
+            slots.putInt(position + 4, SLOT_EMPTY);
+            reclaimed++;
+        }
+        header.putInt(HEADER_TOMBSTONE_COUNT_OFFSET, header.getInt(HEADER_TOMBSTONE_COUNT_OFFSET) - reclaimed);
+    }
+
+    /**
+     * Clears the index and inserts the live records again, which drops all tombstones
+     */
+    private void rebuildIndex() {
+        for (int slot = 0; slot <= slotMask; slot++) {
+            long position = slotPosition(slot);
+            slots.putInt(position, 0);
+            slots.putInt(position + 4, SLOT_EMPTY);
+        }
+        int recordCount = header.getInt(HEADER_RECORD_COUNT_OFFSET);
+        for (int recordNumber = 0; recordNumber < recordCount; recordNumber++) {
+            if (!isLive(recordNumber)) {
+                continue;
+            }
+            long position = (long) recordNumber * recordSize;
+            byte[] credentialId = new byte[records.getShort(position + RECORD_CREDENTIAL_ID_LENGTH_OFFSET)];
+            records.get(position + RECORD_DATA_OFFSET, credentialId);
+            int hash = InMemoryCredentialRecordRepository.hash(credentialId);
+            long slotPosition = slotPosition(findEmptySlot(hash));
+            slots.putInt(slotPosition, hash);
+            slots.putInt(slotPosition + 4, recordNumber + 1);
+        }
+        header.putInt(HEADER_TOMBSTONE_COUNT_OFFSET, 0);
+    }
+
+    /**
+     * Takes a record from the free list, or a record never used before if the free list is empty
+     */
+    private int allocateRecord() {
+        int freeRecord = header.getInt(HEADER_FREE_RECORD_OFFSET);
+        if (freeRecord != 0) {
+            int recordNumber = freeRecord - 1;
+            header.putInt(HEADER_FREE_RECORD_OFFSET, records.getInt((long) recordNumber * recordSize + RECORD_NEXT_FREE_OFFSET));
+            return recordNumber;
+        }
+        int recordCount = header.getInt(HEADER_RECORD_COUNT_OFFSET);
+        if (recordCount >= maxCredentials) {
+            throw new IllegalStateException("The repository is full");
+        }
+        header.putInt(HEADER_RECORD_COUNT_OFFSET, recordCount + 1);
+        return recordCount;
+    }
+
+    private void freeRecord(int recordNumber) {
+        long position = (long) recordNumber * recordSize;
+        records.put(position + RECORD_STATE_OFFSET, RECORD_STATE_DELETED);
+        records.putInt(position + RECORD_NEXT_FREE_OFFSET, header.getInt(HEADER_FREE_RECORD_OFFSET));
+        header.putInt(HEADER_FREE_RECORD_OFFSET, recordNumber + 1);
+    }
+
+    private int findRecordNumber(@NonNull byte[] credentialId, int hash) {
+        int slot = findSlot(credentialId, hash);
+        return slot < 0 ? -1 : slots.getInt(slotPosition(slot) + 4) - 1;
+    }
+
+    private boolean matches(int recordNumber, @NonNull byte[] credentialId) {
+        if (recordNumber < 0 || recordNumber >= maxCredentials) {
+            return false;
+        }
+        long position = (long) recordNumber * recordSize;
+        if (records.getShort(position + RECORD_CREDENTIAL_ID_LENGTH_OFFSET) != credentialId.length) {
+            return false;
+        }
+        long dataPosition = position + RECORD_DATA_OFFSET;
+        for (int i = 0; i < credentialId.length; i++) {
+            if (records.get(dataPosition + i) != credentialId[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isLive(int recordNumber) {
+        return records.get((long) recordNumber * recordSize + RECORD_STATE_OFFSET) == RECORD_STATE_LIVE;
+    }
+
+    private void writeRecord(int recordNumber, @NonNull byte[] credentialId, @NonNull byte[] coseKey, @NonNull AAGUID aaguid, long counter, @Nullable Set<AuthenticatorTransport> transports) {
+        long position = (long) recordNumber * recordSize;
+        int transportBits = 0;
+        if (transports != null) {
+            for (int i = 0; i < KNOWN_TRANSPORTS.length; i++) {
+                if (transports.contains(KNOWN_TRANSPORTS[i])) {
+                    transportBits |= 1 << i;
+                }
+            }
+        }
+        records.put(position + RECORD_FLAGS_OFFSET, (byte) (transports == null ? 0 : FLAG_TRANSPORTS_PRESENT));
+        records.put(position + RECORD_TRANSPORTS_OFFSET, (byte) transportBits);
+        records.putInt(position + RECORD_COUNTER_OFFSET, (int) counter);
+        records.put(position + RECORD_AAGUID_OFFSET, aaguid.getBytes());
+        records.putShort(position + RECORD_CREDENTIAL_ID_LENGTH_OFFSET, (short) credentialId.length);
+        records.putShort(position + RECORD_COSE_KEY_LENGTH_OFFSET, (short) coseKey.length);
+        records.put(position + RECORD_DATA_OFFSET, credentialId);
+        records.put(position + RECORD_DATA_OFFSET + credentialIdCapacity, coseKey);
+        records.put(position + RECORD_STATE_OFFSET, RECORD_STATE_LIVE);
+    }
+
+    private @NonNull RecordData readRecord(int recordNumber) {
+        long position = (long) recordNumber * recordSize;
+        byte flags = records.get(position + RECORD_FLAGS_OFFSET);
+        byte transportBits = records.get(position + RECORD_TRANSPORTS_OFFSET);
+        long counter = records.getInt(position + RECORD_COUNTER_OFFSET) & 0xFFFFFFFFL;
+        byte[] aaguid = new byte[16];
+        records.get(position + RECORD_AAGUID_OFFSET, aaguid);
+        byte[] coseKey = new byte[records.getShort(position + RECORD_COSE_KEY_LENGTH_OFFSET) & 0xFFFF];
+        records.get(position + RECORD_DATA_OFFSET + credentialIdCapacity, coseKey);
+        return new RecordData(flags, transportBits, counter, aaguid, coseKey);
+    }
+
+    private void writeCounter(int recordNumber, long counter) {
+        // the counter is a 4 bytes aligned int, so that a concurrent reader sees either the old or the new value
+        synchronized (counterLocks[recordNumber & (counterLocks.length - 1)]) {
+            records.putInt((long) recordNumber * recordSize + RECORD_COUNTER_OFFSET, (int) counter);
+        }
+    }
+
+    private long compareAndSetCounter(int recordNumber, long expectedValue, long newValue) {
+        long position = (long) recordNumber * recordSize + RECORD_COUNTER_OFFSET;
+        synchronized (counterLocks[recordNumber & (counterLocks.length - 1)]) {
+            long currentValue = records.getInt(position) & 0xFFFFFFFFL;
+            if (currentValue == expectedValue) {
+                records.putInt(position, (int) newValue);
+            }
+            return currentValue;
+        }
+    }
+
+    private @NonNull Authenticator decode(@NonNull byte[] credentialId, int recordNumber, @NonNull RecordData recordData) {
+        Set<AuthenticatorTransport> transports = null;
+        if ((recordData.flags & FLAG_TRANSPORTS_PRESENT) != 0) {
+            transports = new HashSet<>();
+            for (int i = 0; i < KNOWN_TRANSPORTS.length; i++) {
+                if ((recordData.transportBits & (1 << i)) != 0) {
+                    transports.add(KNOWN_TRANSPORTS[i]);
+                }
+            }
+        }
+        COSEKey coseKey = cborConverter.readValue(recordData.coseKey, COSEKey.class);
+        //noinspection ConstantConditions as the record is written by save
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(new AAGUID(recordData.aaguid), credentialId, coseKey);
+        return new MappedAuthenticator(attestedCredentialData, recordData.counter, transports, this, recordNumber);
+    }
+
+    /**
+     * {@link Authenticator} returned by {@link #find(byte[])}, which writes the counter through to the mapped record
+     */
+    private static class MappedAuthenticator extends AuthenticatorImpl {
+
+        private final transient MappedCredentialRecordRepository repository;
+        private final int recordNumber;
+
+        private MappedAuthenticator(@NonNull AttestedCredentialData attestedCredentialData, long counter, @Nullable Set<AuthenticatorTransport> transports,
+                                    @NonNull MappedCredentialRecordRepository repository, int recordNumber) {
+            super(attestedCredentialData, null, counter, transports, null, null);
+            this.repository = repository;
+            this.recordNumber = recordNumber;
+        }
+
+        @Override
+        public void setCounter(long value) {
+            super.setCounter(value);
+            // repository is null while the super class constructor sets the initial counter, and after deserialization
+            if (repository != null) {
+                long stamp = repository.lock.readLock();
+                try {
+                    if (repository.isLive(recordNumber) && repository.matches(recordNumber, getAttestedCredentialData().getCredentialId())) {
+                        repository.writeCounter(recordNumber, value);
+                    }
+                } finally {
+                    repository.lock.unlockRead(stamp);
+                }
+            }
+        }
+
+        @Override
+        public boolean compareAndSetCounter(long expectedValue, long newValue) {
+            AssertUtil.isTrue(newValue >= 0 && newValue <= ConstUtil.UINT_MAX_VALUE, "counter must be within unsigned int range");
+            // a deserialized instance is detached from the repository
+            if (repository == null) {
+                return super.compareAndSetCounter(expectedValue, newValue);
+            }
+            long stamp = repository.lock.readLock();
+            try {
+                if (!repository.isLive(recordNumber) || !repository.matches(recordNumber, getAttestedCredentialData().getCredentialId())) {
+                    return super.compareAndSetCounter(expectedValue, newValue);
+                }
+                // the comparison is made against the mapped record, so that it is atomic across instances returned by find
+                long currentValue = repository.compareAndSetCounter(recordNumber, expectedValue, newValue);
+                super.setCounter(currentValue == expectedValue ? newValue : currentValue);
+                return currentValue == expectedValue;
+            } finally {
+                repository.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private static class RecordData {
+
+        private final byte flags;
+        private final byte transportBits;
+        private final long counter;
+        private final byte[] aaguid;
+        private final byte[] coseKey;
+
+        private RecordData(byte flags, byte transportBits, long counter, @NonNull byte[] aaguid, @NonNull byte[] coseKey) {
+            this.flags = flags;
+            this.transportBits = transportBits;
+            this.counter = counter;
+            this.aaguid = aaguid;
+            this.coseKey = coseKey;
+        }
+    }
+
+    /**
+     * A file region mapped as 1 GiB chunks, as a single {@link MappedByteBuffer} is limited to 2 GiB.
+     * Callers never access a value crossing a chunk boundary, as records and slots are power of two sized.
+     */
+    private static class MappedRegion {
+
+        private static final int CHUNK_SHIFT = 30;
+        private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
+        private final MappedByteBuffer[] chunks;
+
+        private MappedRegion(@NonNull FileChannel channel, long offset, long size) throws IOException {
+            int chunkCount = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+            chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long chunkOffset = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset + chunkOffset, Math.min(CHUNK_SIZE, size - chunkOffset));
+            }
+        }
+
+        private MappedByteBuffer chunk(long position) {
+            return chunks[(int) (position >>> CHUNK_SHIFT)];
+        }
+
+        private int index(long position) {
+            return (int) (position & (CHUNK_SIZE - 1));
+        }
+
+        private byte get(long position) {
+            return chunk(position).get(index(position));
+        }
+
+        private void put(long position, byte value) {
+            chunk(position).put(index(position), value);
+        }
+
+        private short getShort(long position) {
+            return chunk(position).getShort(index(position));
+        }
+
+        private void putShort(long position, short value) {
+            chunk(position).putShort(index(position), value);
+        }
+
+        private int getInt(long position) {
+            return chunk(position).getInt(index(position));
+        }
+
+        private void putInt(long position, int value) {
+            chunk(position).putInt(index(position), value);
+        }
+
+        private void get(long position, @NonNull byte[] destination) {
+            MappedByteBuffer chunk = chunk(position);
+            int index = index(position);
+            for (int i = 0; i < destination.length; i++) {
+                destination[i] = chunk.get(index + i);
+            }
+        }
+
+        private void put(long position, @NonNull byte[] source) {
+            MappedByteBuffer chunk = chunk(position);
+            int index = index(position);
+            for (int i = 0; i < source.length; i++) {
+                chunk.put(index + i, source[i]);
+            }
+        }
+
+        private void force() {
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+        }
+    }
+}
@@ -17,16 +17,24 @@
 package com.webauthn4j.converter;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.jackson.JacksonUtil;
+import com.webauthn4j.converter.jackson.deserializer.cbor.AuthenticatorDataDeserializer;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Converter for {@link AttestationObject}
  */
@@ -74,12 +82,60 @@ public class AttestationObjectConverter {
     public @Nullable AttestationObject convert(@NonNull byte[] source) {
         try {
             AssertUtil.notNull(source, SOURCE_NULL_CHECK_MESSAGE);
-            return cborConverter.readValue(source, AttestationObject.class);
+            return cborConverter.readerFor(AttestationObject.class).readValue(source);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
     }
 
+    /**
+     * Converts from a byte array to {@link AttestationObject}, capturing the raw authenticatorData bytes in the same parse.
+     *
+     * @param source the source byte array to convert
+     * @return the converted object and the authenticatorData byte array
+     */
+    public @NonNull ConvertedAttestationObject convertWithAuthenticatorDataBytes(@NonNull byte[] source) {
+        try {
+            AssertUtil.notNull(source, SOURCE_NULL_CHECK_MESSAGE);
+            AtomicReference<byte[]> authenticatorDataBytes = new AtomicReference<>();
+            AttestationObject attestationObject = cborConverter.readerFor(AttestationObject.class).readValue(source,
+                    Collections.singletonMap(AuthenticatorDataDeserializer.AUTHENTICATOR_DATA_BYTES_ATTRIBUTE, authenticatorDataBytes));
+            return new ConvertedAttestationObject(attestationObject, authenticatorDataBytes.get());
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts from an {@link InputStream} to {@link AttestationObject}, capturing the raw authenticatorData bytes in the same parse.
+     *
+     * @param source the source stream to convert
+     * @return the converted object and the authenticatorData byte array
+     */
+    public @NonNull ConvertedAttestationObject convertWithAuthenticatorDataBytes(@NonNull InputStream source) {
+        try {
+            AssertUtil.notNull(source, SOURCE_NULL_CHECK_MESSAGE);
+            AtomicReference<byte[]> authenticatorDataBytes = new AtomicReference<>();
+            AttestationObject attestationObject = cborConverter.readerFor(AttestationObject.class).readValue(source,
+                    Collections.singletonMap(AuthenticatorDataDeserializer.AUTHENTICATOR_DATA_BYTES_ATTRIBUTE, authenticatorDataBytes));
+            return new ConvertedAttestationObject(attestationObject, authenticatorDataBytes.get());
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts from the remaining bytes of a {@link ByteBuffer}, which can be a direct buffer, to {@link AttestationObject},
+     * capturing the raw authenticatorData bytes in the same parse. The position of the buffer is not changed.
+     *
+     * @param source the source buffer to convert
+     * @return the converted object and the authenticatorData byte array
+     */
+    public @NonNull ConvertedAttestationObject convertWithAuthenticatorDataBytes(@NonNull ByteBuffer source) {
+        AssertUtil.notNull(source, SOURCE_NULL_CHECK_MESSAGE);
+        return convertWithAuthenticatorDataBytes(new ByteBufferBackedInputStream(source.duplicate()));
+    }
+
     /**
      * Converts from a {@link AttestationObject} to byte[].
      *
@@ -134,5 +190,26 @@ public class AttestationObjectConverter {
         return cborConverter.writeValueAsBytes(attStmt);
     }
 
+    /**
+     * {@link AttestationObject} together with the raw authenticatorData bytes it was parsed from
+     */
+    public static class ConvertedAttestationObject {
+
+        private final AttestationObject attestationObject;
+        private final byte[] authenticatorDataBytes;
+
+        ConvertedAttestationObject(@Nullable AttestationObject attestationObject, @Nullable byte[] authenticatorDataBytes) {
+            this.attestationObject = attestationObject;
+            this.authenticatorDataBytes = authenticatorDataBytes;
+        }
+
+        public @Nullable AttestationObject getAttestationObject() {
+            return attestationObject;
+        }
+
+        public @Nullable byte[] getAuthenticatorDataBytes() {
+            return ArrayUtil.clone(authenticatorDataBytes);
+        }
+    }
 
 }
@@ -89,17 +89,9 @@ public class AttestedCredentialDataConverter implements Serializable {
             int length = UnsignedNumberUtil.getUnsignedShort(attestedCredentialData);
             byte[] credentialId = new byte[length];
             attestedCredentialData.get(credentialId, 0, length);
-            byte[] remaining = new byte[attestedCredentialData.remaining()];
-            attestedCredentialData.get(remaining);
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-            COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(byteArrayInputStream);
-            COSEKey coseKey = coseKeyEnvelope.getCOSEKey();
+            COSEKey coseKey = convertToCredentialPublicKey(attestedCredentialData);
             assertCoseKey(coseKey);
-            AttestedCredentialData result = createAttestedCredentialData(aaguid, credentialId, coseKey);
-            int extensionsBufferLength = remaining.length - coseKeyEnvelope.getLength();
-            //This cast is necessary to be complied with JDK 17 when targeting JDK 8
-            ((Buffer)attestedCredentialData).position(attestedCredentialData.position() - extensionsBufferLength);
-            return result;
+            return createAttestedCredentialData(aaguid, credentialId, coseKey);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
@@ -127,10 +119,50 @@ public class AttestedCredentialDataConverter implements Serializable {
         return Arrays.copyOfRange(attestedCredentialData, CREDENTIAL_ID_INDEX, CREDENTIAL_ID_INDEX + credentialIdLength);
     }
 
+    /**
+     * Reads the credential public key at the position of the buffer, and advances the position past it.
+     * Typical COSE keys are read by {@link AuthenticatorDataCborReader}, and the rest by Jackson.
+     */
+    private @Nullable COSEKey convertToCredentialPublicKey(@NonNull ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray()) {
+            int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+            AuthenticatorDataCborReader reader = new AuthenticatorDataCborReader(byteBuffer.array(), offset, byteBuffer.remaining());
+            COSEKey coseKey = reader.readCOSEKey();
+            if (coseKey != null) {
+                //This cast is necessary to be complied with JDK 17 when targeting JDK 8
+                ((Buffer) byteBuffer).position(byteBuffer.position() + reader.getPosition() - offset);
+                return coseKey;
+            }
+        }
+        byte[] remaining = new byte[byteBuffer.remaining()];
+        byteBuffer.get(remaining);
+        COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(new ByteArrayInputStream(remaining));
+        int extensionsBufferLength = remaining.length - coseKeyEnvelope.getLength();
+        //This cast is necessary to be complied with JDK 17 when targeting JDK 8
+        ((Buffer) byteBuffer).position(byteBuffer.position() - extensionsBufferLength);
+        return coseKeyEnvelope.getCOSEKey();
+    }
+
+    /**
+     * Returns the length of the credential public key in the byte array
+     *
+     * @param source byte array
+     * @param offset offset of the credential public key
+     * @return the length
+     */
+    int getCredentialPublicKeyLength(@NonNull byte[] source, int offset) {
+        AuthenticatorDataCborReader reader = new AuthenticatorDataCborReader(source, offset, source.length - offset);
+        if (reader.readCOSEKey() != null) {
+            return reader.getPosition() - offset;
+        }
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(source, offset, source.length - offset);
+        return convertToCredentialPublicKey(byteArrayInputStream).getLength();
+    }
+
     @NonNull COSEKeyEnvelope convertToCredentialPublicKey(@NonNull InputStream inputStream) {
         AssertUtil.notNull(inputStream, "inputStream must not be null");
         //noinspection ConstantConditions as input stream is not null
-        return cborConverter.readValue(inputStream, COSEKeyEnvelope.class);
+        return cborConverter.readerFor(COSEKeyEnvelope.class).readValue(inputStream);
     }
 
     @NonNull byte[] convert(@NonNull COSEKey coseKey) {
@@ -31,6 +31,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public class AuthenticationExtensionsClientInputsConverter {
 
+    private static final TypeReference<AuthenticationExtensionsClientInputs<ExtensionClientInput>> TYPE_REFERENCE = new TypeReference<AuthenticationExtensionsClientInputs<ExtensionClientInput>>() {
+    };
+
     // ~ Instance fields
     // ================================================================================================
     private final JsonConverter jsonConverter;
@@ -46,11 +49,11 @@ public class AuthenticationExtensionsClientInputsConverter {
     // ~ Methods
     // ================================================================================================
 
+    @SuppressWarnings("unchecked")
     public <T extends ExtensionClientInput> @Nullable AuthenticationExtensionsClientInputs<T> convert(@NonNull String value) {
         try {
             AssertUtil.notNull(value, "value must not be null");
-            return jsonConverter.readValue(value, new TypeReference<AuthenticationExtensionsClientInputs<T>>() {
-            });
+            return (AuthenticationExtensionsClientInputs<T>) jsonConverter.readerFor(TYPE_REFERENCE).readValue(value);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
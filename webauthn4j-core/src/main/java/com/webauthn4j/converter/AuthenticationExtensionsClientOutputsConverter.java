@@ -31,6 +31,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public class AuthenticationExtensionsClientOutputsConverter {
 
+    private static final TypeReference<AuthenticationExtensionsClientOutputs<ExtensionClientOutput>> TYPE_REFERENCE = new TypeReference<AuthenticationExtensionsClientOutputs<ExtensionClientOutput>>() {
+    };
+
     // ~ Instance fields
     // ================================================================================================
     private final JsonConverter jsonConverter;
@@ -46,11 +49,11 @@ public class AuthenticationExtensionsClientOutputsConverter {
     // ~ Methods
     // ================================================================================================
 
+    @SuppressWarnings("unchecked")
     public <T extends ExtensionClientOutput> @Nullable AuthenticationExtensionsClientOutputs<T> convert(@NonNull String value) {
         try {
             AssertUtil.notNull(value, "value must not be null");
-            return jsonConverter.readValue(value, new TypeReference<AuthenticationExtensionsClientOutputs<T>>() {
-            });
+            return (AuthenticationExtensionsClientOutputs<T>) jsonConverter.readerFor(TYPE_REFERENCE).readValue(value);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
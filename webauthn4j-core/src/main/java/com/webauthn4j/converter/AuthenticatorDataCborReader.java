@@ -0,0 +1,400 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.Curve;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.authenticator.EdDSACOSEKey;
+import com.webauthn4j.data.attestation.authenticator.RSACOSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.extension.CredentialProtectionPolicy;
+import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.UvmEntry;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CBOR reader for the credential public key and the extensions in authenticator data.
+ * <p>
+ * These two structures are read directly from the byte array, without Jackson's polymorphic type handling.
+ * Only the members defined for them are accepted. Anything else, such as unknown COSE key parameters or extensions,
+ * indefinite-length items, tags and duplicated keys, makes the read methods return null, and the caller falls back to
+ * Jackson, which also reports errors. Items are read from the current position, which is advanced only on success.
+ */
+class AuthenticatorDataCborReader {
+
+    private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+
+    private static final int FALSE = 0xF4;
+    private static final int TRUE = 0xF5;
+
+    private static final int COSE_KEY_KTY = 1;
+    private static final int COSE_KEY_KID = 2;
+    private static final int COSE_KEY_ALG = 3;
+    private static final int COSE_KEY_MAX_PARAMETERS = 8;
+
+    private static final long KTY_OKP = 1;
+    private static final long KTY_EC2 = 2;
+    private static final long KTY_RSA = 3;
+
+    private static final byte[] KEY_UVM = "uvm".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KEY_CRED_PROTECT = "credProtect".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KEY_HMAC_SECRET = "hmac-secret".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] data;
+    private final int end;
+    private int position;
+
+    // head of the item read by readHead
+    private int majorType;
+    private long argument;
+
+    AuthenticatorDataCborReader(@NonNull byte[] data, int offset, int length) {
+        this.data = data;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * Reads a COSE key
+     *
+     * @return the COSE key, or null if it needs to be read by Jackson
+     */
+    @Nullable COSEKey readCOSEKey() {
+        int start = position;
+        try {
+            COSEKey coseKey = readCOSEKeyMap();
+            if (coseKey == null) {
+                position = start;
+            }
+            return coseKey;
+        } catch (IllegalArgumentException e) {
+            // out of range algorithm or curve
+            position = start;
+            return null;
+        }
+    }
+
+    /**
+     * Reads authenticator extension outputs
+     *
+     * @param <T> extension output type
+     * @return the extension outputs, or null if they need to be read by Jackson
+     */
+    <T extends ExtensionAuthenticatorOutput> @Nullable AuthenticationExtensionsAuthenticatorOutputs<T> readExtensions() {
+        int start = position;
+        try {
+            AuthenticationExtensionsAuthenticatorOutputs<T> extensions = readExtensionsMap();
+            if (extensions == null) {
+                position = start;
+            }
+            return extensions;
+        } catch (IllegalArgumentException e) {
+            // out of range credProtect
+            position = start;
+            return null;
+        }
+    }
+
+    private @Nullable COSEKey readCOSEKeyMap() {
+        if (!readHead() || majorType != MAJOR_TYPE_MAP) {
+            return null;
+        }
+        long kty = -1;
+        byte[] kid = null;
+        COSEAlgorithmIdentifier alg = null;
+        // parameters with labels -1 to -8 are held at index 0 to 7 as Long or byte[]
+        Object[] parameters = new Object[COSE_KEY_MAX_PARAMETERS];
+        boolean[] found = new boolean[COSE_KEY_MAX_PARAMETERS + COSE_KEY_ALG + 1];
+
+        for (long i = argument; i > 0; i--) {
+            Long label = readInteger();
+            if (label == null || label < -COSE_KEY_MAX_PARAMETERS || label > COSE_KEY_ALG || label == 0) {
+                return null;
+            }
+            int index = label > 0 ? label.intValue() : COSE_KEY_ALG - label.intValue();
+            if (found[index]) {
+                return null;
+            }
+            found[index] = true;
+            if (label == COSE_KEY_KTY) {
+                Long value = readInteger();
+                if (value == null) {
+                    return null;
+                }
+                kty = value;
+            }
+            else if (label == COSE_KEY_KID) {
+                kid = readByteString();
+                if (kid == null) {
+                    return null;
+                }
+            }
+            else if (label == COSE_KEY_ALG) {
+                Long value = readInteger();
+                if (value == null) {
+                    return null;
+                }
+                alg = COSEAlgorithmIdentifier.create(value);
+            }
+            else {
+                Object value = readIntegerOrByteString();
+                if (value == null) {
+                    return null;
+                }
+                parameters[(int) (-1 - label)] = value;
+            }
+        }
+
+        if (kty == KTY_EC2) {
+            if (!matches(parameters, Long.class, byte[].class, byte[].class, byte[].class)) {
+                return null;
+            }
+            return new EC2COSEKey(kid, alg, null, toCurve(parameters[0]), (byte[]) parameters[1], (byte[]) parameters[2], (byte[]) parameters[3]);
+        }
+        if (kty == KTY_RSA) {
+            if (!matches(parameters, byte[].class, byte[].class, byte[].class, byte[].class, byte[].class, byte[].class, byte[].class, byte[].class)) {
+                return null;
+            }
+            return new RSACOSEKey(kid, alg, null, (byte[]) parameters[0], (byte[]) parameters[1], (byte[]) parameters[2], (byte[]) parameters[3],
+                    (byte[]) parameters[4], (byte[]) parameters[5], (byte[]) parameters[6], (byte[]) parameters[7]);
+        }
+        if (kty == KTY_OKP) {
+            // label -3 is not defined for OKP
+            if (parameters[2] != null || !matches(parameters, Long.class, byte[].class, null, byte[].class)) {
+                return null;
+            }
+            return new EdDSACOSEKey(kid, alg, null, toCurve(parameters[0]), (byte[]) parameters[1], (byte[]) parameters[3]);
+        }
+        return null;
+    }
+
+    /**
+     * Checks that the parameters are absent or of the expected types, and that no parameter beyond them is present
+     */
+    private static boolean matches(@NonNull Object[] parameters, @Nullable Class<?>... types) {
+        for (int i = 0; i < parameters.length; i++) {
+            Object parameter = parameters[i];
+            if (parameter == null) {
+                continue;
+            }
+            if (i >= types.length || types[i] == null || !types[i].isInstance(parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @Nullable Curve toCurve(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+        long curve = (Long) value;
+        if (curve < Integer.MIN_VALUE || curve > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("curve is out of range");
+        }
+        return Curve.create((int) curve);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ExtensionAuthenticatorOutput> @Nullable AuthenticationExtensionsAuthenticatorOutputs<T> readExtensionsMap() {
+        if (!readHead() || majorType != MAJOR_TYPE_MAP) {
+            return null;
+        }
+        UvmEntries uvm = null;
+        CredentialProtectionPolicy credProtect = null;
+        Boolean hmacCreateSecret = null;
+        byte[] hmacGetSecret = null;
+        boolean hmacSecretFound = false;
+
+        for (long i = argument; i > 0; i--) {
+            if (!readHead() || majorType != MAJOR_TYPE_TEXT_STRING || argument > end - position) {
+                return null;
+            }
+            int keyStart = position;
+            int keyEnd = position + (int) argument;
+            position = keyEnd;
+            if (equals(keyStart, keyEnd, KEY_UVM)) {
+                if (uvm != null) {
+                    return null;
+                }
+                uvm = readUvmEntries();
+                if (uvm == null) {
+                    return null;
+                }
+            }
+            else if (equals(keyStart, keyEnd, KEY_CRED_PROTECT)) {
+                if (credProtect != null || !readHead() || majorType != MAJOR_TYPE_UNSIGNED_INTEGER || argument > Byte.MAX_VALUE) {
+                    return null;
+                }
+                credProtect = CredentialProtectionPolicy.create((byte) argument);
+            }
+            else if (equals(keyStart, keyEnd, KEY_HMAC_SECRET)) {
+                if (hmacSecretFound) {
+                    return null;
+                }
+                hmacSecretFound = true;
+                if (position < end && (data[position] & 0xFF) == TRUE) {
+                    position++;
+                    hmacCreateSecret = Boolean.TRUE;
+                }
+                else if (position < end && (data[position] & 0xFF) == FALSE) {
+                    position++;
+                    hmacCreateSecret = Boolean.FALSE;
+                }
+                else {
+                    hmacGetSecret = readByteString();
+                    if (hmacGetSecret == null) {
+                        return null;
+                    }
+                }
+            }
+            else {
+                return null;
+            }
+        }
+
+        if (hmacGetSecret != null) {
+            if (credProtect != null) {
+                return null;
+            }
+            return (AuthenticationExtensionsAuthenticatorOutputs<T>) new AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication()
+                    .setUvm(uvm)
+                    .setHMACGetSecret(hmacGetSecret)
+                    .build();
+        }
+        return (AuthenticationExtensionsAuthenticatorOutputs<T>) new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration()
+                .setUvm(uvm)
+                .setCredProtect(credProtect)
+                .setHMACCreateSecret(hmacCreateSecret)
+                .build();
+    }
+
+    private @Nullable UvmEntries readUvmEntries() {
+        if (!readHead() || majorType != MAJOR_TYPE_ARRAY || argument > end - position) {
+            return null;
+        }
+        List<UvmEntry> entries = new ArrayList<>((int) argument);
+        for (long i = argument; i > 0; i--) {
+            if (!readHead() || majorType != MAJOR_TYPE_ARRAY || argument > end - position) {
+                return null;
+            }
+            Number[] values = new Number[(int) argument];
+            for (int j = 0; j < values.length; j++) {
+                Long value = readInteger();
+                if (value == null) {
+                    return null;
+                }
+                // Jackson reads CBOR integers as Integer when they fit
+                values[j] = value == value.intValue() ? Integer.valueOf(value.intValue()) : value;
+            }
+            entries.add(new UvmEntry(values));
+        }
+        return new UvmEntries(entries);
+    }
+
+    private @Nullable Object readIntegerOrByteString() {
+        if (position < end && (data[position] & 0xFF) >>> 5 == MAJOR_TYPE_BYTE_STRING) {
+            return readByteString();
+        }
+        return readInteger();
+    }
+
+    private @Nullable Long readInteger() {
+        if (!readHead()) {
+            return null;
+        }
+        if (majorType == MAJOR_TYPE_UNSIGNED_INTEGER) {
+            return argument;
+        }
+        if (majorType == MAJOR_TYPE_NEGATIVE_INTEGER) {
+            return -1 - argument;
+        }
+        return null;
+    }
+
+    private @Nullable byte[] readByteString() {
+        if (!readHead() || majorType != MAJOR_TYPE_BYTE_STRING || argument > end - position) {
+            return null;
+        }
+        byte[] value = Arrays.copyOfRange(data, position, position + (int) argument);
+        position += (int) argument;
+        return value;
+    }
+
+    /**
+     * Reads the head of a data item. Indefinite lengths, simple values, floats and arguments beyond the signed long
+     * range are rejected.
+     */
+    private boolean readHead() {
+        if (position >= end) {
+            return false;
+        }
+        int initialByte = data[position++] & 0xFF;
+        majorType = initialByte >>> 5;
+        int additionalInformation = initialByte & 0x1F;
+        if (majorType > MAJOR_TYPE_MAP) {
+            return false;
+        }
+        if (additionalInformation < 24) {
+            argument = additionalInformation;
+            return true;
+        }
+        if (additionalInformation > 27) {
+            return false;
+        }
+        int length = 1 << (additionalInformation - 24);
+        if (length > end - position) {
+            return false;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        argument = value;
+        return value >= 0;
+    }
+
+    private boolean equals(int start, int end, @NonNull byte[] value) {
+        if (end - start != value.length) {
+            return false;
+        }
+        for (int i = 0; i < value.length; i++) {
+            if (data[start + i] != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -19,7 +19,6 @@ package com.webauthn4j.converter;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.jackson.deserializer.cbor.AuthenticationExtensionsAuthenticatorOutputsEnvelope;
-import com.webauthn4j.converter.jackson.deserializer.cbor.COSEKeyEnvelope;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
@@ -57,6 +56,10 @@ public class AuthenticatorDataConverter {
     private static final int L_INDEX = ATTESTED_CREDENTIAL_DATA_INDEX + AAGUID_LENGTH;
     private static final int CREDENTIAL_ID_INDEX = L_INDEX + L_LENGTH;
 
+    private static final TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<ExtensionAuthenticatorOutput>> EXTENSIONS_ENVELOPE_TYPE_REFERENCE =
+            new TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<ExtensionAuthenticatorOutput>>() {
+            };
+
     //~ Instance fields
     // ================================================================================================
     private final CborConverter cborConverter;
@@ -108,8 +111,24 @@ public class AuthenticatorDataConverter {
      * @return the converted object
      */
     public <T extends ExtensionAuthenticatorOutput> @NonNull AuthenticatorData<T> convert(@NonNull byte[] source) {
+        return convertFrom(ByteBuffer.wrap(source));
+    }
+
+    /**
+     * Converts from the remaining bytes of a {@link ByteBuffer}, which can be a direct buffer, to {@link AuthenticatorData}.
+     * The position of the buffer is not changed.
+     *
+     * @param <T>    ExtensionAuthenticatorOutput
+     * @param source the source buffer to convert
+     * @return the converted object
+     */
+    public <T extends ExtensionAuthenticatorOutput> @NonNull AuthenticatorData<T> convert(@NonNull ByteBuffer source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return convertFrom(source.duplicate());
+    }
+
+    private <T extends ExtensionAuthenticatorOutput> @NonNull AuthenticatorData<T> convertFrom(@NonNull ByteBuffer byteBuffer) {
         try {
-            ByteBuffer byteBuffer = ByteBuffer.wrap(source);
 
             byte[] rpIdHash = new byte[RPID_HASH_LENGTH];
             byteBuffer.get(rpIdHash, 0, RPID_HASH_LENGTH);
@@ -148,6 +167,19 @@ public class AuthenticatorDataConverter {
         }
     }
 
+    /**
+     * Creates a read-only view over a authenticatorData byte array, which reads the flags, the signCount and the rpIdHash
+     * in place and decodes the rest lazily. The byte array is not copied.
+     *
+     * @param <T>    ExtensionAuthenticatorOutput
+     * @param source the authenticatorData byte array
+     * @return the view
+     */
+    public <T extends ExtensionAuthenticatorOutput> @NonNull AuthenticatorDataView<T> createView(@NonNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return new AuthenticatorDataView<>(this, source);
+    }
+
     /**
      * Extract attestedCredData byte array from a authenticatorData byte array.
      *
@@ -159,10 +191,7 @@ public class AuthenticatorDataConverter {
         int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(lengthBytes);
         int credentialPublicKeyIndex = CREDENTIAL_ID_INDEX + credentialIdLength;
 
-        byte[] attestedCredentialDataBytes = Arrays.copyOfRange(authenticatorData, credentialPublicKeyIndex, authenticatorData.length);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(attestedCredentialDataBytes);
-        COSEKeyEnvelope coseKeyEnvelope = attestedCredentialDataConverter.convertToCredentialPublicKey(byteArrayInputStream);
-        int credentialPublicKeyLength = coseKeyEnvelope.getLength();
+        int credentialPublicKeyLength = attestedCredentialDataConverter.getCredentialPublicKeyLength(authenticatorData, credentialPublicKeyIndex);
         int attestedCredentialDataLength = AAGUID_LENGTH + L_LENGTH + credentialIdLength + credentialPublicKeyLength;
         return Arrays.copyOfRange(authenticatorData, ATTESTED_CREDENTIAL_DATA_INDEX, ATTESTED_CREDENTIAL_DATA_INDEX + attestedCredentialDataLength);
     }
@@ -174,8 +203,11 @@ public class AuthenticatorDataConverter {
      * @return the extracted signCount
      */
     public long extractSignCount(@NonNull byte[] authenticatorData) {
-        byte[] counterBytes = Arrays.copyOfRange(authenticatorData, COUNTER_INDEX, COUNTER_INDEX + COUNTER_LENGTH);
-        return UnsignedNumberUtil.getUnsignedInt(counterBytes);
+        return Integer.toUnsignedLong(ByteBuffer.wrap(authenticatorData).getInt(COUNTER_INDEX));
+    }
+
+    @NonNull AttestedCredentialDataConverter getAttestedCredentialDataConverter() {
+        return attestedCredentialDataConverter;
     }
 
 
@@ -194,12 +226,22 @@ public class AuthenticatorDataConverter {
         if (byteBuffer.remaining() == 0) {
             return new AuthenticationExtensionsAuthenticatorOutputs<>();
         }
+        if (byteBuffer.hasArray()) {
+            int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+            AuthenticatorDataCborReader reader = new AuthenticatorDataCborReader(byteBuffer.array(), offset, byteBuffer.remaining());
+            AuthenticationExtensionsAuthenticatorOutputs<T> extensions = reader.readExtensions();
+            if (extensions != null) {
+                //This cast is necessary to be complied with JDK 17 when targeting JDK 8
+                ((Buffer) byteBuffer).position(byteBuffer.position() + reader.getPosition() - offset);
+                return extensions;
+            }
+        }
         byte[] remaining = new byte[byteBuffer.remaining()];
         byteBuffer.get(remaining);
         ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
+        @SuppressWarnings("unchecked")
         AuthenticationExtensionsAuthenticatorOutputsEnvelope<T> envelope =
-                cborConverter.readValue(byteArrayInputStream, new TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<T>>() {
-                });
+                (AuthenticationExtensionsAuthenticatorOutputsEnvelope<T>) (AuthenticationExtensionsAuthenticatorOutputsEnvelope<?>) cborConverter.readerFor(EXTENSIONS_ENVELOPE_TYPE_REFERENCE).readValue(byteArrayInputStream);
         if (envelope == null) {
             return null;
         }
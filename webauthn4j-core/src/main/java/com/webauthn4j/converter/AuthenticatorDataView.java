@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
+import com.webauthn4j.util.ArrayUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only view over an authenticatorData byte array, created by {@link AuthenticatorDataConverter#createView(byte[])}.
+ * <p>
+ * The flags, the signature counter and the rpIdHash are read from the byte array in place, without copying.
+ * The attested credential data and the extensions are decoded on first access.
+ * The view doesn't copy the byte array, so the caller must not modify it while the view is in use.
+ * <p>
+ * This class is not thread-safe. The lazily decoded values are cached without synchronization,
+ * so a view must be used by a single thread (e.g. within one validation call) and not shared between threads.
+ *
+ * @param <T> extension type
+ */
+public class AuthenticatorDataView<T extends ExtensionAuthenticatorOutput> {
+
+    private static final int RPID_HASH_LENGTH = 32;
+    private static final int FLAGS_INDEX = RPID_HASH_LENGTH;
+    private static final int COUNTER_INDEX = FLAGS_INDEX + 1;
+    private static final int ATTESTED_CREDENTIAL_DATA_INDEX = COUNTER_INDEX + 4;
+
+    private final AuthenticatorDataConverter authenticatorDataConverter;
+    private final byte[] bytes;
+
+    private boolean attestedCredentialDataDecoded;
+    private AttestedCredentialData attestedCredentialData;
+    private int extensionsIndex = ATTESTED_CREDENTIAL_DATA_INDEX;
+    private boolean extensionsDecoded;
+    private AuthenticationExtensionsAuthenticatorOutputs<T> extensions;
+
+    AuthenticatorDataView(@NonNull AuthenticatorDataConverter authenticatorDataConverter, @NonNull byte[] bytes) {
+        if (bytes.length < ATTESTED_CREDENTIAL_DATA_INDEX) {
+            throw new DataConversionException("provided data does not have proper byte layout");
+        }
+        this.authenticatorDataConverter = authenticatorDataConverter;
+        this.bytes = bytes;
+    }
+
+    public byte getFlags() {
+        return bytes[FLAGS_INDEX];
+    }
+
+    public boolean isFlagUP() {
+        return AuthenticatorData.checkFlagUP(getFlags());
+    }
+
+    public boolean isFlagUV() {
+        return AuthenticatorData.checkFlagUV(getFlags());
+    }
+
+    public boolean isFlagAT() {
+        return AuthenticatorData.checkFlagAT(getFlags());
+    }
+
+    public boolean isFlagED() {
+        return AuthenticatorData.checkFlagED(getFlags());
+    }
+
+    public long getSignCount() {
+        return authenticatorDataConverter.extractSignCount(bytes);
+    }
+
+    /**
+     * Returns a copy of the rpIdHash. Use {@link #matchesRpIdHash(byte[])} for comparison, which doesn't copy.
+     *
+     * @return rpIdHash
+     */
+    public @NonNull byte[] getRpIdHash() {
+        byte[] rpIdHash = new byte[RPID_HASH_LENGTH];
+        System.arraycopy(bytes, 0, rpIdHash, 0, RPID_HASH_LENGTH);
+        return rpIdHash;
+    }
+
+    /**
+     * Compares the rpIdHash with the expected value in place
+     *
+     * @param rpIdHash expected rpIdHash
+     * @return true if equal
+     */
+    public boolean matchesRpIdHash(@Nullable byte[] rpIdHash) {
+        if (rpIdHash == null || rpIdHash.length != RPID_HASH_LENGTH) {
+            return false;
+        }
+        // As rpIdHash is public data(not secret data), there is no risk of timing attack
+        for (int i = 0; i < RPID_HASH_LENGTH; i++) {
+            if (bytes[i] != rpIdHash[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the attested credential data, decoding it on first access
+     *
+     * @return attested credential data, or null if the AT flag is not set
+     */
+    public @Nullable AttestedCredentialData getAttestedCredentialData() {
+        if (!attestedCredentialDataDecoded) {
+            // Apple App Attest API assertion has AT flag even though they don't have attestedCredentialData.
+            if (isFlagAT() && bytes.length > ATTESTED_CREDENTIAL_DATA_INDEX) {
+                ByteBuffer byteBuffer = wrap(ATTESTED_CREDENTIAL_DATA_INDEX);
+                try {
+                    attestedCredentialData = authenticatorDataConverter.getAttestedCredentialDataConverter().convert(byteBuffer);
+                } catch (BufferUnderflowException e) {
+                    throw new DataConversionException("provided data does not have proper byte layout", e);
+                }
+                extensionsIndex = ATTESTED_CREDENTIAL_DATA_INDEX + byteBuffer.position();
+            }
+            attestedCredentialDataDecoded = true;
+        }
+        return attestedCredentialData;
+    }
+
+    /**
+     * Returns the extensions, decoding them on first access
+     *
+     * @return extensions, which is empty if the ED flag is not set
+     */
+    public @Nullable AuthenticationExtensionsAuthenticatorOutputs<T> getExtensions() {
+        if (!extensionsDecoded) {
+            // the extensions follow the attested credential data, whose length is known only after decoding it
+            getAttestedCredentialData();
+            ByteBuffer byteBuffer = wrap(extensionsIndex);
+            if (isFlagED()) {
+                extensions = authenticatorDataConverter.convertToExtensions(byteBuffer);
+            } else {
+                extensions = new AuthenticationExtensionsAuthenticatorOutputs<>();
+            }
+            if (byteBuffer.hasRemaining()) {
+                throw new DataConversionException("provided data does not have proper byte layout");
+            }
+            extensionsDecoded = true;
+        }
+        return extensions;
+    }
+
+    /**
+     * Decodes the whole authenticatorData
+     *
+     * @return {@link AuthenticatorData}
+     */
+    public @NonNull AuthenticatorData<T> toAuthenticatorData() {
+        AuthenticationExtensionsAuthenticatorOutputs<T> authenticatorExtensions = getExtensions();
+        return new AuthenticatorData<>(getRpIdHash(), getFlags(), getSignCount(), getAttestedCredentialData(), authenticatorExtensions);
+    }
+
+    /**
+     * Returns a copy of the underlying authenticatorData byte array
+     *
+     * @return authenticatorData byte array
+     */
+    public @NonNull byte[] getBytes() {
+        return ArrayUtil.clone(bytes);
+    }
+
+    private @NonNull ByteBuffer wrap(int index) {
+        return ByteBuffer.wrap(bytes, index, bytes.length - index).slice();
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.webauthn4j.converter;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
@@ -25,7 +26,8 @@ import com.webauthn4j.util.Base64UrlUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Converter for {@link CollectedClientData}
@@ -35,6 +37,7 @@ public class CollectedClientDataConverter {
     //~ Instance fields
     // ================================================================================================
     private final JsonConverter jsonConverter;
+    private final CollectedClientDataScanner scanner = new CollectedClientDataScanner();
 
     //~ Constructors
     // ================================================================================================
@@ -66,6 +69,7 @@ public class CollectedClientDataConverter {
 
     /**
      * Converts from a byte array to {@link CollectedClientData}.
+     * Typical clientDataJSON is read directly from the bytes, and the rest is parsed by Jackson.
      *
      * @param source the source byte array to convert
      * @return the converted object
@@ -73,8 +77,45 @@ public class CollectedClientDataConverter {
     public @Nullable CollectedClientData convert(@NonNull byte[] source) {
         try {
             AssertUtil.notNull(source, "source must not be null");
-            String jsonString = new String(source, StandardCharsets.UTF_8);
-            return jsonConverter.readValue(jsonString, CollectedClientData.class);
+            CollectedClientData collectedClientData = scanner.scan(source, 0, source.length);
+            if (collectedClientData != null) {
+                return collectedClientData;
+            }
+            return jsonConverter.readerFor(CollectedClientData.class).readValue(source);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts from the remaining bytes of a {@link ByteBuffer}, which can be a direct buffer, to {@link CollectedClientData}.
+     * The JSON is parsed from the buffer as UTF-8 bytes, without copying it to a byte array or a {@link String} first.
+     * The position of the buffer is not changed.
+     *
+     * @param source the source buffer to convert
+     * @return the converted object
+     */
+    public @Nullable CollectedClientData convert(@NonNull ByteBuffer source) {
+        AssertUtil.notNull(source, "source must not be null");
+        if (source.hasArray()) {
+            CollectedClientData collectedClientData = scanner.scan(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            if (collectedClientData != null) {
+                return collectedClientData;
+            }
+        }
+        return convert(new ByteBufferBackedInputStream(source.duplicate()));
+    }
+
+    /**
+     * Converts from an {@link InputStream} to {@link CollectedClientData}.
+     *
+     * @param source the source stream to convert
+     * @return the converted object
+     */
+    public @Nullable CollectedClientData convert(@NonNull InputStream source) {
+        try {
+            AssertUtil.notNull(source, "source must not be null");
+            return jsonConverter.readerFor(CollectedClientData.class).readValue(source);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.TokenBinding;
+import com.webauthn4j.data.client.TokenBindingStatus;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Fast-path parser for the clientDataJSON produced by browsers and platform authenticators.
+ * <p>
+ * The members of {@link CollectedClientData} are read straight from the UTF-8 bytes, and unknown members are skipped
+ * as long as their values are scalars. Anything this parser does not handle exactly like Jackson, such as escaped or
+ * non-ASCII strings, nested unknown members, duplicated or missing members and invalid values, makes {@link #scan}
+ * return null, so that the caller can parse the data with Jackson, which also reports errors.
+ */
+class CollectedClientDataScanner {
+
+    private static final int ORIGIN_CACHE_LIMIT = 256;
+
+    private static final byte[] TYPE = ascii("type");
+    private static final byte[] CHALLENGE = ascii("challenge");
+    private static final byte[] ORIGIN = ascii("origin");
+    private static final byte[] CROSS_ORIGIN = ascii("crossOrigin");
+    private static final byte[] TOKEN_BINDING = ascii("tokenBinding");
+    private static final byte[] STATUS = ascii("status");
+    private static final byte[] ID = ascii("id");
+    private static final byte[] WEBAUTHN_GET = ascii(ClientDataType.WEBAUTHN_GET.getValue());
+    private static final byte[] WEBAUTHN_CREATE = ascii(ClientDataType.WEBAUTHN_CREATE.getValue());
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NULL = ascii("null");
+
+    // a relying party sees only a few origins, so that URI parsing in the Origin constructor is done once for each of them
+    private final ConcurrentMap<String, Origin> originCache = new ConcurrentHashMap<>();
+
+    /**
+     * Parses the clientDataJSON
+     *
+     * @param source clientDataJSON
+     * @param offset offset of the clientDataJSON in the source
+     * @param length length of the clientDataJSON
+     * @return parsed {@link CollectedClientData}, or null if the data needs to be parsed by Jackson
+     */
+    @Nullable CollectedClientData scan(@NonNull byte[] source, int offset, int length) {
+        Tokenizer tokenizer = new Tokenizer(source, offset, offset + length);
+        try {
+            return scan(tokenizer);
+        } catch (IllegalArgumentException e) {
+            // invalid challenge or origin value
+            return null;
+        }
+    }
+
+    private @Nullable CollectedClientData scan(@NonNull Tokenizer tokenizer) {
+        ClientDataType type = null;
+        byte[] challenge = null;
+        Origin origin = null;
+        Boolean crossOrigin = null;
+        TokenBinding tokenBinding = null;
+        boolean crossOriginFound = false;
+        boolean tokenBindingFound = false;
+
+        if (!tokenizer.next('{')) {
+            return null;
+        }
+        do {
+            if (!tokenizer.string() || !tokenizer.next(':')) {
+                return null;
+            }
+            if (tokenizer.tokenEquals(TYPE)) {
+                if (type != null || !tokenizer.string()) {
+                    return null;
+                }
+                type = toClientDataType(tokenizer);
+            }
+            else if (tokenizer.tokenEquals(CHALLENGE)) {
+                if (challenge != null || !tokenizer.string()) {
+                    return null;
+                }
+                challenge = Base64UrlUtil.decode(tokenizer.tokenBytes());
+            }
+            else if (tokenizer.tokenEquals(ORIGIN)) {
+                if (origin != null || !tokenizer.string()) {
+                    return null;
+                }
+                origin = toOrigin(tokenizer.tokenString());
+            }
+            else if (tokenizer.tokenEquals(CROSS_ORIGIN)) {
+                if (crossOriginFound) {
+                    return null;
+                }
+                crossOriginFound = true;
+                if (tokenizer.literal(TRUE)) {
+                    crossOrigin = Boolean.TRUE;
+                }
+                else if (tokenizer.literal(FALSE)) {
+                    crossOrigin = Boolean.FALSE;
+                }
+                else if (!tokenizer.literal(NULL)) {
+                    return null;
+                }
+            }
+            else if (tokenizer.tokenEquals(TOKEN_BINDING)) {
+                if (tokenBindingFound) {
+                    return null;
+                }
+                tokenBindingFound = true;
+                if (!tokenizer.literal(NULL)) {
+                    tokenBinding = scanTokenBinding(tokenizer);
+                    if (tokenBinding == null) {
+                        return null;
+                    }
+                }
+            }
+            else if (!tokenizer.skipScalar()) {
+                return null;
+            }
+        } while (tokenizer.next(','));
+
+        if (!tokenizer.next('}') || !tokenizer.end() || type == null || challenge == null || origin == null) {
+            return null;
+        }
+        return new CollectedClientData(type, new DefaultChallenge(challenge), origin, crossOrigin, tokenBinding);
+    }
+
+    private static @Nullable TokenBinding scanTokenBinding(@NonNull Tokenizer tokenizer) {
+        TokenBindingStatus status = null;
+        String id = null;
+        boolean idFound = false;
+
+        if (!tokenizer.next('{')) {
+            return null;
+        }
+        do {
+            if (!tokenizer.string() || !tokenizer.next(':')) {
+                return null;
+            }
+            if (tokenizer.tokenEquals(STATUS)) {
+                if (status != null || !tokenizer.string()) {
+                    return null;
+                }
+                status = TokenBindingStatus.create(tokenizer.tokenString());
+            }
+            else if (tokenizer.tokenEquals(ID)) {
+                if (idFound) {
+                    return null;
+                }
+                idFound = true;
+                if (tokenizer.string()) {
+                    id = tokenizer.tokenString();
+                }
+                else if (!tokenizer.literal(NULL)) {
+                    return null;
+                }
+            }
+            else if (!tokenizer.skipScalar()) {
+                return null;
+            }
+        } while (tokenizer.next(','));
+
+        if (!tokenizer.next('}') || status == null) {
+            return null;
+        }
+        return new TokenBinding(status, id);
+    }
+
+    private static @NonNull ClientDataType toClientDataType(@NonNull Tokenizer tokenizer) {
+        if (tokenizer.tokenEquals(WEBAUTHN_GET)) {
+            return ClientDataType.WEBAUTHN_GET;
+        }
+        if (tokenizer.tokenEquals(WEBAUTHN_CREATE)) {
+            return ClientDataType.WEBAUTHN_CREATE;
+        }
+        //noinspection ConstantConditions as create returns null only for null
+        return ClientDataType.create(tokenizer.tokenString());
+    }
+
+    private @NonNull Origin toOrigin(@NonNull String value) {
+        Origin origin = originCache.get(value);
+        if (origin == null) {
+            origin = Origin.create(value);
+            if (originCache.size() < ORIGIN_CACHE_LIMIT) {
+                originCache.putIfAbsent(value, origin);
+            }
+        }
+        return origin;
+    }
+
+    private static @NonNull byte[] ascii(@NonNull String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Minimal JSON tokenizer. Only strings without escape sequences and non-ASCII characters are accepted,
+     * and the last string read is held as the current token.
+     */
+    private static class Tokenizer {
+
+        private final byte[] data;
+        private final int end;
+        private int position;
+        private int tokenStart;
+        private int tokenEnd;
+
+        Tokenizer(@NonNull byte[] data, int start, int end) {
+            this.data = data;
+            this.position = start;
+            this.end = end;
+        }
+
+        boolean next(char c) {
+            skipWhitespace();
+            if (position < end && data[position] == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean end() {
+            skipWhitespace();
+            return position == end;
+        }
+
+        boolean string() {
+            if (!next('"')) {
+                return false;
+            }
+            int start = position;
+            while (position < end) {
+                byte b = data[position];
+                if (b == '"') {
+                    tokenStart = start;
+                    tokenEnd = position;
+                    position++;
+                    return true;
+                }
+                // escape sequences, control characters and non-ASCII bytes (negative) are left to Jackson
+                if (b == '\\' || b < 0x20) {
+                    return false;
+                }
+                position++;
+            }
+            return false;
+        }
+
+        boolean literal(@NonNull byte[] literal) {
+            skipWhitespace();
+            if (end - position < literal.length) {
+                return false;
+            }
+            for (int i = 0; i < literal.length; i++) {
+                if (data[position + i] != literal[i]) {
+                    return false;
+                }
+            }
+            position += literal.length;
+            return true;
+        }
+
+        boolean skipScalar() {
+            skipWhitespace();
+            if (position == end) {
+                return false;
+            }
+            switch (data[position]) {
+                case '"':
+                    return string();
+                case 't':
+                    return literal(TRUE);
+                case 'f':
+                    return literal(FALSE);
+                case 'n':
+                    return literal(NULL);
+                default:
+                    return number();
+            }
+        }
+
+        // -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?
+        private boolean number() {
+            skipWhitespace();
+            if (position < end && data[position] == '-') {
+                position++;
+            }
+            if (position < end && data[position] == '0') {
+                position++;
+            }
+            else if (!digits()) {
+                return false;
+            }
+            if (position < end && data[position] == '.') {
+                position++;
+                if (!digits()) {
+                    return false;
+                }
+            }
+            if (position < end && (data[position] == 'e' || data[position] == 'E')) {
+                position++;
+                if (position < end && (data[position] == '+' || data[position] == '-')) {
+                    position++;
+                }
+                return digits();
+            }
+            return true;
+        }
+
+        private boolean digits() {
+            int start = position;
+            while (position < end && data[position] >= '0' && data[position] <= '9') {
+                position++;
+            }
+            return position > start;
+        }
+
+        private void skipWhitespace() {
+            while (position < end) {
+                byte b = data[position];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        boolean tokenEquals(@NonNull byte[] value) {
+            if (tokenEnd - tokenStart != value.length) {
+                return false;
+            }
+            for (int i = 0; i < value.length; i++) {
+                if (data[tokenStart + i] != value[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @NonNull byte[] tokenBytes() {
+            return Arrays.copyOfRange(data, tokenStart, tokenEnd);
+        }
+
+        @NonNull String tokenString() {
+            return new String(data, tokenStart, tokenEnd - tokenStart, StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -27,12 +27,19 @@ import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Jackson Deserializer for {@link AuthenticatorData}
  */
 public class AuthenticatorDataDeserializer extends StdDeserializer<AuthenticatorData<? extends ExtensionAuthenticatorOutput>> {
 
+    /**
+     * Deserialization attribute key. If an {@link AtomicReference} is set to this attribute,
+     * the raw authenticator data bytes are stored to it while deserializing.
+     */
+    public static final String AUTHENTICATOR_DATA_BYTES_ATTRIBUTE = AuthenticatorDataDeserializer.class.getName() + ".authenticatorDataBytes";
+
     private final ObjectConverter objectConverter;
 
     public AuthenticatorDataDeserializer(ObjectConverter objectConverter) {
@@ -49,6 +56,11 @@ public class AuthenticatorDataDeserializer extends StdDeserializer<Authenticator
     @Override
     public @NonNull AuthenticatorData<? extends ExtensionAuthenticatorOutput> deserialize(@NonNull JsonParser p, @NonNull DeserializationContext ctxt) throws IOException {
         byte[] value = p.getBinaryValue();
+        Object authenticatorDataBytesHolder = ctxt.getAttribute(AUTHENTICATOR_DATA_BYTES_ATTRIBUTE);
+        if (authenticatorDataBytesHolder instanceof AtomicReference) {
+            //noinspection unchecked
+            ((AtomicReference<byte[]>) authenticatorDataBytesHolder).set(value);
+        }
         return new AuthenticatorDataConverter(objectConverter).convert(value);
     }
 
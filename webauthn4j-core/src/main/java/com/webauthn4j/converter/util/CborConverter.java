@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
@@ -31,17 +32,26 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A utility class for CBOR serialization/deserialization
  */
 public class CborConverter implements Serializable {
 
+    // pinned to the value before the cached readers were added, as the serialized form is unchanged
+    private static final long serialVersionUID = -6384348998921830830L;
+
     private static final String INPUT_MISMATCH_ERROR_MESSAGE = "Input data does not match expected form";
 
     private final ObjectMapper cborMapper;
+    // a cache, which is not serialized and is recreated empty on deserialization
+    private transient ConcurrentMap<Object, CborValueReader<?>> readers = new ConcurrentHashMap<>();
 
     CborConverter(@NonNull ObjectMapper cborMapper) {
         AssertUtil.notNull(cborMapper, "cborMapper must not be null");
@@ -60,6 +70,46 @@ public class CborConverter implements Serializable {
         }
     }
 
+    /**
+     * Deserializes the source with per-call attributes, which deserializers can access through
+     * {@link com.fasterxml.jackson.databind.DeserializationContext#getAttribute(Object)}.
+     *
+     * @param src        source byte array
+     * @param valueType  type to deserialize
+     * @param attributes attributes for this call
+     * @param <T>        type to deserialize
+     * @return deserialized object
+     */
+    public @Nullable <T> T readValue(@NonNull byte[] src, @NonNull Class<T> valueType, @NonNull Map<?, ?> attributes) {
+        try {
+            return cborMapper.readerFor(valueType).withAttributes(attributes).readValue(src);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deserializes the source stream with per-call attributes
+     *
+     * @param src        source stream
+     * @param valueType  type to deserialize
+     * @param attributes attributes for this call
+     * @param <T>        type to deserialize
+     * @return deserialized object
+     * @see #readValue(byte[], Class, Map)
+     */
+    public @Nullable <T> T readValue(@NonNull InputStream src, @NonNull Class<T> valueType, @NonNull Map<?, ?> attributes) {
+        try {
+            return cborMapper.readerFor(valueType).withAttributes(attributes).readValue(src);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public @Nullable <T> T readValue(@NonNull InputStream src, @NonNull Class<T> valueType) {
         try {
             return cborMapper.readValue(src, valueType);
@@ -100,6 +150,36 @@ public class CborConverter implements Serializable {
         }
     }
 
+    /**
+     * Returns a reusable reader for the type, which has the deserializer resolved in advance.
+     * Readers are cached by type, so that the lookup done by each readValue call is skipped.
+     * A reader reflects the configuration of the {@link ObjectMapper} when it is first requested.
+     *
+     * @param valueType type to deserialize
+     * @param <T>       type to deserialize
+     * @return reader
+     */
+    @SuppressWarnings("unchecked")
+    public @NonNull <T> CborValueReader<T> readerFor(@NonNull Class<T> valueType) {
+        AssertUtil.notNull(valueType, "valueType must not be null");
+        return (CborValueReader<T>) readers.computeIfAbsent(valueType, key -> new CborValueReader<>(cborMapper.readerFor(valueType)));
+    }
+
+    /**
+     * Returns a reusable reader for the generic type
+     *
+     * @param valueTypeRef type to deserialize
+     * @param <T>          type to deserialize
+     * @return reader
+     * @see #readerFor(Class)
+     */
+    @SuppressWarnings("unchecked")
+    public @NonNull <T> CborValueReader<T> readerFor(@NonNull TypeReference<T> valueTypeRef) {
+        AssertUtil.notNull(valueTypeRef, "valueTypeRef must not be null");
+        JavaType javaType = cborMapper.getTypeFactory().constructType(valueTypeRef);
+        return (CborValueReader<T>) readers.computeIfAbsent(javaType, key -> new CborValueReader<>(cborMapper.readerFor(javaType)));
+    }
+
     public @NonNull byte[] writeValueAsBytes(@Nullable Object value) {
         try {
             return cborMapper.writeValueAsBytes(value);
@@ -108,4 +188,8 @@ public class CborConverter implements Serializable {
         }
     }
 
+    private void readObject(@NonNull ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
+        objectInputStream.defaultReadObject();
+        this.readers = new ConcurrentHashMap<>();
+    }
 }
@@ -19,6 +19,7 @@ package com.webauthn4j.converter.util;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
@@ -30,17 +31,25 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A utility class for JSON serialization/deserialization
  */
 public class JsonConverter implements Serializable {
 
+    // pinned to the value before the cached readers were added, as the serialized form is unchanged
+    private static final long serialVersionUID = 1252928976963038799L;
+
     private static final String INPUT_MISMATCH_ERROR_MESSAGE = "Input data does not match expected form";
 
     private final ObjectMapper jsonMapper;
+    // a cache, which is not serialized and is recreated empty on deserialization
+    private transient ConcurrentMap<Object, JsonValueReader<?>> readers = new ConcurrentHashMap<>();
 
     JsonConverter(@NonNull ObjectMapper jsonMapper) {
         AssertUtil.notNull(jsonMapper, "jsonMapper must not be null");
@@ -59,6 +68,16 @@ public class JsonConverter implements Serializable {
         }
     }
 
+    public <T> @Nullable T readValue(@NonNull byte[] src, @NonNull Class<T> valueType) {
+        try {
+            return jsonMapper.readValue(src, valueType);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public <T> @Nullable T readValue(@NonNull InputStream src, @NonNull Class<T> valueType) {
         try {
             return jsonMapper.readValue(src, valueType);
@@ -89,6 +108,36 @@ public class JsonConverter implements Serializable {
         }
     }
 
+    /**
+     * Returns a reusable reader for the type, which has the deserializer resolved in advance.
+     * Readers are cached by type, so that the lookup done by each readValue call is skipped.
+     * A reader reflects the configuration of the {@link ObjectMapper} when it is first requested.
+     *
+     * @param valueType type to deserialize
+     * @param <T>       type to deserialize
+     * @return reader
+     */
+    @SuppressWarnings("unchecked")
+    public @NonNull <T> JsonValueReader<T> readerFor(@NonNull Class<T> valueType) {
+        AssertUtil.notNull(valueType, "valueType must not be null");
+        return (JsonValueReader<T>) readers.computeIfAbsent(valueType, key -> new JsonValueReader<>(jsonMapper.readerFor(valueType)));
+    }
+
+    /**
+     * Returns a reusable reader for the generic type
+     *
+     * @param valueTypeRef type to deserialize
+     * @param <T>          type to deserialize
+     * @return reader
+     * @see #readerFor(Class)
+     */
+    @SuppressWarnings("unchecked")
+    public @NonNull <T> JsonValueReader<T> readerFor(@NonNull TypeReference<T> valueTypeRef) {
+        AssertUtil.notNull(valueTypeRef, "valueTypeRef must not be null");
+        JavaType javaType = jsonMapper.getTypeFactory().constructType(valueTypeRef);
+        return (JsonValueReader<T>) readers.computeIfAbsent(javaType, key -> new JsonValueReader<>(jsonMapper.readerFor(javaType)));
+    }
+
     public @NonNull byte[] writeValueAsBytes(@Nullable Object value) {
         try {
             return jsonMapper.writeValueAsBytes(value);
@@ -105,4 +154,8 @@ public class JsonConverter implements Serializable {
         }
     }
 
+    private void readObject(@NonNull ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
+        objectInputStream.defaultReadObject();
+        this.readers = new ConcurrentHashMap<>();
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+
+/**
+ * A reusable and thread-safe JSON deserializer for a specific type, created by {@link JsonConverter#readerFor(Class)}.
+ * The deserializer for the type is resolved once on creation, instead of being looked up on every call.
+ *
+ * @param <T> type to deserialize
+ */
+public class JsonValueReader<T> implements Serializable {
+
+    private static final String INPUT_MISMATCH_ERROR_MESSAGE = "Input data does not match expected form";
+
+    private final ObjectReader objectReader;
+
+    JsonValueReader(@NonNull ObjectReader objectReader) {
+        AssertUtil.notNull(objectReader, "objectReader must not be null");
+        this.objectReader = objectReader;
+    }
+
+    public @Nullable T readValue(@NonNull String src) {
+        try {
+            return objectReader.readValue(src);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public @Nullable T readValue(@NonNull byte[] src) {
+        try {
+            return objectReader.readValue(src);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public @Nullable T readValue(@NonNull InputStream src) {
+        try {
+            return objectReader.readValue(src);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
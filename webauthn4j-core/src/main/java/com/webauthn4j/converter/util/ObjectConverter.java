@@ -18,20 +18,26 @@ package com.webauthn4j.converter.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.webauthn4j.converter.jackson.WebAuthnCBORModule;
 import com.webauthn4j.converter.jackson.WebAuthnJSONModule;
 import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
 
 /**
  * A set of object converter classes
  */
 public class ObjectConverter implements Serializable {
 
+    private static final String BLACKBIRD_MODULE_CLASS_NAME = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    private static final String AFTERBURNER_MODULE_CLASS_NAME = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
     private final JsonConverter jsonConverter;
     private final CborConverter cborConverter;
 
@@ -52,6 +58,66 @@ public class ObjectConverter implements Serializable {
         this(new ObjectMapper(), new ObjectMapper(new CBORFactory()));
     }
 
+    /**
+     * Creates a {@link ObjectConverter} whose mappers replace reflection based bean property access with generated code.
+     * <p>
+     * This is opt-in, and webauthn4j doesn't depend on the modules which generate the code. Either
+     * {@code com.fasterxml.jackson.module:jackson-module-blackbird} (recommended on Java 11 or later) or
+     * {@code com.fasterxml.jackson.module:jackson-module-afterburner} (for Java 8) needs to be on the classpath,
+     * in the same version as jackson-databind. Blackbird is used when it is available and the runtime supports it.
+     *
+     * @return optimized {@link ObjectConverter}
+     * @throws IllegalStateException if neither Blackbird nor Afterburner is on the classpath
+     */
+    public static @NonNull ObjectConverter createOptimized() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        jsonMapper.registerModule(createBytecodeGenerationModule());
+        cborMapper.registerModule(createBytecodeGenerationModule());
+        return new ObjectConverter(jsonMapper, cborMapper);
+    }
+
+    /**
+     * Instantiates Blackbird or Afterburner reflectively, as they are optional dependencies.
+     * Blackbird relies on {@code MethodHandles.privateLookupIn}, which is not available on Java 8.
+     */
+    private static @NonNull Module createBytecodeGenerationModule() {
+        if (isPrivateLookupInAvailable()) {
+            Module blackbird = instantiateModule(BLACKBIRD_MODULE_CLASS_NAME);
+            if (blackbird != null) {
+                return blackbird;
+            }
+        }
+        Module afterburner = instantiateModule(AFTERBURNER_MODULE_CLASS_NAME);
+        if (afterburner != null) {
+            return afterburner;
+        }
+        throw new IllegalStateException("Neither jackson-module-blackbird nor jackson-module-afterburner is found on the classpath.");
+    }
+
+    private static boolean isPrivateLookupInAvailable() {
+        try {
+            MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static @Nullable Module instantiateModule(@NonNull String className) {
+        Class<?> moduleClass;
+        try {
+            moduleClass = Class.forName(className, true, ObjectConverter.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        try {
+            return (Module) moduleClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to instantiate " + className, e);
+        }
+    }
+
     /**
      * Initialize a {@link ObjectMapper} for WebAuthn JSON type processing
      */
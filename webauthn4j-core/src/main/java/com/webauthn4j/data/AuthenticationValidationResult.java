@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Result of a single assertion in a batch validation.
+ * Either the validation succeeded, or it failed with the exception the non-batch validation would have thrown.
+ */
+public class AuthenticationValidationResult {
+
+    private final AuthenticationData authenticationData;
+    private final RuntimeException exception;
+
+    /**
+     * {@link AuthenticationValidationResult} constructor
+     * @param authenticationData parsed data. null if the request could not be parsed
+     * @param exception exception thrown by parsing or validation. null if the validation succeeded
+     */
+    public AuthenticationValidationResult(@Nullable AuthenticationData authenticationData, @Nullable RuntimeException exception) {
+        this.authenticationData = authenticationData;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the parsed data, which is also available when the validation failed after parsing
+     *
+     * @return the parsed data, or null if the request could not be parsed
+     */
+    public @Nullable AuthenticationData getAuthenticationData() {
+        return authenticationData;
+    }
+
+    /**
+     * Returns the exception thrown by parsing or validation
+     *
+     * @return the exception, or null if the validation succeeded
+     */
+    public @Nullable RuntimeException getException() {
+        return exception;
+    }
+
+    public boolean isSucceeded() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticationValidationResult(" +
+                "authenticationData=" + authenticationData +
+                ", exception=" + exception +
+                ')';
+    }
+}
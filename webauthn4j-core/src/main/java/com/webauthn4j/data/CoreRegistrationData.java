@@ -26,19 +26,33 @@ import java.util.Objects;
 
 public class CoreRegistrationData implements Serializable {
 
+    // pinned to the value before authenticatorDataBytes was added, as the serialized form is unchanged
+    private static final long serialVersionUID = -7096535957922031459L;
+
     private final AttestationObject attestationObject;
     private final byte[] attestationObjectBytes;
+    // a parse time cache, which is not serialized. It is null after deserialization, and then the bytes are extracted from attestationObjectBytes.
+    private final transient byte[] authenticatorDataBytes;
     private final byte[] clientDataHash;
 
     public CoreRegistrationData(
             @Nullable AttestationObject attestationObject,
             @Nullable byte[] attestationObjectBytes,
+            @Nullable byte[] authenticatorDataBytes,
             @Nullable byte[] clientDataHash) {
         this.attestationObject = attestationObject;
         this.attestationObjectBytes = ArrayUtil.clone(attestationObjectBytes);
+        this.authenticatorDataBytes = ArrayUtil.clone(authenticatorDataBytes);
         this.clientDataHash = ArrayUtil.clone(clientDataHash);
     }
 
+    public CoreRegistrationData(
+            @Nullable AttestationObject attestationObject,
+            @Nullable byte[] attestationObjectBytes,
+            @Nullable byte[] clientDataHash) {
+        this(attestationObject, attestationObjectBytes, null, clientDataHash);
+    }
+
     public @Nullable AttestationObject getAttestationObject() {
         return attestationObject;
     }
@@ -47,6 +61,16 @@ public class CoreRegistrationData implements Serializable {
         return ArrayUtil.clone(attestationObjectBytes);
     }
 
+    /**
+     * Returns the raw authenticatorData bytes captured while parsing the attestation object.
+     * It is null if the instance is not created from parsed data.
+     *
+     * @return authenticatorData byte array
+     */
+    public @Nullable byte[] getAuthenticatorDataBytes() {
+        return ArrayUtil.clone(authenticatorDataBytes);
+    }
+
     public @Nullable byte[] getClientDataHash() {
         return ArrayUtil.clone(clientDataHash);
     }
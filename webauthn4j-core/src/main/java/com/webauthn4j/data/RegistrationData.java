@@ -30,20 +30,25 @@ import java.util.Set;
 
 public class RegistrationData extends CoreRegistrationData {
 
+    // pinned to the value before the constructor taking authenticatorDataBytes was added
+    private static final long serialVersionUID = -7632781046262881941L;
+
     private final CollectedClientData collectedClientData;
     private final byte[] collectedClientDataBytes;
     private final AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions;
     private final Set<AuthenticatorTransport> transports;
 
+    @SuppressWarnings("squid:S00107")
     public RegistrationData(
             @Nullable AttestationObject attestationObject,
             @Nullable byte[] attestationObjectBytes,
+            @Nullable byte[] authenticatorDataBytes,
             @Nullable CollectedClientData collectedClientData,
             @Nullable byte[] collectedClientDataBytes,
             @Nullable AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions,
             @Nullable Set<AuthenticatorTransport> transports) {
 
-        super(attestationObject, attestationObjectBytes, collectedClientDataBytes == null ? null : MessageDigestUtil.createSHA256().digest(collectedClientDataBytes));
+        super(attestationObject, attestationObjectBytes, authenticatorDataBytes, collectedClientDataBytes == null ? null : MessageDigestUtil.digestSHA256(collectedClientDataBytes));
 
         this.collectedClientData = collectedClientData;
         this.collectedClientDataBytes = ArrayUtil.clone(collectedClientDataBytes);
@@ -51,6 +56,17 @@ public class RegistrationData extends CoreRegistrationData {
         this.transports = transports;
     }
 
+    public RegistrationData(
+            @Nullable AttestationObject attestationObject,
+            @Nullable byte[] attestationObjectBytes,
+            @Nullable CollectedClientData collectedClientData,
+            @Nullable byte[] collectedClientDataBytes,
+            @Nullable AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions,
+            @Nullable Set<AuthenticatorTransport> transports) {
+
+        this(attestationObject, attestationObjectBytes, null, collectedClientData, collectedClientDataBytes, clientExtensions, transports);
+    }
+
     public @Nullable CollectedClientData getCollectedClientData() {
         return collectedClientData;
     }
@@ -22,8 +22,10 @@ import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.attestation.statement.COSEKeyOperation;
 import com.webauthn4j.data.attestation.statement.COSEKeyType;
 import com.webauthn4j.util.ArrayUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.security.PublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -42,6 +44,10 @@ public abstract class AbstractCOSEKey implements COSEKey {
     @JsonProperty("5")
     private final byte[] baseIV;
 
+    // JCA public key derived from the COSE parameters. Computed lazily once per instance, and recomputed after
+    // deserialization as the field is transient. A race on initialization is benign since PublicKey is immutable.
+    private transient volatile @Nullable PublicKey publicKey;
+
     @SuppressWarnings("SameParameterValue")
     @JsonCreator
     AbstractCOSEKey(
@@ -75,6 +81,26 @@ public abstract class AbstractCOSEKey implements COSEKey {
         return ArrayUtil.clone(baseIV);
     }
 
+    @Override
+    public @Nullable PublicKey getPublicKey() {
+        if (!hasPublicKey()) {
+            return null;
+        }
+        PublicKey value = publicKey;
+        if (value == null) {
+            value = createPublicKey();
+            publicKey = value;
+        }
+        return value;
+    }
+
+    /**
+     * Creates JCA {@link PublicKey} from the COSE key parameters. Called only when {@link #hasPublicKey()} returns true.
+     *
+     * @return JCA public key
+     */
+    protected abstract @NonNull PublicKey createPublicKey();
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
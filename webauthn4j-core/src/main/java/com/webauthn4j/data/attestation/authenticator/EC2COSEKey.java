@@ -258,12 +258,7 @@ public class EC2COSEKey extends AbstractCOSEKey implements Serializable {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
-
-        if (!hasPublicKey()) {
-            return null;
-        }
-
+    protected @NonNull PublicKey createPublicKey() {
         ECPoint ecPoint = new ECPoint(
                 new BigInteger(1, getX()),
                 new BigInteger(1, getY())
@@ -169,11 +169,7 @@ public class EdDSACOSEKey extends AbstractCOSEKey implements Serializable {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
-        if (!hasPublicKey()) {
-            return null;
-        }
-
+    protected @NonNull PublicKey createPublicKey() {
         try {
             KeyFactory factory = KeyFactory.getInstance("EdDSA");
             NamedParameterSpec namedParameterSpec = (NamedParameterSpec)curve.getParameterSpec();
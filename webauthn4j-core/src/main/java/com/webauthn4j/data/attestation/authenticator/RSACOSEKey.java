@@ -233,10 +233,7 @@ public class RSACOSEKey extends AbstractCOSEKey {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
-        if (!hasPublicKey()) {
-            return null;
-        }
+    protected @NonNull PublicKey createPublicKey() {
         RSAPublicKeySpec spec = new RSAPublicKeySpec(
                 new BigInteger(1, getN()),
                 new BigInteger(1, getE())
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data.client.challenge;
+
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates random {@link Challenge}s for high request rates.
+ * <p>
+ * {@link DefaultChallenge#DefaultChallenge()} derives a 16 bytes challenge from {@link java.util.UUID#randomUUID()},
+ * which draws from a single shared {@link SecureRandom}. This generator spreads the load over a set of independently seeded
+ * DRBG instances selected by the calling thread, and reads random bytes from each of them in blocks,
+ * so that concurrent callers rarely contend. The challenge length is configurable.
+ */
+public class ChallengeGenerator {
+
+    /**
+     * Minimum challenge length recommended by the WebAuthn specification
+     */
+    public static final int MIN_LENGTH = 16;
+    private static final int DEFAULT_LENGTH = 32;
+    private static final int BUFFER_SIZE = 1024;
+
+    private final int length;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    public ChallengeGenerator(int length) {
+        AssertUtil.isTrue(length >= MIN_LENGTH, "length must be equal to or greater than " + MIN_LENGTH);
+        this.length = length;
+        // the smallest power of two equal to or greater than twice the number of processors
+        int stripeCount = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(createSecureRandom(), Math.max(BUFFER_SIZE, length));
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    public ChallengeGenerator() {
+        this(DEFAULT_LENGTH);
+    }
+
+    /**
+     * Generates a challenge
+     *
+     * @return challenge
+     */
+    public @NonNull Challenge generate() {
+        byte[] value = new byte[length];
+        selectStripe().nextBytes(value);
+        return new DefaultChallenge(value);
+    }
+
+    /**
+     * Generates challenges at once, holding the stripe only once
+     *
+     * @param count number of challenges
+     * @return challenges
+     */
+    public @NonNull List<Challenge> generate(int count) {
+        AssertUtil.isTrue(count >= 0, "count must not be negative");
+        List<Challenge> challenges = new ArrayList<>(count);
+        Stripe stripe = selectStripe();
+        synchronized (stripe) {
+            for (int i = 0; i < count; i++) {
+                byte[] value = new byte[length];
+                stripe.nextBytes(value);
+                challenges.add(new DefaultChallenge(value));
+            }
+        }
+        return challenges;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    private @NonNull Stripe selectStripe() {
+        long id = Thread.currentThread().getId();
+        // mix the thread id, as thread ids are sequential
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    private static @NonNull SecureRandom createSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            // DRBG is available since Java 9
+            return new SecureRandom();
+        }
+    }
+
+    private static class Stripe {
+
+        private final SecureRandom secureRandom;
+        private final byte[] buffer;
+        private int position;
+
+        private Stripe(@NonNull SecureRandom secureRandom, int bufferSize) {
+            this.secureRandom = secureRandom;
+            this.buffer = new byte[bufferSize];
+            this.position = bufferSize;
+        }
+
+        private synchronized void nextBytes(@NonNull byte[] bytes) {
+            if (buffer.length - position < bytes.length) {
+                secureRandom.nextBytes(buffer);
+                position = 0;
+            }
+            System.arraycopy(buffer, position, bytes, 0, bytes.length);
+            // wipe the consumed bytes so that an issued challenge doesn't stay in the buffer
+            Arrays.fill(buffer, position, position + bytes.length, (byte) 0);
+            position += bytes.length;
+        }
+    }
+}
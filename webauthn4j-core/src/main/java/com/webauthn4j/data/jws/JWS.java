@@ -20,6 +20,7 @@ import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.SignatureUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +31,7 @@ import java.security.PublicKey;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
 
 public class JWS<T extends Serializable> implements Serializable {
 
@@ -42,6 +44,12 @@ public class JWS<T extends Serializable> implements Serializable {
     private final String headerString;
     private final String payloadString;
 
+    // set instead of headerString and payloadString when parsed from a stream. Only the first serializedLength bytes are valid
+    private final byte[] serialized;
+    private final int serializedLength;
+    // result of the verification made while parsing from a stream. It is not serialized, so that it is recomputed after deserialization
+    private final transient Boolean validSignature;
+
     JWS(@NonNull JWSHeader header, @NonNull String headerString, @NonNull T payload, @NonNull String payloadString, @NonNull byte[] signature) {
         logger = LoggerFactory.getLogger(JWS.class);
 
@@ -50,6 +58,22 @@ public class JWS<T extends Serializable> implements Serializable {
         this.signature = signature;
         this.headerString = headerString;
         this.payloadString = payloadString;
+        this.serialized = null;
+        this.serializedLength = 0;
+        this.validSignature = null;
+    }
+
+    JWS(@NonNull JWSHeader header, @NonNull T payload, @NonNull byte[] signature, @NonNull byte[] serialized, int serializedLength, boolean validSignature) {
+        logger = LoggerFactory.getLogger(JWS.class);
+
+        this.header = header;
+        this.payload = payload;
+        this.signature = signature;
+        this.headerString = null;
+        this.payloadString = null;
+        this.serialized = serialized;
+        this.serializedLength = serializedLength;
+        this.validSignature = validSignature;
     }
 
     public @NonNull JWSHeader getHeader() {
@@ -70,35 +94,98 @@ public class JWS<T extends Serializable> implements Serializable {
      * @return true if it pass validation
      */
     public boolean isValidSignature() {
-        String signedData = headerString + "." + payloadString;
+        if (validSignature != null) {
+            return validSignature;
+        }
+        Signature signatureObj = null;
         try {
-            if (header.getAlg() == null || header.getX5c() == null || header.getX5c().getCertificates().isEmpty()) {
+            signatureObj = initVerify(header);
+            if (signatureObj == null) {
                 return false;
             }
-            Signature signatureObj = SignatureUtil.createSignature(header.getAlg().getJcaName());
-            PublicKey publicKey = header.getX5c().getCertificates().get(0).getPublicKey();
-            signatureObj.initVerify(publicKey);
-            signatureObj.update(signedData.getBytes());
-            byte[] sig;
-            if (publicKey instanceof ECPublicKey) {
-                sig = JWSSignatureUtil.convertJwsSignatureToDerSignature(signature);
+            if (serialized != null) {
+                // the signing input is the serialized form up to the second period
+                int signingInputLength = indexOfSecondPeriod(serialized, serializedLength);
+                if (signingInputLength == -1) {
+                    return false;
+                }
+                signatureObj.update(serialized, 0, signingInputLength);
             }
             else {
-                sig = signature;
+                // the signing input is fed in parts to avoid concatenating the whole JWS once more
+                signatureObj.update(headerString.getBytes(StandardCharsets.US_ASCII));
+                signatureObj.update((byte) '.');
+                signatureObj.update(payloadString.getBytes(StandardCharsets.US_ASCII));
             }
-            return signatureObj.verify(sig);
+            return verify(signatureObj, header, signature);
         } catch (SignatureException | InvalidKeyException e) {
             logger.debug("Signature verification failed", e);
             return false;
+        } finally {
+            if (signatureObj != null) {
+                SignatureUtil.releaseSignature(signatureObj);
+            }
+        }
+    }
+
+    private static int indexOfSecondPeriod(@NonNull byte[] value, int length) {
+        boolean firstFound = false;
+        for (int i = 0; i < length; i++) {
+            if (value[i] == '.') {
+                if (firstFound) {
+                    return i;
+                }
+                firstFound = true;
+            }
         }
+        return -1;
+    }
+
+    /**
+     * Acquires a {@link Signature} initialized for verification with the first certificate of the x5c header.
+     * It must be released by {@link SignatureUtil#releaseSignature(Signature)}.
+     *
+     * @return {@link Signature}, or null if the header doesn't have alg or x5c
+     */
+    static @Nullable Signature initVerify(@NonNull JWSHeader header) throws InvalidKeyException {
+        if (header.getAlg() == null || header.getX5c() == null || header.getX5c().getCertificates().isEmpty()) {
+            return null;
+        }
+        Signature signatureObj = SignatureUtil.acquireSignature(header.getAlg().getJcaName());
+        try {
+            signatureObj.initVerify(header.getX5c().getCertificates().get(0).getPublicKey());
+            return signatureObj;
+        } catch (InvalidKeyException | RuntimeException e) {
+            SignatureUtil.releaseSignature(signatureObj);
+            throw e;
+        }
+    }
+
+    static boolean verify(@NonNull Signature signatureObj, @NonNull JWSHeader header, @NonNull byte[] signature) throws SignatureException {
+        //noinspection ConstantConditions as x5c is checked by initVerify
+        PublicKey publicKey = header.getX5c().getCertificates().get(0).getPublicKey();
+        byte[] sig;
+        if (publicKey instanceof ECPublicKey) {
+            sig = JWSSignatureUtil.convertJwsSignatureToDerSignature(signature);
+        }
+        else {
+            sig = signature;
+        }
+        return signatureObj.verify(sig);
     }
 
     public @NonNull byte[] getBytes() {
+        if (serialized != null) {
+            return Arrays.copyOf(serialized, serializedLength);
+        }
         return toString().getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
     public @NonNull String toString() {
+        if (serialized != null) {
+            return new String(serialized, 0, serializedLength, StandardCharsets.US_ASCII);
+        }
         return headerString + "." + payloadString + "." + Base64UrlUtil.encodeToString(signature);
     }
 
@@ -22,8 +22,13 @@ import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.SignatureUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.PrivateKey;
@@ -34,6 +39,9 @@ public class JWSFactory {
 
     private static final String HEADER_MUST_NOT_BE_NULL = "header must not be null";
     private static final String PAYLOAD_MUST_NOT_BE_NULL = "payload must not be null";
+    private static final String NOT_DIVIDED_BY_TWO_PERIODS_ERROR_MESSAGE = "JWS value is not divided by two period.";
+
+    private final Logger logger = LoggerFactory.getLogger(JWSFactory.class);
 
     private final JsonConverter jsonConverter;
 
@@ -85,7 +93,7 @@ public class JWSFactory {
 
         String[] data = value.split("\\.");
         if (data.length != 3) {
-            throw new IllegalArgumentException("JWS value is not divided by two period.");
+            throw new IllegalArgumentException(NOT_DIVIDED_BY_TWO_PERIODS_ERROR_MESSAGE);
         }
         String headerString = data[0];
         String payloadString = data[1];
@@ -100,4 +108,83 @@ public class JWSFactory {
         return new JWS<>(header, headerString, payload, payloadString, signature);
     }
 
+    /**
+     * Parses a JWS compact serialization from the stream without holding it as a string.
+     * <p>
+     * The payload is base64url decoded and deserialized as it is read, and the signature is verified over the raw
+     * characters at the same time, so the signature verification result of the returned {@link JWS} is settled on return.
+     * Only the raw characters are kept, for {@link JWS#getBytes()}. The stream is not closed.
+     *
+     * @param src         stream of a JWS compact serialization
+     * @param payloadType payload type
+     * @param <T>         payload type
+     * @return parsed {@link JWS}
+     */
+    public <T extends Serializable> @NonNull JWS<T> parse(@NonNull InputStream src, @NonNull Class<T> payloadType) {
+        return parse(src, payloadType, -1);
+    }
+
+    /**
+     * Parses a JWS compact serialization from the stream without holding it as a string, like
+     * {@link #parse(InputStream, Class)}. The buffer of the raw characters is allocated with the expected length up front,
+     * so that it is neither grown nor trimmed while the stream is read.
+     *
+     * @param src            stream of a JWS compact serialization
+     * @param payloadType    payload type
+     * @param expectedLength expected length of the serialization such as a Content-Length, or a negative value if it is unknown
+     * @param <T>            payload type
+     * @return parsed {@link JWS}
+     */
+    public <T extends Serializable> @NonNull JWS<T> parse(@NonNull InputStream src, @NonNull Class<T> payloadType, int expectedLength) {
+        AssertUtil.notNull(src, "src must not be null");
+        AssertUtil.notNull(payloadType, "payloadType must not be null");
+
+        JWSSegmentInputStream segmentInputStream = new JWSSegmentInputStream(src, expectedLength);
+        Signature signatureObj = null;
+        try {
+            byte[] headerBytes = Base64UrlUtil.decode(segmentInputStream.readSegment());
+            if (!segmentInputStream.nextSegment()) {
+                throw new IllegalArgumentException(NOT_DIVIDED_BY_TWO_PERIODS_ERROR_MESSAGE);
+            }
+            JWSHeader header = jsonConverter.readValue(headerBytes, JWSHeader.class);
+            AssertUtil.notNull(header, HEADER_MUST_NOT_BE_NULL);
+            try {
+                signatureObj = JWS.initVerify(header);
+            } catch (InvalidKeyException e) {
+                logger.debug("Signature verification failed", e);
+            }
+            if (signatureObj != null) {
+                segmentInputStream.startSigning(signatureObj);
+            }
+
+            T payload = jsonConverter.readerFor(payloadType).readValue(segmentInputStream);
+            segmentInputStream.skipSegment();
+            segmentInputStream.stopSigning();
+            if (!segmentInputStream.nextSegment()) {
+                throw new IllegalArgumentException(NOT_DIVIDED_BY_TWO_PERIODS_ERROR_MESSAGE);
+            }
+            byte[] signature = Base64UrlUtil.decode(segmentInputStream.readSegment());
+            if (segmentInputStream.nextSegment()) {
+                throw new IllegalArgumentException(NOT_DIVIDED_BY_TWO_PERIODS_ERROR_MESSAGE);
+            }
+            AssertUtil.notNull(payload, PAYLOAD_MUST_NOT_BE_NULL);
+
+            boolean validSignature = false;
+            if (signatureObj != null) {
+                try {
+                    validSignature = JWS.verify(signatureObj, header, signature);
+                } catch (SignatureException e) {
+                    logger.debug("Signature verification failed", e);
+                }
+            }
+            return new JWS<>(header, payload, signature, segmentInputStream.getConsumedBuffer(), segmentInputStream.getConsumedLength(), validSignature);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (signatureObj != null) {
+                SignatureUtil.releaseSignature(signatureObj);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.jws;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.Arrays;
+
+/**
+ * Reads a JWS compact serialization from a stream segment by segment.
+ * <p>
+ * The segment being read can be consumed as a base64url decoded {@link InputStream}, so that a large payload is
+ * deserialized without being held as a string. Every consumed character is kept in a single buffer to serialize the JWS
+ * later, and fed to a {@link Signature} while signing is started. ASCII whitespace is skipped, as line breaks are
+ * sometimes inserted into stored BLOBs.
+ * <p>
+ * When the length of the serialization is known in advance, the buffer is allocated with that capacity up front,
+ * and it is handed over to {@link JWS} as is together with the consumed length, without being trimmed by a copy.
+ */
+class JWSSegmentInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int[] BASE64URL_VALUES = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL_VALUES, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL_VALUES[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final InputStream source;
+    private final byte[] readBuffer = new byte[BUFFER_SIZE];
+    private int readPosition;
+    private int readLimit;
+
+    private byte[] consumed;
+    private int consumedLength;
+
+    private boolean segmentEnded;
+    private boolean delimiterFound;
+
+    private int bits;
+    private int bitCount;
+    private int charCount;
+
+    private Signature signature;
+    private int signedLength;
+
+    JWSSegmentInputStream(@NonNull InputStream source) {
+        this(source, -1);
+    }
+
+    /**
+     * @param source         stream of a JWS compact serialization
+     * @param expectedLength expected length of the serialization, or a negative value if it is unknown
+     */
+    JWSSegmentInputStream(@NonNull InputStream source, int expectedLength) {
+        this.source = source;
+        this.consumed = new byte[expectedLength > 0 ? expectedLength : BUFFER_SIZE];
+    }
+
+    /**
+     * Reads the rest of the current segment without decoding it.
+     *
+     * @return base64url encoded segment
+     */
+    @NonNull byte[] readSegment() throws IOException {
+        int start = consumedLength;
+        skipSegment();
+        return Arrays.copyOfRange(consumed, start, consumedLength);
+    }
+
+    void skipSegment() throws IOException {
+        //noinspection StatementWithEmptyBody
+        while (nextChar() != -1) {
+        }
+        updateSignature();
+    }
+
+    /**
+     * Moves to the next segment. The current segment must be read to the end beforehand.
+     *
+     * @return true if the current segment was terminated by a period, false if it was terminated by the end of stream
+     */
+    boolean nextSegment() {
+        if (!delimiterFound) {
+            return false;
+        }
+        append((byte) '.');
+        segmentEnded = false;
+        delimiterFound = false;
+        bits = 0;
+        bitCount = 0;
+        charCount = 0;
+        return true;
+    }
+
+    /**
+     * Feeds the characters consumed so far and all characters consumed afterwards to the {@link Signature}
+     *
+     * @param signature {@link Signature} initialized for verification
+     */
+    void startSigning(@NonNull Signature signature) {
+        this.signature = signature;
+        this.signedLength = 0;
+        updateSignature();
+    }
+
+    void stopSigning() {
+        updateSignature();
+        this.signature = null;
+    }
+
+    /**
+     * Returns the buffer of the consumed characters, which are the JWS compact serialization without whitespace.
+     * Only the first {@link #getConsumedLength()} bytes are valid. The buffer is not copied.
+     *
+     * @return buffer of the consumed characters
+     */
+    @NonNull byte[] getConsumedBuffer() {
+        return consumed;
+    }
+
+    int getConsumedLength() {
+        return consumedLength;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int length = read(b, 0, 1);
+        return length == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(@NonNull byte[] b, int off, int len) throws IOException {
+        int produced = 0;
+        while (produced < len) {
+            int c = nextChar();
+            if (c == -1) {
+                if (charCount % 4 == 1) {
+                    throw new IllegalArgumentException("JWS segment is not valid base64url.");
+                }
+                break;
+            }
+            if (c == '=') {
+                continue;
+            }
+            int value = c < 128 ? BASE64URL_VALUES[c] : -1;
+            if (value == -1) {
+                throw new IllegalArgumentException("JWS segment is not valid base64url.");
+            }
+            charCount++;
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                b[off + produced] = (byte) (bits >> bitCount);
+                produced++;
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+        updateSignature();
+        return produced == 0 && len > 0 ? -1 : produced;
+    }
+
+    /**
+     * The underlying stream is owned by the caller, and is not closed.
+     */
+    @Override
+    public void close() {
+        // nop
+    }
+
+    private int nextChar() throws IOException {
+        while (!segmentEnded) {
+            if (readPosition == readLimit) {
+                readLimit = source.read(readBuffer, 0, BUFFER_SIZE);
+                readPosition = 0;
+                if (readLimit == -1) {
+                    readLimit = 0;
+                    segmentEnded = true;
+                    return -1;
+                }
+                continue;
+            }
+            byte c = readBuffer[readPosition++];
+            if (c == '.') {
+                segmentEnded = true;
+                delimiterFound = true;
+                return -1;
+            }
+            if (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                continue;
+            }
+            append(c);
+            return c & 0xFF;
+        }
+        return -1;
+    }
+
+    private void append(byte c) {
+        if (consumedLength == consumed.length) {
+            // grows by half as ArrayList does, as the slack is retained by the parsed JWS
+            consumed = Arrays.copyOf(consumed, consumed.length + (consumed.length >> 1));
+        }
+        consumed[consumedLength++] = c;
+    }
+
+    private void updateSignature() {
+        Signature current = signature;
+        if (current == null || signedLength == consumedLength) {
+            return;
+        }
+        try {
+            current.update(consumed, signedLength, consumedLength - signedLength);
+        } catch (SignatureException e) {
+            throw new IllegalStateException(e);
+        }
+        signedLength = consumedLength;
+    }
+}
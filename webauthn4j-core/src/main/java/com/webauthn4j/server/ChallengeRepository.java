@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Stores issued {@link Challenge}s until they are consumed by a WebAuthn ceremony or expire.
+ */
+public interface ChallengeRepository {
+
+    /**
+     * Saves an issued challenge
+     *
+     * @param challenge  challenge
+     * @param timeToLive duration the challenge can be consumed for
+     */
+    void save(@NonNull Challenge challenge, @NonNull Duration timeToLive);
+
+    /**
+     * Atomically removes the challenge. A challenge can be consumed only once.
+     *
+     * @param challenge challenge
+     * @return true if the challenge was saved and has not been consumed nor expired
+     */
+    boolean consume(@NonNull Challenge challenge);
+
+}
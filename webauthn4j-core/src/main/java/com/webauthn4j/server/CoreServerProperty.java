@@ -17,24 +17,50 @@
 package com.webauthn4j.server;
 
 import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 
 public class CoreServerProperty implements Serializable {
 
+    // pinned to the value of the serialized form before rpIdHash was precomputed, which is unchanged as rpIdHash is transient
+    private static final long serialVersionUID = 7160853126977268921L;
+
     private final String rpId;
+    private transient byte[] rpIdHash;
     private final Challenge challenge;
 
     public CoreServerProperty(@NonNull String rpId, @Nullable Challenge challenge) {
+        this(rpId, calculateRpIdHash(rpId), challenge);
+    }
+
+    CoreServerProperty(@NonNull String rpId, @NonNull byte[] rpIdHash, @Nullable Challenge challenge) {
         AssertUtil.notNull(rpId, "rpId must not be null");
+        AssertUtil.notNull(rpIdHash, "rpIdHash must not be null");
         this.rpId = rpId;
+        this.rpIdHash = rpIdHash;
         this.challenge = challenge;
     }
 
+    static @NonNull byte[] calculateRpIdHash(@NonNull String rpId) {
+        AssertUtil.notNull(rpId, "rpId must not be null");
+        return MessageDigestUtil.digestSHA256(rpId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void readObject(@NonNull ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
+        objectInputStream.defaultReadObject();
+        this.rpIdHash = calculateRpIdHash(rpId);
+    }
+
     /**
      * Returns the rpId
      *
@@ -44,6 +70,27 @@ public class CoreServerProperty implements Serializable {
         return rpId;
     }
 
+    /**
+     * Returns the SHA-256 hash of the rpId, which is calculated once on construction
+     *
+     * @return the rpIdHash
+     */
+    public @NonNull byte[] getRpIdHash() {
+        return ArrayUtil.clone(rpIdHash);
+    }
+
+    /**
+     * Returns whether the specified rpIdHash equals to the hash of the rpId, without copying the precomputed hash
+     *
+     * @param rpIdHash rpIdHash to compare
+     * @return true if it matches
+     */
+    public boolean matchesRpIdHash(@Nullable byte[] rpIdHash) {
+        // As rpIdHash is known data to client side(potential attacker) because it is calculated from parts of a message,
+        // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
+        return Arrays.equals(this.rpIdHash, rpIdHash);
+    }
+
     /**
      * Returns the {@link Challenge}
      *
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * In-memory {@link ChallengeRepository} for a single server instance.
+ * <p>
+ * Challenges are spread over lock-striped shards, so that concurrent save and consume calls rarely contend.
+ * There is no sweeper thread. Each save evicts a bounded number of expired entries of the shard it writes to,
+ * in the order they were saved, which keeps the cost of expiry amortized. When challenges are saved with the same
+ * time to live, the size of every shard is bounded by the number of challenges saved within the time to live.
+ */
+public class InMemoryChallengeRepository implements ChallengeRepository {
+
+    private static final int MAX_EVICTIONS_PER_SAVE = 4;
+
+    private final Shard[] shards;
+    private final int shardMask;
+    private final Clock clock;
+
+    public InMemoryChallengeRepository(int shardCount, @NonNull Clock clock) {
+        AssertUtil.isTrue(shardCount > 0, "shardCount must be positive");
+        AssertUtil.notNull(clock, "clock must not be null");
+        // round up to a power of two so that a shard is selected by masking
+        int size = Integer.highestOneBit(shardCount * 2 - 1);
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard();
+        }
+        this.shardMask = size - 1;
+        this.clock = clock;
+    }
+
+    public InMemoryChallengeRepository() {
+        this(Runtime.getRuntime().availableProcessors() * 4, Clock.systemUTC());
+    }
+
+    @Override
+    public void save(@NonNull Challenge challenge, @NonNull Duration timeToLive) {
+        AssertUtil.notNull(challenge, "challenge must not be null");
+        AssertUtil.notNull(timeToLive, "timeToLive must not be null");
+        AssertUtil.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+        ByteBuffer key = ByteBuffer.wrap(challenge.getValue());
+        long now = clock.millis();
+        selectShard(key).save(key, now + timeToLive.toMillis(), now);
+    }
+
+    @Override
+    public boolean consume(@NonNull Challenge challenge) {
+        AssertUtil.notNull(challenge, "challenge must not be null");
+        ByteBuffer key = ByteBuffer.wrap(challenge.getValue());
+        return selectShard(key).consume(key, clock.millis());
+    }
+
+    /**
+     * Returns the number of stored challenges, including expired ones which are not evicted yet.
+     *
+     * @return the number of stored challenges
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private @NonNull Shard selectShard(@NonNull ByteBuffer key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & shardMask];
+    }
+
+    private static class Shard {
+
+        private final Map<ByteBuffer, Long> expirations = new HashMap<>();
+        private final Queue<Entry> insertionOrder = new ArrayDeque<>();
+
+        private synchronized void save(@NonNull ByteBuffer key, long expiresAt, long now) {
+            evictExpired(now);
+            expirations.put(key, expiresAt);
+            insertionOrder.add(new Entry(key, expiresAt));
+        }
+
+        private synchronized boolean consume(@NonNull ByteBuffer key, long now) {
+            Long expiresAt = expirations.remove(key);
+            return expiresAt != null && now < expiresAt;
+        }
+
+        private synchronized int size() {
+            return expirations.size();
+        }
+
+        private void evictExpired(long now) {
+            for (int i = 0; i < MAX_EVICTIONS_PER_SAVE; i++) {
+                Entry head = insertionOrder.peek();
+                if (head == null) {
+                    return;
+                }
+                Long expiresAt = expirations.get(head.key);
+                if (expiresAt != null && expiresAt != head.expiresAt) {
+                    // the challenge was saved again after this entry, so this entry is stale
+                    insertionOrder.poll();
+                    continue;
+                }
+                if (expiresAt != null && now < expiresAt) {
+                    return;
+                }
+                insertionOrder.poll();
+                expirations.remove(head.key);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final ByteBuffer key;
+        private final long expiresAt;
+
+        private Entry(@NonNull ByteBuffer key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
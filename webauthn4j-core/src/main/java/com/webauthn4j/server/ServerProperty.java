@@ -36,6 +36,9 @@ public class ServerProperty extends CoreServerProperty {
     // ~ Instance fields
     // ================================================================================================
 
+    // pinned to the value before the package-private constructor taking a precomputed rpIdHash was added
+    private static final long serialVersionUID = -8879626855363070142L;
+
     private final Set<Origin> origins;
     private final byte[] tokenBindingId;
 
@@ -68,6 +71,13 @@ public class ServerProperty extends CoreServerProperty {
         this.tokenBindingId = tokenBindingId;
     }
 
+    ServerProperty(@NonNull Set<Origin> origins, @NonNull String rpId, @NonNull byte[] rpIdHash, @Nullable Challenge challenge, @Nullable byte[] tokenBindingId) {
+        super(rpId, rpIdHash, challenge);
+        AssertUtil.notNull(origins, "origins must not be null");
+        this.origins = origins;
+        this.tokenBindingId = tokenBindingId;
+    }
+
     // ~ Methods
     // ========================================================================================================
 
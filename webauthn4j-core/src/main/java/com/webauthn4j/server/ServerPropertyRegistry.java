@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link ServerProperty} templates of multiple relying parties, indexed by rpIdHash.
+ * <p>
+ * It lets a multi-tenant server pick the relying party of a request from the rpIdHash in authenticatorData
+ * with a single hash table lookup, and create the {@link ServerProperty} for the request without hashing the rpId again.
+ * The challenge of a registered template is ignored.
+ */
+public class ServerPropertyRegistry {
+
+    private final ConcurrentMap<ByteBuffer, ServerProperty> serverProperties = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the template. A template already registered for the same rpId is replaced.
+     *
+     * @param serverProperty template
+     */
+    public void register(@NonNull ServerProperty serverProperty) {
+        AssertUtil.notNull(serverProperty, "serverProperty must not be null");
+        serverProperties.put(ByteBuffer.wrap(serverProperty.getRpIdHash()), serverProperty);
+    }
+
+    /**
+     * Removes the template registered for the rpId.
+     *
+     * @param rpId rpId
+     */
+    public void unregister(@NonNull String rpId) {
+        AssertUtil.notNull(rpId, "rpId must not be null");
+        serverProperties.remove(ByteBuffer.wrap(CoreServerProperty.calculateRpIdHash(rpId)));
+    }
+
+    /**
+     * Returns the template registered for the rpIdHash.
+     *
+     * @param rpIdHash rpIdHash in authenticatorData
+     * @return template, or null if no relying party is registered for the rpIdHash
+     */
+    public @Nullable ServerProperty find(@NonNull byte[] rpIdHash) {
+        AssertUtil.notNull(rpIdHash, "rpIdHash must not be null");
+        return serverProperties.get(ByteBuffer.wrap(rpIdHash));
+    }
+
+    /**
+     * Returns a {@link ServerProperty} for a request, which has the origins, rpId and tokenBindingId of the template
+     * registered for the rpIdHash, and the specified challenge.
+     *
+     * @param rpIdHash  rpIdHash in authenticatorData
+     * @param challenge challenge of the request
+     * @return server property, or null if no relying party is registered for the rpIdHash
+     */
+    public @Nullable ServerProperty find(@NonNull byte[] rpIdHash, @Nullable Challenge challenge) {
+        ServerProperty template = find(rpIdHash);
+        if (template == null) {
+            return null;
+        }
+        return new ServerProperty(template.getOrigins(), template.getRpId(), template.getRpIdHash(), challenge, template.getTokenBindingId());
+    }
+
+    /**
+     * Returns all registered templates.
+     *
+     * @return templates
+     */
+    public @NonNull Collection<ServerProperty> getServerProperties() {
+        return Collections.unmodifiableCollection(serverProperties.values());
+    }
+}
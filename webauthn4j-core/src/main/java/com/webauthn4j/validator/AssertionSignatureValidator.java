@@ -21,6 +21,7 @@ import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.data.SignatureAlgorithm;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.validator.exception.BadSignatureException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.slf4j.Logger;
@@ -62,14 +63,18 @@ public class AssertionSignatureValidator {
             //noinspection ConstantConditions as null check is already done in caller
             SignatureAlgorithm signatureAlgorithm = coseKey.getAlgorithm().toSignatureAlgorithm();
             String jcaName = signatureAlgorithm.getJcaName();
-            Signature verifier = Signature.getInstance(jcaName);
-            verifier.initVerify(publicKey);
-            verifier.update(data);
-            return verifier.verify(signature);
+            Signature verifier = SignatureUtil.acquireSignature(jcaName);
+            try {
+                verifier.initVerify(publicKey);
+                verifier.update(data);
+                return verifier.verify(signature);
+            } finally {
+                SignatureUtil.releaseSignature(verifier);
+            }
         } catch (IllegalArgumentException e) {
             logger.debug("COSE key alg must be signature algorithm.", e);
             return false;
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | RuntimeException e) {
+        } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             logger.debug("Unexpected exception is thrown during signature verification.", e);
             return false;
         }
@@ -26,6 +26,7 @@ import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthen
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.server.ChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.exception.*;
@@ -203,17 +204,17 @@ public class AuthenticationDataValidator {
         if (presentedSignCount > 0 || storedSignCount > 0) {
             //spec| If authData.signCount is
             //spec| greater than storedSignCount:
-            if (presentedSignCount > storedSignCount) {
-
-                //spec| Update storedSignCount to be the value of authData.signCount.
-                //      (caller need to update the signature counter value based on the value set in the Authenticator instance)
-                authenticator.setCounter(presentedSignCount);
+            //spec| Update storedSignCount to be the value of authData.signCount.
+            //      (caller need to update the signature counter value based on the value set in the Authenticator instance.
+            //       the stored value is read again when another authentication updated it concurrently)
+            while (presentedSignCount > storedSignCount && !CoreAuthenticationDataValidator.updateCounter(authenticator, storedSignCount, presentedSignCount)) {
+                storedSignCount = authenticator.getCounter();
             }
             //spec| less than or equal to storedSignCount:
             //spec| This is a signal that the authenticator may be cloned, i.e. at least two copies of the credential private key may exist and are being used in parallel.
             //spec| Relying Parties should incorporate this information into their risk scoring.
             //spec| Whether the Relying Party updates storedSignCount in this case, or not, or fails the authentication ceremony or not, is Relying Party-specific.
-            else {
+            if (presentedSignCount <= storedSignCount) {
                 maliciousCounterValueHandler.maliciousCounterValueDetected(authenticationObject);
             }
         }
@@ -257,6 +258,20 @@ public class AuthenticationDataValidator {
         this.maliciousCounterValueHandler = maliciousCounterValueHandler;
     }
 
+    public @Nullable ChallengeRepository getChallengeRepository() {
+        return challengeValidator.getChallengeRepository();
+    }
+
+    /**
+     * Sets the {@link ChallengeRepository} the challenge in collectedClientData is consumed from.
+     * When it is set, the challenge in {@link com.webauthn4j.server.ServerProperty} can be omitted.
+     *
+     * @param challengeRepository challenge repository, or null to validate the challenge only against {@link com.webauthn4j.server.ServerProperty}
+     */
+    public void setChallengeRepository(@Nullable ChallengeRepository challengeRepository) {
+        challengeValidator.setChallengeRepository(challengeRepository);
+    }
+
     public OriginValidator getOriginValidator() {
         return originValidator;
     }
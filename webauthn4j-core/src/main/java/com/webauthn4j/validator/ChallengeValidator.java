@@ -18,11 +18,13 @@ package com.webauthn4j.validator;
 
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.server.ChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.exception.BadChallengeException;
 import com.webauthn4j.validator.exception.MissingChallengeException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.security.MessageDigest;
 
@@ -34,6 +36,7 @@ class ChallengeValidator {
     //~ Instance fields
     // ================================================================================================
 
+    private ChallengeRepository challengeRepository;
 
     // ~ Methods
     // ========================================================================================================
@@ -43,13 +46,19 @@ class ChallengeValidator {
         Challenge savedChallenge = serverProperty.getChallenge();
         Challenge collectedChallenge = collectedClientData.getChallenge();
 
-        if (savedChallenge == null) {
+        if (savedChallenge == null && challengeRepository == null) {
             throw new MissingChallengeException("The server doesn't have a challenge. The client must request the server to issue the challenge before WebAuthn operations.");
         }
 
         // Verify that the challenge member of the collectedClientData matches the challenge that was sent to
         // the authenticator in the PublicKeyCredentialRequestOptions passed to the get() call.
-        validate(savedChallenge, collectedChallenge);
+        if (savedChallenge != null) {
+            validate(savedChallenge, collectedChallenge);
+        }
+        // The challenge is consumed even if later validation steps fail, so that it cannot be replayed.
+        if (challengeRepository != null && !challengeRepository.consume(collectedChallenge)) {
+            throw new BadChallengeException("The challenge is not issued by the server, or is already consumed or expired");
+        }
     }
 
     public void validate(@NonNull Challenge expected, @NonNull Challenge actual) {
@@ -62,4 +71,12 @@ class ChallengeValidator {
             throw new BadChallengeException("The actual challenge does not match the expected challenge");
         }
     }
+
+    public @Nullable ChallengeRepository getChallengeRepository() {
+        return challengeRepository;
+    }
+
+    public void setChallengeRepository(@Nullable ChallengeRepository challengeRepository) {
+        this.challengeRepository = challengeRepository;
+    }
 }
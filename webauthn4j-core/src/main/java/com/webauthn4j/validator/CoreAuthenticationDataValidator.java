@@ -16,6 +16,7 @@
 
 package com.webauthn4j.validator;
 
+import com.webauthn4j.authenticator.AtomicCounterAuthenticator;
 import com.webauthn4j.authenticator.CoreAuthenticator;
 import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.data.CoreAuthenticationParameters;
@@ -202,17 +203,17 @@ public class CoreAuthenticationDataValidator {
         if (presentedSignCount > 0 || storedSignCount > 0) {
             //spec| If authData.signCount is
             //spec| greater than storedSignCount:
-            if (presentedSignCount > storedSignCount) {
-
-                //spec| Update storedSignCount to be the value of authData.signCount.
-                //      (caller need to update the signature counter value based on the value set in the Authenticator instance)
-                authenticator.setCounter(presentedSignCount);
+            //spec| Update storedSignCount to be the value of authData.signCount.
+            //      (caller need to update the signature counter value based on the value set in the Authenticator instance.
+            //       the stored value is read again when another authentication updated it concurrently)
+            while (presentedSignCount > storedSignCount && !updateCounter(authenticator, storedSignCount, presentedSignCount)) {
+                storedSignCount = authenticator.getCounter();
             }
             //spec| less than or equal to storedSignCount:
             //spec| This is a signal that the authenticator may be cloned, i.e. at least two copies of the credential private key may exist and are being used in parallel.
             //spec| Relying Parties should incorporate this information into their risk scoring.
             //spec| Whether the Relying Party updates storedSignCount in this case, or not, or fails the authentication ceremony or not, is Relying Party-specific.
-            else {
+            if (presentedSignCount <= storedSignCount) {
                 coreMaliciousCounterValueHandler.maliciousCounterValueDetected(authenticationObject);
             }
         }
@@ -249,6 +250,21 @@ public class CoreAuthenticationDataValidator {
         }
     }
 
+    /**
+     * Updates the counter to the presented value if it still has the stored value.
+     * {@link AtomicCounterAuthenticator}s are updated by compare-and-set, so that only one of concurrent authentications
+     * presenting a newer counter value succeeds.
+     *
+     * @return false if the counter was updated concurrently
+     */
+    static boolean updateCounter(@NonNull CoreAuthenticator authenticator, long storedSignCount, long presentedSignCount) {
+        if (authenticator instanceof AtomicCounterAuthenticator) {
+            return ((AtomicCounterAuthenticator) authenticator).compareAndSetCounter(storedSignCount, presentedSignCount);
+        }
+        authenticator.setCounter(presentedSignCount);
+        return true;
+    }
+
     void validateAuthenticatorData(@NonNull AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData) {
         if (authenticatorData.getAttestedCredentialData() != null) {
             throw new ConstraintViolationException("attestedCredentialData must be null on authentication");
@@ -37,6 +37,7 @@ import com.webauthn4j.validator.exception.UserNotPresentException;
 import com.webauthn4j.validator.exception.UserNotVerifiedException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.time.Instant;
 import java.util.List;
 
 public class CoreRegistrationDataValidator {
@@ -227,8 +228,10 @@ public class CoreRegistrationDataValidator {
         return new CoreRegistrationObject(
                 registrationData.getAttestationObject(),
                 registrationData.getAttestationObjectBytes(),
+                registrationData.getAuthenticatorDataBytes(),
                 registrationData.getClientDataHash(),
-                registrationParameters.getServerProperty()
+                registrationParameters.getServerProperty(),
+                Instant.now()
         );
     }
 
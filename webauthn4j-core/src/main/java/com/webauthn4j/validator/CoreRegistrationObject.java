@@ -40,9 +40,24 @@ public class CoreRegistrationObject {
     private final CoreServerProperty serverProperty;
     private final Instant timestamp;
 
+    // captured on parse, or extracted from attestationObjectBytes on first access if not provided
+    private volatile byte[] authenticatorDataBytes;
+
+    /**
+     * Constructor
+     *
+     * @param attestationObject      attestation object
+     * @param attestationObjectBytes attestation object byte array
+     * @param authenticatorDataBytes authenticatorData byte array captured while parsing the attestation object.
+     *                               If null, it is extracted from attestationObjectBytes on first access.
+     * @param clientDataHash         client data hash
+     * @param serverProperty         server property
+     * @param timestamp              timestamp
+     */
     public CoreRegistrationObject(
             @NonNull AttestationObject attestationObject,
             @NonNull byte[] attestationObjectBytes,
+            @Nullable byte[] authenticatorDataBytes,
             @NonNull byte[] clientDataHash,
             @NonNull CoreServerProperty serverProperty,
             @NonNull Instant timestamp) {
@@ -55,11 +70,22 @@ public class CoreRegistrationObject {
 
         this.attestationObject = attestationObject;
         this.attestationObjectBytes = attestationObjectBytes;
+        this.authenticatorDataBytes = authenticatorDataBytes;
         this.clientDataHash = clientDataHash;
         this.serverProperty = serverProperty;
         this.timestamp = timestamp;
     }
 
+    public CoreRegistrationObject(
+            @NonNull AttestationObject attestationObject,
+            @NonNull byte[] attestationObjectBytes,
+            @NonNull byte[] clientDataHash,
+            @NonNull CoreServerProperty serverProperty,
+            @NonNull Instant timestamp) {
+
+        this(attestationObject, attestationObjectBytes, null, clientDataHash, serverProperty, timestamp);
+    }
+
     public CoreRegistrationObject(
             @NonNull AttestationObject attestationObject,
             @NonNull byte[] attestationObjectBytes,
@@ -82,7 +108,12 @@ public class CoreRegistrationObject {
     }
 
     public @NonNull byte[] getAuthenticatorDataBytes() {
-        return extractAuthenticatorData(attestationObjectBytes);
+        byte[] value = authenticatorDataBytes;
+        if (value == null) {
+            value = extractAuthenticatorData(attestationObjectBytes);
+            authenticatorDataBytes = value;
+        }
+        return ArrayUtil.clone(value);
     }
 
     public @NonNull byte[] getClientDataHash() {
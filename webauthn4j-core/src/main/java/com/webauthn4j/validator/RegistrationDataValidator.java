@@ -30,6 +30,7 @@ import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthe
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
@@ -37,7 +38,9 @@ import com.webauthn4j.validator.attestation.trustworthiness.certpath.CertPathTru
 import com.webauthn4j.validator.attestation.trustworthiness.self.SelfAttestationTrustworthinessValidator;
 import com.webauthn4j.validator.exception.*;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -127,11 +130,13 @@ public class RegistrationDataValidator {
         RegistrationObject registrationObject = new RegistrationObject(
                 attestationObject,
                 attestationObjectBytes,
+                registrationData.getAuthenticatorDataBytes(),
                 collectedClientData,
                 clientDataBytes,
                 clientExtensions,
                 transports,
-                serverProperty
+                serverProperty,
+                Instant.now()
         );
 
         AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData = attestationObject.getAuthenticatorData();
@@ -251,6 +256,20 @@ public class RegistrationDataValidator {
         }
     }
 
+    public @Nullable ChallengeRepository getChallengeRepository() {
+        return challengeValidator.getChallengeRepository();
+    }
+
+    /**
+     * Sets the {@link ChallengeRepository} the challenge in collectedClientData is consumed from.
+     * When it is set, the challenge in {@link com.webauthn4j.server.ServerProperty} can be omitted.
+     *
+     * @param challengeRepository challenge repository, or null to validate the challenge only against {@link com.webauthn4j.server.ServerProperty}
+     */
+    public void setChallengeRepository(@Nullable ChallengeRepository challengeRepository) {
+        challengeValidator.setChallengeRepository(challengeRepository);
+    }
+
     public OriginValidator getOriginValidator() {
         return originValidator;
     }
@@ -53,6 +53,7 @@ public class RegistrationObject extends CoreRegistrationObject {
     public RegistrationObject(
             @NonNull AttestationObject attestationObject,
             @NonNull byte[] attestationObjectBytes,
+            @Nullable byte[] authenticatorDataBytes,
             @NonNull CollectedClientData collectedClientData,
             @NonNull byte[] collectedClientDataBytes,
             @Nullable AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions,
@@ -60,7 +61,7 @@ public class RegistrationObject extends CoreRegistrationObject {
             @NonNull ServerProperty serverProperty,
             @NonNull Instant timestamp) {
 
-        super(attestationObject, attestationObjectBytes, MessageDigestUtil.createSHA256().digest(collectedClientDataBytes), serverProperty, timestamp);
+        super(attestationObject, attestationObjectBytes, authenticatorDataBytes, MessageDigestUtil.digestSHA256(collectedClientDataBytes), serverProperty, timestamp);
 
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(collectedClientDataBytes, "collectedClientDataBytes must not be null");
@@ -71,6 +72,20 @@ public class RegistrationObject extends CoreRegistrationObject {
         this.transports = CollectionUtil.unmodifiableSet(transports);
     }
 
+    @SuppressWarnings("squid:S00107")
+    public RegistrationObject(
+            @NonNull AttestationObject attestationObject,
+            @NonNull byte[] attestationObjectBytes,
+            @NonNull CollectedClientData collectedClientData,
+            @NonNull byte[] collectedClientDataBytes,
+            @Nullable AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions,
+            @Nullable Set<AuthenticatorTransport> transports,
+            @NonNull ServerProperty serverProperty,
+            @NonNull Instant timestamp) {
+
+        this(attestationObject, attestationObjectBytes, null, collectedClientData, collectedClientDataBytes, clientExtensions, transports, serverProperty, timestamp);
+    }
+
     public RegistrationObject(
             @NonNull AttestationObject attestationObject,
             @NonNull byte[] attestationObjectBytes,
@@ -98,11 +98,15 @@ public class AndroidKeyAttestationStatementValidator extends AbstractStatementVa
         try {
             String jcaName;
             jcaName = getJcaName(attestationStatement.getAlg());
-            Signature verifier = SignatureUtil.createSignature(jcaName);
-            verifier.initVerify(publicKey);
-            verifier.update(signedData);
-            if (verifier.verify(signature)) {
-                return;
+            Signature verifier = SignatureUtil.acquireSignature(jcaName);
+            try {
+                verifier.initVerify(publicKey);
+                verifier.update(signedData);
+                if (verifier.verify(signature)) {
+                    return;
+                }
+            } finally {
+                SignatureUtil.releaseSignature(verifier);
             }
             throw new BadSignatureException("`sig` in attestation statement is not valid signature over the concatenation of authenticatorData and clientDataHash.");
         } catch (SignatureException | InvalidKeyException e) {
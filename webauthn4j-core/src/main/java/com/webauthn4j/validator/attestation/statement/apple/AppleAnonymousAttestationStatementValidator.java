@@ -94,7 +94,7 @@ public class AppleAnonymousAttestationStatementValidator extends AbstractStateme
         byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
         byte[] clientDataHash = registrationObject.getClientDataHash();
         byte[] nonceToHash = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(nonceToHash);
+        return MessageDigestUtil.digestSHA256(nonceToHash);
     }
 
     private void validatePublicKey(@NonNull CoreRegistrationObject registrationObject, @NonNull AppleAnonymousAttestationStatement attestationStatement) {
@@ -145,11 +145,15 @@ public class PackedAttestationStatementValidator extends AbstractStatementValida
     private boolean verifySignature(@NonNull PublicKey publicKey, @NonNull COSEAlgorithmIdentifier algorithmIdentifier, @NonNull byte[] signature, @NonNull byte[] data) {
         try {
             String jcaName = getJcaName(algorithmIdentifier);
-            Signature verifier = SignatureUtil.createSignature(jcaName);
-            verifier.initVerify(publicKey);
-            verifier.update(data);
-
-            return verifier.verify(signature);
+            Signature verifier = SignatureUtil.acquireSignature(jcaName);
+            try {
+                verifier.initVerify(publicKey);
+                verifier.update(data);
+
+                return verifier.verify(signature);
+            } finally {
+                SignatureUtil.releaseSignature(verifier);
+            }
         } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             return false;
         }
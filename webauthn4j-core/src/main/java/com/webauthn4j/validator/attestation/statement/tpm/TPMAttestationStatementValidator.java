@@ -129,7 +129,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
         String algJcaName;
         algJcaName = getAlgJcaName(hashAlg);
 
-        byte[] pubAreaDigest = MessageDigestUtil.createMessageDigest(algJcaName).digest(pubArea.getBytes());
+        byte[] pubAreaDigest = MessageDigestUtil.digest(algJcaName, pubArea.getBytes());
         // As pubAreaDigest is known data to client side(potential attacker) because it is calculated from parts of a message,
         // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
         if (!Arrays.equals(pubAreaDigest, certifyInfo.getName().getDigest())) {
@@ -181,7 +181,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
 
         /// Verify the sig is a valid signature over certInfo using the attestation public key in aikCert with the algorithm specified in alg.
         String jcaName = getJcaName(attestationStatement.getAlg());
-        Signature certInfoSignature = SignatureUtil.createSignature(jcaName);
+        Signature certInfoSignature = SignatureUtil.acquireSignature(jcaName);
         try {
             certInfoSignature.initVerify(aikCert.getPublicKey());
             certInfoSignature.update(certInfo.getBytes());
@@ -190,6 +190,8 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
             }
         } catch (SignatureException | InvalidKeyException e) {
             throw new BadAttestationStatementException("Failed to validate the signature.", e);
+        } finally {
+            SignatureUtil.releaseSignature(certInfoSignature);
         }
 
         /// Verify that aikCert meets the requirements in §8.3.1 TPM Attestation Statement Certificate Requirements.
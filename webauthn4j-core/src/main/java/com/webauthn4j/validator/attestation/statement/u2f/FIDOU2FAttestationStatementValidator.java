@@ -24,6 +24,7 @@ import com.webauthn4j.data.attestation.statement.FIDOU2FAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.ECUtil;
 import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AbstractStatementValidator;
 import com.webauthn4j.validator.exception.BadAttestationStatementException;
@@ -93,14 +94,18 @@ public class FIDOU2FAttestationStatementValidator extends AbstractStatementValid
         PublicKey publicKey = getPublicKey(attestationStatement);
 
         try {
-            Signature verifier = Signature.getInstance("SHA256withECDSA");
-            verifier.initVerify(publicKey);
-            verifier.update(signedData);
-            if (verifier.verify(signature)) {
-                return;
+            Signature verifier = SignatureUtil.acquireSignature("SHA256withECDSA");
+            try {
+                verifier.initVerify(publicKey);
+                verifier.update(signedData);
+                if (verifier.verify(signature)) {
+                    return;
+                }
+            } finally {
+                SignatureUtil.releaseSignature(verifier);
             }
             throw new BadSignatureException("`sig` in attestation statement is not valid signature. Please refer U2F Raw Message Formats. https://fidoalliance.org/specs/fido-u2f-v1.1-id-20160915/fido-u2f-raw-message-formats-v1.1-id-20160915.html");
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException e) {
+        } catch (SignatureException | InvalidKeyException e) {
             throw new BadSignatureException("`sig` in attestation statement is not valid signature. Please refer U2F Raw Message Formats. https://fidoalliance.org/specs/fido-u2f-v1.1-id-20160915/fido-u2f-raw-message-formats-v1.1-id-20160915.html");
         }
     }
@@ -108,8 +113,6 @@ public class FIDOU2FAttestationStatementValidator extends AbstractStatementValid
     private byte[] getSignedData(@NonNull CoreRegistrationObject registrationObject) {
 
         String rpId = registrationObject.getServerProperty().getRpId();
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-
         AttestationObject attestationObject = registrationObject.getAttestationObject();
         //noinspection ConstantConditions as null check is already done in caller
         EC2COSEKey credentialPublicKey =
@@ -117,7 +120,7 @@ public class FIDOU2FAttestationStatementValidator extends AbstractStatementValid
 
         byte[] rpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
 
-        byte[] applicationParameter = messageDigest.digest(rpIdBytes);
+        byte[] applicationParameter = MessageDigestUtil.digestSHA256(rpIdBytes);
         byte[] challengeParameter = registrationObject.getClientDataHash();
         byte[] keyHandle = attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId();
         byte[] userPublicKeyBytes = getPublicKeyBytes(credentialPublicKey);
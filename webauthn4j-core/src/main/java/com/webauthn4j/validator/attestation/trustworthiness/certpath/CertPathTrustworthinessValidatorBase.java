@@ -23,9 +23,11 @@ import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.validator.exception.CertificateException;
 import com.webauthn4j.validator.exception.TrustAnchorNotFoundException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Set;
@@ -35,6 +37,9 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
     private boolean fullChainProhibited = false;
     private boolean revocationCheckEnabled = false;
     private boolean policyQualifiersRejected = false;
+    private int validationCacheSize = 0;
+    private Duration validationCacheTimeBucket = Duration.ofHours(1);
+    private volatile CertPathValidationCache validationCache;
 
     public void validate(@NonNull AAGUID aaguid, @NonNull CertificateBaseAttestationStatement attestationStatement, @NonNull Instant timestamp) {
         AssertUtil.notNull(aaguid, "aaguid must not be null");
@@ -50,6 +55,39 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
             throw new TrustAnchorNotFoundException("TrustAnchors are not found for AAGUID: " + aaguid.toString());
         }
 
+        TrustAnchor trustAnchor = validateCertPath(certPath, trustAnchors, timestamp, revocationCheckEnabled, policyQualifiersRejected, validationCache);
+        if (fullChainProhibited && certPath.getCertificates().contains(trustAnchor.getTrustedCert())) {
+            throw new CertificateException("`certpath` must not contain full chain.");
+        }
+    }
+
+    protected abstract @NonNull Set<TrustAnchor> resolveTrustAnchors(@NonNull AAGUID aaguid);
+
+    /**
+     * Validates the certificate path with PKIX unless a successful validation of it is found in the cache,
+     * and caches the result. Revocation status can change at any time, so the cache is neither read nor written
+     * when revocation check is enabled.
+     *
+     * @param certPath                 certificate path
+     * @param trustAnchors             trust anchors
+     * @param timestamp                validation time
+     * @param revocationCheckEnabled   whether revocation is checked
+     * @param policyQualifiersRejected whether policy qualifiers are rejected
+     * @param validationCache          cache, or null if it is disabled
+     * @return trust anchor the path is validated against
+     */
+    static @NonNull TrustAnchor validateCertPath(@NonNull CertPath certPath, @NonNull Set<TrustAnchor> trustAnchors, @NonNull Instant timestamp,
+                                                 boolean revocationCheckEnabled, boolean policyQualifiersRejected, @Nullable CertPathValidationCache validationCache) {
+        CertPathValidationCache cache = revocationCheckEnabled ? null : validationCache;
+        CertPathValidationCache.Key cacheKey = null;
+        if (cache != null) {
+            cacheKey = cache.createKey(certPath, trustAnchors, timestamp, policyQualifiersRejected);
+            TrustAnchor cachedTrustAnchor = cache.get(cacheKey, trustAnchors, timestamp);
+            if (cachedTrustAnchor != null) {
+                return cachedTrustAnchor;
+            }
+        }
+
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
         PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
         certPathParameters.setPolicyQualifiersRejected(policyQualifiersRejected);
@@ -65,13 +103,13 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         } catch (CertPathValidatorException e) {
             throw new com.webauthn4j.validator.exception.CertificateException("invalid cert path", e);
         }
-        if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
-            throw new CertificateException("`certpath` must not contain full chain.");
+        TrustAnchor trustAnchor = result.getTrustAnchor();
+        if (cache != null) {
+            cache.put(cacheKey, certPath, trustAnchor);
         }
+        return trustAnchor;
     }
 
-    protected abstract @NonNull Set<TrustAnchor> resolveTrustAnchors(@NonNull AAGUID aaguid);
-
 
     public boolean isFullChainProhibited() {
         return fullChainProhibited;
@@ -96,4 +134,41 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
     public void setPolicyQualifiersRejected(boolean policyQualifiersRejected) {
         this.policyQualifiersRejected = policyQualifiersRejected;
     }
+
+    public int getValidationCacheSize() {
+        return validationCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of successful certificate path validations to cache.
+     * A repeated certificate path validated against the same trust anchors within the same time bucket skips PKIX validation.
+     * The cache is not used while revocation check is enabled. 0, which is the default, disables the cache.
+     *
+     * @param validationCacheSize maximum number of cached validations
+     */
+    public void setValidationCacheSize(int validationCacheSize) {
+        AssertUtil.isTrue(validationCacheSize >= 0, "validationCacheSize must not be negative");
+        this.validationCacheSize = validationCacheSize;
+        this.validationCache = validationCacheSize == 0 ? null : new CertPathValidationCache(validationCacheSize, validationCacheTimeBucket);
+    }
+
+    public @NonNull Duration getValidationCacheTimeBucket() {
+        return validationCacheTimeBucket;
+    }
+
+    /**
+     * Sets the granularity of the validation time used as a part of the cache key.
+     *
+     * @param validationCacheTimeBucket time bucket
+     */
+    public void setValidationCacheTimeBucket(@NonNull Duration validationCacheTimeBucket) {
+        AssertUtil.notNull(validationCacheTimeBucket, "validationCacheTimeBucket must not be null");
+        AssertUtil.isTrue(!validationCacheTimeBucket.isNegative() && !validationCacheTimeBucket.isZero(), "validationCacheTimeBucket must be positive");
+        this.validationCacheTimeBucket = validationCacheTimeBucket;
+        this.validationCache = validationCacheSize == 0 ? null : new CertPathValidationCache(validationCacheSize, validationCacheTimeBucket);
+    }
+
+    @Nullable CertPathValidationCache getValidationCache() {
+        return validationCache;
+    }
 }
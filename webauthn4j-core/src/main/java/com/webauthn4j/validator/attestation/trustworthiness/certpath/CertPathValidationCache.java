@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.cert.CertPath;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Bounded LRU cache of successful PKIX certificate path validations.
+ * <p>
+ * An entry is keyed by the SHA-256 of the certificate path DER, a fingerprint of the trust anchor set,
+ * the validation time bucket and the PKIX parameters that affect the result. A hit is only returned while the
+ * validation time is within the validity periods of every certificate in the path and the trust anchor.
+ * Revocation status can change at any time, so validations with revocation check enabled must not use this cache.
+ */
+class CertPathValidationCache {
+
+    private final int maximumSize;
+    private final long timeBucketMillis;
+    private final Map<Key, Entry> entries;
+
+    CertPathValidationCache(int maximumSize, @NonNull Duration timeBucket) {
+        AssertUtil.isTrue(maximumSize > 0, "maximumSize must be positive");
+        AssertUtil.notNull(timeBucket, "timeBucket must not be null");
+        AssertUtil.isTrue(!timeBucket.isNegative() && !timeBucket.isZero(), "timeBucket must be positive");
+        this.maximumSize = maximumSize;
+        this.timeBucketMillis = timeBucket.toMillis();
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > CertPathValidationCache.this.maximumSize;
+            }
+        };
+    }
+
+    @NonNull Key createKey(@NonNull CertPath certPath, @NonNull Set<TrustAnchor> trustAnchors, @NonNull Instant timestamp, boolean policyQualifiersRejected) {
+        MessageDigest messageDigest = MessageDigestUtil.acquireMessageDigest("SHA-256");
+        try {
+            for (Certificate certificate : certPath.getCertificates()) {
+                updateWithLength(messageDigest, certificate.getEncoded());
+            }
+            byte[] certPathHash = messageDigest.digest();
+
+            // TrustAnchorRepository implementations build a new set on every call, so anchors are compared by content
+            List<byte[]> trustAnchorHashes = new ArrayList<>(trustAnchors.size());
+            for (TrustAnchor trustAnchor : trustAnchors) {
+                X509Certificate trustedCert = trustAnchor.getTrustedCert();
+                if (trustedCert != null) {
+                    updateWithLength(messageDigest, trustedCert.getEncoded());
+                } else {
+                    updateWithLength(messageDigest, trustAnchor.getCA().getEncoded());
+                    updateWithLength(messageDigest, trustAnchor.getCAPublicKey().getEncoded());
+                }
+                trustAnchorHashes.add(messageDigest.digest());
+            }
+            trustAnchorHashes.sort(CertPathValidationCache::compare);
+            for (byte[] trustAnchorHash : trustAnchorHashes) {
+                messageDigest.update(trustAnchorHash);
+            }
+            byte[] trustAnchorsHash = messageDigest.digest();
+            return new Key(certPathHash, trustAnchorsHash, Math.floorDiv(timestamp.toEpochMilli(), timeBucketMillis), policyQualifiersRejected);
+        } catch (CertificateEncodingException e) {
+            throw new UnexpectedCheckedException(e);
+        } finally {
+            MessageDigestUtil.releaseMessageDigest(messageDigest);
+        }
+    }
+
+    /**
+     * Returns the trust anchor the cached validation ended with, if the validation is cached and still applicable at the timestamp.
+     *
+     * @param key          key
+     * @param trustAnchors trust anchors resolved for the current validation
+     * @param timestamp    validation time
+     * @return trust anchor in the specified set, or null if the validation is not cached
+     */
+    @Nullable TrustAnchor get(@NonNull Key key, @NonNull Set<TrustAnchor> trustAnchors, @NonNull Instant timestamp) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || timestamp.isBefore(entry.notBefore) || timestamp.isAfter(entry.notAfter)) {
+            return null;
+        }
+        for (TrustAnchor trustAnchor : trustAnchors) {
+            if (isSameTrustAnchor(trustAnchor, entry.trustAnchor)) {
+                return trustAnchor;
+            }
+        }
+        return null;
+    }
+
+    void put(@NonNull Key key, @NonNull CertPath certPath, @NonNull TrustAnchor trustAnchor) {
+        Instant notBefore = Instant.MIN;
+        Instant notAfter = Instant.MAX;
+        List<Certificate> certificates = new ArrayList<>(certPath.getCertificates());
+        if (trustAnchor.getTrustedCert() != null) {
+            certificates.add(trustAnchor.getTrustedCert());
+        }
+        for (Certificate certificate : certificates) {
+            if (certificate instanceof X509Certificate) {
+                X509Certificate x509Certificate = (X509Certificate) certificate;
+                Instant certificateNotBefore = x509Certificate.getNotBefore().toInstant();
+                Instant certificateNotAfter = x509Certificate.getNotAfter().toInstant();
+                notBefore = certificateNotBefore.isAfter(notBefore) ? certificateNotBefore : notBefore;
+                notAfter = certificateNotAfter.isBefore(notAfter) ? certificateNotAfter : notAfter;
+            }
+        }
+        Entry entry = new Entry(trustAnchor, notBefore, notAfter);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static boolean isSameTrustAnchor(@NonNull TrustAnchor a, @NonNull TrustAnchor b) {
+        if (a == b) {
+            return true;
+        }
+        if (a.getTrustedCert() != null || b.getTrustedCert() != null) {
+            return Objects.equals(a.getTrustedCert(), b.getTrustedCert());
+        }
+        return Objects.equals(a.getCA(), b.getCA()) && Objects.equals(a.getCAPublicKey(), b.getCAPublicKey());
+    }
+
+    private static void updateWithLength(@NonNull MessageDigest messageDigest, @NonNull byte[] bytes) {
+        messageDigest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        messageDigest.update(bytes);
+    }
+
+    private static int compare(@NonNull byte[] a, @NonNull byte[] b) {
+        for (int i = 0; i < Math.min(a.length, b.length); i++) {
+            int result = Integer.compare(a[i] & 0xFF, b[i] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+
+    static class Key {
+
+        private final byte[] certPathHash;
+        private final byte[] trustAnchorsHash;
+        private final long timeBucket;
+        private final boolean policyQualifiersRejected;
+
+        private Key(@NonNull byte[] certPathHash, @NonNull byte[] trustAnchorsHash, long timeBucket, boolean policyQualifiersRejected) {
+            this.certPathHash = certPathHash;
+            this.trustAnchorsHash = trustAnchorsHash;
+            this.timeBucket = timeBucket;
+            this.policyQualifiersRejected = policyQualifiersRejected;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return timeBucket == key.timeBucket &&
+                    policyQualifiersRejected == key.policyQualifiersRejected &&
+                    Arrays.equals(certPathHash, key.certPathHash) &&
+                    Arrays.equals(trustAnchorsHash, key.trustAnchorsHash);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(timeBucket, policyQualifiersRejected);
+            result = 31 * result + Arrays.hashCode(certPathHash);
+            result = 31 * result + Arrays.hashCode(trustAnchorsHash);
+            return result;
+        }
+    }
+
+    private static class Entry {
+
+        private final TrustAnchor trustAnchor;
+        private final Instant notBefore;
+        private final Instant notAfter;
+
+        private Entry(@NonNull TrustAnchor trustAnchor, @NonNull Instant notBefore, @NonNull Instant notAfter) {
+            this.trustAnchor = trustAnchor;
+            this.notBefore = notBefore;
+            this.notAfter = notAfter;
+        }
+    }
+}
@@ -25,11 +25,11 @@ import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.validator.exception.CertificateException;
 import com.webauthn4j.validator.exception.TrustAnchorNotFoundException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Date;
 import java.util.Objects;
 import java.util.Set;
 
@@ -40,6 +40,9 @@ public class DefaultCertPathTrustworthinessValidator implements CertPathTrustwor
     private boolean fullChainProhibited = false;
     private boolean revocationCheckEnabled = false;
     private boolean policyQualifiersRejected = false;
+    private int validationCacheSize = 0;
+    private Duration validationCacheTimeBucket = Duration.ofHours(1);
+    private volatile CertPathValidationCache validationCache;
 
     public DefaultCertPathTrustworthinessValidator(TrustAnchorRepository trustAnchorRepository) {
         this.trustAnchorRepository = trustAnchorRepository;
@@ -74,27 +77,17 @@ public class DefaultCertPathTrustworthinessValidator implements CertPathTrustwor
             throw new TrustAnchorNotFoundException("TrustAnchors are not found");
         }
 
-        CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
-        certPathParameters.setPolicyQualifiersRejected(policyQualifiersRejected);
-
-        certPathParameters.setRevocationEnabled(revocationCheckEnabled);
-        certPathParameters.setDate(Date.from(timestamp));
+        TrustAnchor validatedTrustAnchor = CertPathTrustworthinessValidatorBase.validateCertPath(certPath, trustAnchors, timestamp, revocationCheckEnabled, policyQualifiersRejected, validationCache);
+        validateFullChain(certPath, validatedTrustAnchor);
+        return trustAnchors.stream()
+                .filter(item -> Objects.equals(item, validatedTrustAnchor))
+                .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
+    }
 
-        PKIXCertPathValidatorResult result;
-        try {
-            result = (PKIXCertPathValidatorResult) certPathValidator.validate(certPath, certPathParameters);
-        } catch (InvalidAlgorithmParameterException e) {
-            throw new com.webauthn4j.validator.exception.CertificateException("invalid algorithm parameter", e);
-        } catch (CertPathValidatorException e) {
-            throw new com.webauthn4j.validator.exception.CertificateException("invalid cert path", e);
-        }
-        if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
+    private void validateFullChain(CertPath certPath, TrustAnchor trustAnchor){
+        if (fullChainProhibited && certPath.getCertificates().contains(trustAnchor.getTrustedCert())) {
             throw new CertificateException("`certpath` must not contain full chain.");
         }
-        return trustAnchors.stream()
-                .filter(item -> Objects.equals(item, result.getTrustAnchor()))
-                .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
     }
 
     public boolean isFullChainProhibited() {
@@ -120,4 +113,41 @@ public class DefaultCertPathTrustworthinessValidator implements CertPathTrustwor
     public void setPolicyQualifiersRejected(boolean policyQualifiersRejected) {
         this.policyQualifiersRejected = policyQualifiersRejected;
     }
+
+    public int getValidationCacheSize() {
+        return validationCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of successful certificate path validations to cache.
+     * A repeated certificate path validated against the same trust anchors within the same time bucket skips PKIX validation.
+     * The cache is not used while revocation check is enabled. 0, which is the default, disables the cache.
+     *
+     * @param validationCacheSize maximum number of cached validations
+     */
+    public void setValidationCacheSize(int validationCacheSize) {
+        AssertUtil.isTrue(validationCacheSize >= 0, "validationCacheSize must not be negative");
+        this.validationCacheSize = validationCacheSize;
+        this.validationCache = validationCacheSize == 0 ? null : new CertPathValidationCache(validationCacheSize, validationCacheTimeBucket);
+    }
+
+    public @NonNull Duration getValidationCacheTimeBucket() {
+        return validationCacheTimeBucket;
+    }
+
+    /**
+     * Sets the granularity of the validation time used as a part of the cache key.
+     *
+     * @param validationCacheTimeBucket time bucket
+     */
+    public void setValidationCacheTimeBucket(@NonNull Duration validationCacheTimeBucket) {
+        AssertUtil.notNull(validationCacheTimeBucket, "validationCacheTimeBucket must not be null");
+        AssertUtil.isTrue(!validationCacheTimeBucket.isNegative() && !validationCacheTimeBucket.isZero(), "validationCacheTimeBucket must be positive");
+        this.validationCacheTimeBucket = validationCacheTimeBucket;
+        this.validationCache = validationCacheSize == 0 ? null : new CertPathValidationCache(validationCacheSize, validationCacheTimeBucket);
+    }
+
+    @Nullable CertPathValidationCache getValidationCache() {
+        return validationCache;
+    }
 }
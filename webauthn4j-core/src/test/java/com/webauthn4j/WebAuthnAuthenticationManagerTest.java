@@ -16,14 +16,38 @@
 
 package com.webauthn4j;
 
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.AuthenticationValidationResult;
+import com.webauthn4j.util.ExecutorUtil;
 import com.webauthn4j.validator.CustomAuthenticationValidator;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class WebAuthnAuthenticationManagerTest {
 
@@ -36,5 +60,170 @@ class WebAuthnAuthenticationManagerTest {
         assertThatCode(() -> new WebAuthnAuthenticationManager(customAuthenticationValidators, objectConverter)).doesNotThrowAnyException();
     }
 
+    @Test
+    void parse_ByteBuffer_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        ByteBuffer credentialId = ByteBuffer.allocateDirect(4);
+        credentialId.put(new byte[]{0x01, 0x02, 0x03, 0x04}).position(1);
+
+        AuthenticationData authenticationData = target.parse(credentialId, null, null, null, null, ByteBuffer.wrap(new byte[]{0x05}));
+
+        assertThat(authenticationData.getCredentialId()).isEqualTo(new byte[]{0x02, 0x03, 0x04});
+        assertThat(authenticationData.getSignature()).isEqualTo(new byte[]{0x05});
+        assertThat(authenticationData.getAuthenticatorData()).isNull();
+        assertThat(credentialId.position()).isEqualTo(1);
+    }
+
+    @Test
+    void validateAsync_with_malformed_request_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        AtomicInteger executions = new AtomicInteger();
+        target.setValidationExecutor(command -> {
+            executions.incrementAndGet();
+            command.run();
+        });
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(new byte[32], null, new byte[]{0x00}, new byte[0], null, new byte[32]);
+
+        CompletableFuture<AuthenticationData> future = target.validateAsync(authenticationRequest, mock(AuthenticationParameters.class));
+
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(DataConversionException.class);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    void validateAsync_runs_validation_on_validationExecutor_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        AtomicInteger executions = new AtomicInteger();
+        target.setValidationExecutor(command -> {
+            executions.incrementAndGet();
+            command.run();
+        });
+
+        CompletableFuture<AuthenticationData> future = target.validateAsync(mock(AuthenticationData.class), mock(AuthenticationParameters.class));
+
+        assertThat(future).isCompletedExceptionally();
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void validateAsync_runs_validation_on_validation_pool_by_default_test() throws ExecutionException, InterruptedException {
+        WebAuthnAuthenticationManager target = spy(new WebAuthnAuthenticationManager());
+        AuthenticationData authenticationData = mock(AuthenticationData.class);
+        AuthenticationParameters authenticationParameters = mock(AuthenticationParameters.class);
+        AtomicReference<Thread> validationThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            validationThread.set(Thread.currentThread());
+            return authenticationData;
+        }).when(target).validate(authenticationData, authenticationParameters);
+
+        CompletableFuture<AuthenticationData> future = target.validateAsync(authenticationData, authenticationParameters);
+
+        assertThat(future.get()).isSameAs(authenticationData);
+        assertThat(target.getValidationExecutor()).isSameAs(ExecutorUtil.getValidationPool());
+        assertThat(validationThread.get().getName()).startsWith("webauthn4j-validation-");
+    }
+
+    @Test
+    void validateAsync_completes_with_validated_data_on_validationExecutor_test() throws ExecutionException, InterruptedException {
+        WebAuthnAuthenticationManager target = spy(new WebAuthnAuthenticationManager());
+        AuthenticationData authenticationData = mock(AuthenticationData.class);
+        AuthenticationParameters authenticationParameters = mock(AuthenticationParameters.class);
+        doReturn(authenticationData).when(target).validate(authenticationData, authenticationParameters);
+        AtomicInteger executions = new AtomicInteger();
+        target.setValidationExecutor(command -> {
+            executions.incrementAndGet();
+            command.run();
+        });
+
+        CompletableFuture<AuthenticationData> future = target.validateAsync(authenticationData, authenticationParameters);
+
+        assertThat(future.get()).isSameAs(authenticationData);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void setValidationExecutor_with_null_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        //noinspection ConstantConditions
+        assertThatThrownBy(() -> target.setValidationExecutor(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void validateAll_reports_failures_per_item_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        AuthenticationRequest malformedRequest = new AuthenticationRequest(new byte[32], null, new byte[]{0x00}, new byte[0], null, new byte[32]);
+        AuthenticationRequest emptyRequest = new AuthenticationRequest(new byte[32], null, null, null, null, new byte[32]);
+        AuthenticationParameters authenticationParameters = mock(AuthenticationParameters.class);
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        List<AuthenticationValidationResult> results;
+        try {
+            results = target.validateAll(
+                    Arrays.asList(malformedRequest, emptyRequest, malformedRequest),
+                    Arrays.asList(authenticationParameters, authenticationParameters, authenticationParameters),
+                    forkJoinPool);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isSucceeded()).isFalse();
+        assertThat(results.get(0).getAuthenticationData()).isNull();
+        assertThat(results.get(0).getException()).isInstanceOf(DataConversionException.class);
+        assertThat(results.get(1).isSucceeded()).isFalse();
+        assertThat(results.get(1).getAuthenticationData()).isNotNull();
+        assertThat(results.get(2).getException()).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void validateAll_with_mixed_batch_test() {
+        WebAuthnAuthenticationManager target = spy(new WebAuthnAuthenticationManager());
+        AuthenticationRequest malformedRequest = new AuthenticationRequest(new byte[32], null, new byte[]{0x00}, new byte[0], null, new byte[32]);
+        AuthenticationRequest emptyRequest = new AuthenticationRequest(new byte[32], null, null, null, null, new byte[32]);
+        AuthenticationParameters validParameters = mock(AuthenticationParameters.class);
+        AuthenticationParameters invalidParameters = mock(AuthenticationParameters.class);
+        doAnswer(invocation -> invocation.getArgument(0)).when(target).validate(any(AuthenticationData.class), same(validParameters));
+        List<AuthenticationRequest> authenticationRequests = new ArrayList<>();
+        List<AuthenticationParameters> authenticationParametersList = new ArrayList<>();
+        // larger than the sequential threshold, so that the batch is split
+        for (int i = 0; i < 20; i++) {
+            authenticationRequests.add(i % 5 == 4 ? malformedRequest : emptyRequest);
+            authenticationParametersList.add(i % 2 == 0 ? validParameters : invalidParameters);
+        }
+
+        List<AuthenticationValidationResult> results = target.validateAll(authenticationRequests, authenticationParametersList);
+
+        assertThat(results).hasSize(20);
+        for (int i = 0; i < 20; i++) {
+            AuthenticationValidationResult result = results.get(i);
+            if (i % 5 == 4) {
+                assertThat(result.getException()).isInstanceOf(DataConversionException.class);
+                assertThat(result.getAuthenticationData()).isNull();
+            }
+            else if (i % 2 == 0) {
+                assertThat(result.isSucceeded()).isTrue();
+                assertThat(result.getAuthenticationData()).isNotNull();
+            }
+            else {
+                assertThat(result.isSucceeded()).isFalse();
+                assertThat(result.getException()).isNotNull().isNotInstanceOf(DataConversionException.class);
+            }
+        }
+        verify(target, times(8)).validate(any(AuthenticationData.class), same(validParameters));
+    }
+
+    @Test
+    void validateAll_with_empty_batch_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        assertThat(target.validateAll(Collections.emptyList(), Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void validateAll_with_different_sizes_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        List<AuthenticationParameters> authenticationParametersList = Collections.singletonList(mock(AuthenticationParameters.class));
+        assertThatThrownBy(() -> target.validateAll(Collections.emptyList(), authenticationParametersList)).isInstanceOf(IllegalArgumentException.class);
+    }
 
-}
\ No newline at end of file
+}
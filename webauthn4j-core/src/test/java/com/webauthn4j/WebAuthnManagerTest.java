@@ -28,6 +28,7 @@ import com.webauthn4j.validator.attestation.trustworthiness.self.DefaultSelfAtte
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -64,4 +65,12 @@ class WebAuthnManagerTest {
         assertThat(webAuthnManager.getAuthenticationDataValidator()).isNotNull();
     }
 
+    @Test
+    void setValidationExecutor_test() {
+        WebAuthnManager webAuthnManager = WebAuthnManager.createNonStrictWebAuthnManager();
+        Executor executor = Runnable::run;
+        webAuthnManager.setValidationExecutor(executor);
+        assertThat(webAuthnManager.getValidationExecutor()).isSameAs(executor);
+    }
+
 }
\ No newline at end of file
@@ -17,7 +17,10 @@
 package com.webauthn4j;
 
 import com.webauthn4j.anchor.TrustAnchorsResolver;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.RegistrationParameters;
 import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.ExecutorUtil;
 import com.webauthn4j.validator.attestation.statement.androidkey.AndroidKeyAttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.packed.PackedAttestationStatementValidator;
@@ -27,8 +30,16 @@ import com.webauthn4j.validator.attestation.trustworthiness.self.DefaultSelfAtte
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
 class WebAuthnRegistrationManagerTest {
 
@@ -56,5 +67,40 @@ class WebAuthnRegistrationManagerTest {
         assertThat(WebAuthnRegistrationManager.createNonStrictWebAuthnRegistrationManager()).isNotNull();
     }
 
+    @Test
+    void validateAsync_runs_validation_on_validation_pool_by_default_test() throws ExecutionException, InterruptedException {
+        WebAuthnRegistrationManager target = spy(WebAuthnRegistrationManager.createNonStrictWebAuthnRegistrationManager());
+        RegistrationData registrationData = mock(RegistrationData.class);
+        RegistrationParameters registrationParameters = mock(RegistrationParameters.class);
+        AtomicReference<Thread> validationThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            validationThread.set(Thread.currentThread());
+            return registrationData;
+        }).when(target).validate(registrationData, registrationParameters);
+
+        CompletableFuture<RegistrationData> future = target.validateAsync(registrationData, registrationParameters);
+
+        assertThat(future.get()).isSameAs(registrationData);
+        assertThat(target.getValidationExecutor()).isSameAs(ExecutorUtil.getValidationPool());
+        assertThat(validationThread.get().getName()).startsWith("webauthn4j-validation-");
+    }
+
+    @Test
+    void validateAsync_runs_validation_on_validationExecutor_test() throws ExecutionException, InterruptedException {
+        WebAuthnRegistrationManager target = spy(WebAuthnRegistrationManager.createNonStrictWebAuthnRegistrationManager());
+        RegistrationData registrationData = mock(RegistrationData.class);
+        RegistrationParameters registrationParameters = mock(RegistrationParameters.class);
+        doReturn(registrationData).when(target).validate(registrationData, registrationParameters);
+        AtomicInteger executions = new AtomicInteger();
+        target.setValidationExecutor(command -> {
+            executions.incrementAndGet();
+            command.run();
+        });
+
+        CompletableFuture<RegistrationData> future = target.validateAsync(registrationData, registrationParameters);
+
+        assertThat(future.get()).isSameAs(registrationData);
+        assertThat(executions.get()).isEqualTo(1);
+    }
 
-}
\ No newline at end of file
+}
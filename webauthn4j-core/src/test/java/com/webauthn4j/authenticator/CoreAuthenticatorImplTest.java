@@ -21,8 +21,14 @@ import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.test.TestDataUtil;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class CoreAuthenticatorImplTest {
 
@@ -45,4 +51,32 @@ class CoreAuthenticatorImplTest {
         assertThat(authenticator.getCounter()).isEqualTo(attestationObject.getAuthenticatorData().getSignCount());
         assertThat(authenticator.getAuthenticatorExtensions()).isEqualTo(attestationObject.getAuthenticatorData().getExtensions());
     }
-}
\ No newline at end of file
+
+    @Test
+    void compareAndSetCounter_test() {
+        CoreAuthenticatorImpl authenticator = new CoreAuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, null);
+        assertThat(authenticator.compareAndSetCounter(0, 2)).isFalse();
+        assertThat(authenticator.getCounter()).isEqualTo(1);
+        assertThat(authenticator.compareAndSetCounter(1, 2)).isTrue();
+        assertThat(authenticator.getCounter()).isEqualTo(2);
+        assertThatThrownBy(() -> authenticator.compareAndSetCounter(2, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compareAndSetCounter_concurrently_test() throws InterruptedException {
+        CoreAuthenticatorImpl authenticator = new CoreAuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 0, null);
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executorService.execute(() -> {
+                if (authenticator.compareAndSetCounter(0, 1)) {
+                    succeeded.incrementAndGet();
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(authenticator.getCounter()).isEqualTo(1);
+    }
+}
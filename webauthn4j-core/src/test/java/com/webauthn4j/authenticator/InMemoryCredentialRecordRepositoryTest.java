@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.test.TestDataUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class InMemoryCredentialRecordRepositoryTest {
+
+    private final InMemoryCredentialRecordRepository target = new InMemoryCredentialRecordRepository(new ObjectConverter(), 4);
+
+    @Test
+    void save_find_test() {
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(new AAGUID(UUID.randomUUID()), new byte[]{0x01, 0x02, 0x03}, TestDataUtil.createEC2COSEPublicKey());
+        Authenticator authenticator = new AuthenticatorImpl(attestedCredentialData, null, 4294967295L,
+                new HashSet<>(Arrays.asList(AuthenticatorTransport.USB, AuthenticatorTransport.INTERNAL, AuthenticatorTransport.create("hybrid"))));
+        target.save(authenticator);
+
+        Authenticator found = target.find(new byte[]{0x01, 0x02, 0x03});
+
+        //noinspection ConstantConditions
+        assertAll(
+                () -> assertThat(found.getAttestedCredentialData()).isEqualTo(attestedCredentialData),
+                () -> assertThat(found.getCounter()).isEqualTo(4294967295L),
+                () -> assertThat(found.getTransports()).containsExactlyInAnyOrder(AuthenticatorTransport.USB, AuthenticatorTransport.INTERNAL, AuthenticatorTransport.create("hybrid")),
+                () -> assertThat(found.getAttestationStatement()).isNull()
+        );
+    }
+
+    @Test
+    void save_find_without_transports_test() {
+        Authenticator authenticator = new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(TestDataUtil.createRSACOSEPublicKey()), null, 1, null);
+        target.save(authenticator);
+
+        Authenticator found = target.find(new byte[32]);
+
+        //noinspection ConstantConditions
+        assertThat(found.getTransports()).isNull();
+        assertThat(found.getAttestedCredentialData()).isEqualTo(authenticator.getAttestedCredentialData());
+    }
+
+    @Test
+    void find_not_saved_credential_test() {
+        assertThat(target.find(new byte[]{0x00})).isNull();
+    }
+
+    @Test
+    void save_replaces_credential_with_the_same_id_test() {
+        target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.emptySet()));
+        target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 2, Collections.emptySet()));
+
+        //noinspection ConstantConditions
+        assertThat(target.find(new byte[32]).getCounter()).isEqualTo(2);
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void updateCounter_test() {
+        target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.emptySet()));
+
+        assertThat(target.updateCounter(new byte[32], 10)).isTrue();
+        //noinspection ConstantConditions
+        assertThat(target.find(new byte[32]).getCounter()).isEqualTo(10);
+        assertThat(target.updateCounter(new byte[]{0x00}, 10)).isFalse();
+    }
+
+    @Test
+    void delete_test() {
+        target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.emptySet()));
+
+        assertThat(target.delete(new byte[32])).isTrue();
+        assertThat(target.delete(new byte[32])).isFalse();
+        assertThat(target.find(new byte[32])).isNull();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void many_credentials_test() {
+        for (int i = 0; i < 10000; i++) {
+            byte[] credentialId = ByteBuffer.allocate(16).putInt(i).array();
+            target.save(new AuthenticatorImpl(new AttestedCredentialData(AAGUID.ZERO, credentialId, TestDataUtil.createEC2COSEPublicKey()), null, i, null));
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            target.delete(ByteBuffer.allocate(16).putInt(i).array());
+        }
+
+        assertThat(target.size()).isEqualTo(5000);
+        for (int i = 0; i < 10000; i++) {
+            Authenticator found = target.find(ByteBuffer.allocate(16).putInt(i).array());
+            if (i % 2 == 0) {
+                assertThat(found).isNull();
+            } else {
+                //noinspection ConstantConditions
+                assertThat(found.getCounter()).isEqualTo(i);
+            }
+        }
+    }
+}
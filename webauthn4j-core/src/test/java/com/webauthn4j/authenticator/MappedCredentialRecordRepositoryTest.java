@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.test.TestDataUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MappedCredentialRecordRepositoryTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void save_find_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            AttestedCredentialData attestedCredentialData = new AttestedCredentialData(new AAGUID(UUID.randomUUID()), new byte[]{0x01, 0x02, 0x03}, TestDataUtil.createEC2COSEPublicKey());
+            Authenticator authenticator = new AuthenticatorImpl(attestedCredentialData, null, 4294967295L,
+                    new HashSet<>(Arrays.asList(AuthenticatorTransport.USB, AuthenticatorTransport.INTERNAL)));
+            target.save(authenticator);
+
+            Authenticator found = target.find(new byte[]{0x01, 0x02, 0x03});
+
+            //noinspection ConstantConditions
+            assertAll(
+                    () -> assertThat(found.getAttestedCredentialData()).isEqualTo(attestedCredentialData),
+                    () -> assertThat(found.getCounter()).isEqualTo(4294967295L),
+                    () -> assertThat(found.getTransports()).containsExactlyInAnyOrder(AuthenticatorTransport.USB, AuthenticatorTransport.INTERNAL),
+                    () -> assertThat(target.getCounter(new byte[]{0x01, 0x02, 0x03})).isEqualTo(4294967295L),
+                    () -> assertThat(target.find(new byte[]{0x01, 0x02})).isNull(),
+                    () -> assertThat(target.getCounter(new byte[]{0x01, 0x02})).isEqualTo(-1)
+            );
+        }
+    }
+
+    @Test
+    void save_find_without_transports_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            Authenticator authenticator = new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(TestDataUtil.createRSACOSEPublicKey()), null, 1, null);
+            target.save(authenticator);
+
+            Authenticator found = target.find(new byte[32]);
+
+            //noinspection ConstantConditions
+            assertThat(found.getTransports()).isNull();
+            assertThat(found.getAttestedCredentialData()).isEqualTo(authenticator.getAttestedCredentialData());
+        }
+    }
+
+    @Test
+    void save_replaces_credential_with_the_same_id_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.emptySet()));
+            target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 2, Collections.emptySet()));
+
+            assertThat(target.getCounter(new byte[32])).isEqualTo(2);
+            assertThat(target.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void setCounter_writes_through_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.emptySet()));
+
+            //noinspection ConstantConditions
+            target.find(new byte[32]).setCounter(10);
+
+            assertThat(target.getCounter(new byte[32])).isEqualTo(10);
+            assertThat(target.updateCounter(new byte[32], 11)).isTrue();
+            //noinspection ConstantConditions
+            assertThat(target.find(new byte[32]).getCounter()).isEqualTo(11);
+            assertThat(target.updateCounter(new byte[]{0x00}, 10)).isFalse();
+        }
+    }
+
+    @Test
+    void compareAndSetCounter_is_atomic_across_found_instances_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.emptySet()));
+            AtomicCounterAuthenticator first = (AtomicCounterAuthenticator) target.find(new byte[32]);
+            AtomicCounterAuthenticator second = (AtomicCounterAuthenticator) target.find(new byte[32]);
+
+            //noinspection ConstantConditions
+            assertThat(first.compareAndSetCounter(1, 2)).isTrue();
+            //noinspection ConstantConditions
+            assertThat(second.compareAndSetCounter(1, 3)).isFalse();
+            assertThat(second.getCounter()).isEqualTo(2);
+            assertThat(target.getCounter(new byte[32])).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void deserialized_instance_is_detached_test() throws IOException, ClassNotFoundException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.emptySet()));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                objectOutputStream.writeObject(target.find(new byte[32]));
+            }
+            AtomicCounterAuthenticator deserialized;
+            try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+                deserialized = (AtomicCounterAuthenticator) objectInputStream.readObject();
+            }
+
+            assertThat(deserialized.compareAndSetCounter(1, 2)).isTrue();
+            deserialized.setCounter(3);
+            assertThat(deserialized.getCounter()).isEqualTo(3);
+            assertThat(target.getCounter(new byte[32])).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void delete_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.emptySet()));
+            Authenticator found = target.find(new byte[32]);
+
+            assertThat(target.delete(new byte[32])).isTrue();
+            assertThat(target.delete(new byte[32])).isFalse();
+            assertThat(target.find(new byte[32])).isNull();
+            assertThat(target.size()).isZero();
+            //noinspection ConstantConditions
+            found.setCounter(10);
+            assertThat(target.getCounter(new byte[32])).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void reopen_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            target.save(new AuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, Collections.singleton(AuthenticatorTransport.NFC)));
+            target.updateCounter(new byte[32], 5);
+        }
+
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 16)) {
+            Authenticator found = target.find(new byte[32]);
+
+            //noinspection ConstantConditions
+            assertThat(found.getCounter()).isEqualTo(5);
+            assertThat(found.getTransports()).containsExactly(AuthenticatorTransport.NFC);
+            assertThat(target.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void reopen_with_different_parameters_test() throws IOException {
+        new MappedCredentialRecordRepository(objectConverter, directory, 16).close();
+
+        assertThatThrownBy(() -> new MappedCredentialRecordRepository(objectConverter, directory, 32))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void save_to_full_repository_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 1)) {
+            target.save(new AuthenticatorImpl(new AttestedCredentialData(AAGUID.ZERO, new byte[]{0x01}, TestDataUtil.createEC2COSEPublicKey()), null, 0, null));
+            Authenticator authenticator = new AuthenticatorImpl(new AttestedCredentialData(AAGUID.ZERO, new byte[]{0x02}, TestDataUtil.createEC2COSEPublicKey()), null, 0, null);
+
+            assertThatThrownBy(() -> target.save(authenticator)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void save_and_delete_more_than_maxCredentials_times_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 4)) {
+            for (int i = 0; i < 100; i++) {
+                byte[] credentialId = ByteBuffer.allocate(16).putInt(i).array();
+                target.save(new AuthenticatorImpl(new AttestedCredentialData(AAGUID.ZERO, credentialId, TestDataUtil.createEC2COSEPublicKey()), null, i, null));
+                if (i >= 3) {
+                    assertThat(target.delete(ByteBuffer.allocate(16).putInt(i - 3).array())).isTrue();
+                }
+            }
+
+            assertThat(target.size()).isEqualTo(3);
+            for (int i = 0; i < 100; i++) {
+                assertThat(target.getCounter(ByteBuffer.allocate(16).putInt(i).array())).isEqualTo(i < 97 ? -1 : i);
+            }
+        }
+
+        // the free list is persisted, so the deleted record is reused after reopening
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 4)) {
+            target.save(new AuthenticatorImpl(new AttestedCredentialData(AAGUID.ZERO, new byte[]{0x01}, TestDataUtil.createEC2COSEPublicKey()), null, 1, null));
+            assertThat(target.delete(ByteBuffer.allocate(16).putInt(97).array())).isTrue();
+            target.save(new AuthenticatorImpl(new AttestedCredentialData(AAGUID.ZERO, new byte[]{0x02}, TestDataUtil.createEC2COSEPublicKey()), null, 2, null));
+
+            assertThat(target.size()).isEqualTo(4);
+            assertThat(target.getCounter(new byte[]{0x01})).isEqualTo(1);
+            assertThat(target.getCounter(new byte[]{0x02})).isEqualTo(2);
+            assertThat(target.getCounter(ByteBuffer.allocate(16).putInt(99).array())).isEqualTo(99);
+        }
+    }
+
+    @Test
+    void many_credentials_test() throws IOException {
+        try (MappedCredentialRecordRepository target = new MappedCredentialRecordRepository(objectConverter, directory, 10000)) {
+            for (int i = 0; i < 10000; i++) {
+                byte[] credentialId = ByteBuffer.allocate(16).putInt(i).array();
+                target.save(new AuthenticatorImpl(new AttestedCredentialData(AAGUID.ZERO, credentialId, TestDataUtil.createEC2COSEPublicKey()), null, i, null));
+            }
+            for (int i = 0; i < 10000; i += 2) {
+                target.delete(ByteBuffer.allocate(16).putInt(i).array());
+            }
+
+            assertThat(target.size()).isEqualTo(5000);
+            for (int i = 0; i < 10000; i++) {
+                long counter = target.getCounter(ByteBuffer.allocate(16).putInt(i).array());
+                assertThat(counter).isEqualTo(i % 2 == 0 ? -1 : i);
+            }
+        }
+    }
+}
@@ -134,6 +134,19 @@ class AttestationObjectConverterTest {
         assertThat(bytes).isEqualTo(Base64UrlUtil.decode("lWkIjx7O4yMpVANdvRDXyuORMFonUbVZu4_Xy7IpvdRFAAAAAAiYcFjK3EuBtuEw3lDcvpYAIIVs3RYj2zjEOSjQbDIbPmXofBdIkx6x-t2CpK8SRYI0pAEDAzkBACBZAQDF2m9Nk1e94gL1xVjNCjFW0lTy4K2atXkx-YJrdH3hrE8p1gcIdNzleRDhmERJnY5CRwM5sXDQIrUBq4jpwvTtMC5HGccN6-iEJAPtm9_CJzCmGhtw9hbF8bcAys94RhN9xLLUaajhWqtPrYZXCEAi0o9E2QdTIxJrcAfJgZOf33JMr0--R1BAQxpOoGRDC8ss-tfQW9ufZLWw4JUuz4Z5Jz1sbfqBYB8UUDMWoT0HgsMaPmvd7T17xGvB-pvvDf-Dt96vFGtYLEZEgho8Yu26pr5CK_BOQ-2vX9N4MIYVPXNhogMGGmKYqybhM3yhye0GdBpZBUd5iOcgME6uGJ1_IUMBAAE"));
     }
 
+    @Test
+    void convertWithAuthenticatorDataBytes_test() {
+        AttestationObject attestationObject = TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement();
+        byte[] source = target.convertToBytes(attestationObject);
+
+        AttestationObjectConverter.ConvertedAttestationObject result = target.convertWithAuthenticatorDataBytes(source);
+
+        assertAll(
+                () -> assertThat(result.getAttestationObject()).isEqualTo(attestationObject),
+                () -> assertThat(result.getAuthenticatorDataBytes()).isEqualTo(target.extractAuthenticatorData(source))
+        );
+    }
+
     @Test
     void extractAuthenticatorData_null_test() {
         assertThatThrownBy(() -> target.extractAuthenticatorData(null)).isInstanceOf(IllegalArgumentException.class);
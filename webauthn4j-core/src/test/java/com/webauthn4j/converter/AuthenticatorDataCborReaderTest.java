@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.KeyProtectionType;
+import com.webauthn4j.data.MatcherProtectionType;
+import com.webauthn4j.data.UserVerificationMethod;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.Curve;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.authenticator.EdDSACOSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.extension.CredentialProtectionPolicy;
+import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.UvmEntry;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("ConstantConditions")
+class AuthenticatorDataCborReaderTest {
+
+    private final CborConverter cborConverter = new ObjectConverter().getCborConverter();
+
+    static Stream<Arguments> coseKeys() {
+        return Stream.of(
+                Arguments.of(TestDataUtil.createEC2COSEPublicKey()),
+                Arguments.of(TestDataUtil.createRSACOSEPublicKey()),
+                Arguments.of(new EC2COSEKey(new byte[]{0x01}, COSEAlgorithmIdentifier.ES384, null, Curve.SECP384R1, new byte[48], new byte[48], null)),
+                Arguments.of(new EdDSACOSEKey(null, COSEAlgorithmIdentifier.EdDSA, null, Curve.ED25519, new byte[32], null))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("coseKeys")
+    void readCOSEKey_matches_jackson_test(COSEKey coseKey) {
+        byte[] source = cborConverter.writeValueAsBytes(coseKey);
+        AuthenticatorDataCborReader target = new AuthenticatorDataCborReader(source, 0, source.length);
+
+        COSEKey result = target.readCOSEKey();
+
+        assertThat(result).isNotNull();
+        assertThat(result).isEqualTo(cborConverter.readValue(source, COSEKey.class));
+        assertThat(target.getPosition()).isEqualTo(source.length);
+    }
+
+    @Test
+    void readCOSEKey_with_trailing_data_test() {
+        byte[] coseKey = cborConverter.writeValueAsBytes(TestDataUtil.createEC2COSEPublicKey());
+        byte[] source = new byte[coseKey.length + 4];
+        System.arraycopy(coseKey, 0, source, 2, coseKey.length);
+        AuthenticatorDataCborReader target = new AuthenticatorDataCborReader(source, 2, coseKey.length + 2);
+
+        assertThat(target.readCOSEKey()).isEqualTo(TestDataUtil.createEC2COSEPublicKey());
+        assertThat(target.getPosition()).isEqualTo(coseKey.length + 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "a301020326204101",             // crv with a byte string value
+            "a3010203262005",               // out of range curve
+            "a201040326",                   // symmetric key
+            "a3010203260000",               // unknown label 0
+            "a3010203260102",               // duplicated kty
+            "a301020326048101",             // key_ops
+            "a301020326254100",             // EC2 with label -6
+            "a301010327224100",             // OKP with label -3
+            "bf01020326ff",                 // indefinite-length map
+            "a201c20326",                   // tagged kty
+            "a2010203",                     // truncated
+            "f6"
+    })
+    void readCOSEKey_leaves_data_to_jackson_test(String hex) {
+        byte[] source = HexUtil.decode(hex);
+        AuthenticatorDataCborReader target = new AuthenticatorDataCborReader(source, 0, source.length);
+
+        assertThat(target.readCOSEKey()).isNull();
+        assertThat(target.getPosition()).isZero();
+    }
+
+    static Stream<Arguments> extensions() {
+        UvmEntries uvm = new UvmEntries(Collections.singletonList(new UvmEntry(UserVerificationMethod.FINGERPRINT_INTERNAL, KeyProtectionType.SOFTWARE, MatcherProtectionType.ON_CHIP)));
+        return Stream.of(
+                Arguments.of(new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration().setCredProtect(CredentialProtectionPolicy.USER_VERIFICATION_REQUIRED).build()),
+                Arguments.of(new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration().setUvm(uvm).setHMACCreateSecret(true).build()),
+                Arguments.of(new AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication().setUvm(uvm).build()),
+                Arguments.of(new AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication().setHMACGetSecret(new byte[32]).build()),
+                Arguments.of(new AuthenticationExtensionsAuthenticatorOutputs<>())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("extensions")
+    void readExtensions_matches_jackson_test(AuthenticationExtensionsAuthenticatorOutputs<ExtensionAuthenticatorOutput> extensions) {
+        byte[] source = cborConverter.writeValueAsBytes(extensions);
+        AuthenticatorDataCborReader target = new AuthenticatorDataCborReader(source, 0, source.length);
+
+        AuthenticationExtensionsAuthenticatorOutputs<ExtensionAuthenticatorOutput> result = target.readExtensions();
+
+        assertThat(result).isNotNull();
+        assertThat(result).isEqualTo(cborConverter.readValue(source, AuthenticationExtensionsAuthenticatorOutputs.class));
+        assertThat(target.getPosition()).isEqualTo(source.length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "a163666f6f01",                                         // unknown extension
+            "a16b6372656450726f7465637409",                         // out of range credProtect
+            "a26b6372656450726f74656374026b686d61632d736563726574420102", // credProtect with hmac-secret output for authentication
+            "a16375766d81830202",                                   // truncated uvm
+            "bf63666f6f01ff",                                       // indefinite-length map
+            "f6"
+    })
+    void readExtensions_leaves_data_to_jackson_test(String hex) {
+        byte[] source = HexUtil.decode(hex);
+        AuthenticatorDataCborReader target = new AuthenticatorDataCborReader(source, 0, source.length);
+
+        assertThat(target.<ExtensionAuthenticatorOutput>readExtensions()).isNull();
+        assertThat(target.getPosition()).isZero();
+    }
+}
@@ -61,6 +61,20 @@ class AuthenticatorDataConverterTest {
         assertThat(result.getExtensions().getKeys()).isEmpty();
     }
 
+    @Test
+    void convert_ByteBuffer_test() {
+        //noinspection SpellCheckingInspection
+        byte[] input = Base64UrlUtil.decode("SZYN5YgOjGh0NBcPZHZgW4_krrmihjLHmVzzuoMdl2MBAAABRQ");
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(input.length);
+        byteBuffer.put(input).flip();
+
+        AuthenticatorData<RegistrationExtensionAuthenticatorOutput> result = new AuthenticatorDataConverter(objectConverter).convert(byteBuffer);
+
+        assertThat(result).isEqualTo(new AuthenticatorDataConverter(objectConverter).convert(input));
+        assertThat(result.getSignCount()).isEqualTo(325);
+        assertThat(byteBuffer.remaining()).isEqualTo(input.length);
+    }
+
     @Test
     void convert_apple_app_attest_authenticatorData() {
         byte[] authenticatorDataBytes = Base64UrlUtil.decode("MGACygVeBsWIpS7GqlSC9TaOAq8wh7Hp0wnQQMr12VpAAAAAAQ");
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.authenticator.UserVerificationMethodExtensionAuthenticatorOutput;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.BIT_ED;
+import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.BIT_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ConstantConditions")
+class AuthenticatorDataViewTest {
+
+    private final AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(new ObjectConverter());
+
+    @Test
+    void flags_signCount_rpIdHash_test() {
+        //noinspection SpellCheckingInspection
+        byte[] bytes = Base64UrlUtil.decode("SZYN5YgOjGh0NBcPZHZgW4_krrmihjLHmVzzuoMdl2MBAAABRQ");
+        AuthenticatorDataView<RegistrationExtensionAuthenticatorOutput> view = authenticatorDataConverter.createView(bytes);
+
+        assertThat(view.getFlags()).isEqualTo(BIT_UP);
+        assertThat(view.isFlagUP()).isTrue();
+        assertThat(view.isFlagAT()).isFalse();
+        assertThat(view.getSignCount()).isEqualTo(325);
+        assertThat(view.matchesRpIdHash(Arrays.copyOf(bytes, 32))).isTrue();
+        assertThat(view.matchesRpIdHash(new byte[32])).isFalse();
+        assertThat(view.matchesRpIdHash(null)).isFalse();
+        assertThat(view.getRpIdHash()).isEqualTo(Arrays.copyOf(bytes, 32));
+        assertThat(view.getAttestedCredentialData()).isNull();
+        assertThat(view.getExtensions().getKeys()).isEmpty();
+    }
+
+    @Test
+    void toAuthenticatorData_with_attestedCredentialData_test() {
+        //noinspection SpellCheckingInspection
+        byte[] bytes = Base64UrlUtil.decode("SZYN5YgOjGh0NBcPZHZgW4_krrmihjLHmVzzuoMdl2NBAAAARlUOS1SqR0CfmpUat2wTATEAIHEiziyGohCFUc_hJJZGdtSu9ThnEb74K6NZC3U-KbwgpQECAyYgASFYICw4xPmHIvquDRz2KUzyyQlZFhZMbi-mc_YylL1o55jPIlggGQI5ESYAOfR8QM6quTQSoyhjZET806A3yOoCUe2AWJE");
+        AuthenticatorDataView<RegistrationExtensionAuthenticatorOutput> view = authenticatorDataConverter.createView(bytes);
+
+        AuthenticatorData<RegistrationExtensionAuthenticatorOutput> expected = authenticatorDataConverter.convert(bytes);
+        assertThat(view.toAuthenticatorData()).isEqualTo(expected);
+        assertThat(view.getAttestedCredentialData()).isEqualTo(expected.getAttestedCredentialData());
+    }
+
+    @Test
+    void getExtensions_test() {
+        AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration builder = new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration();
+        builder.setUvm(new UvmEntries());
+        byte[] bytes = authenticatorDataConverter.convert(new AuthenticatorData<>(new byte[32], BIT_ED, 0, builder.build()));
+        AuthenticatorDataView<RegistrationExtensionAuthenticatorOutput> view = authenticatorDataConverter.createView(bytes);
+
+        assertThat(view.getExtensions().getKeys()).contains(UserVerificationMethodExtensionAuthenticatorOutput.ID);
+    }
+
+    @Test
+    void apple_app_attest_authenticatorData_test() {
+        byte[] bytes = Base64UrlUtil.decode("MGACygVeBsWIpS7GqlSC9TaOAq8wh7Hp0wnQQMr12VpAAAAAAQ");
+        AuthenticatorDataView<RegistrationExtensionAuthenticatorOutput> view = authenticatorDataConverter.createView(bytes);
+
+        assertThat(view.isFlagAT()).isTrue();
+        assertThat(view.getAttestedCredentialData()).isNull();
+    }
+
+    @Test
+    void too_short_data_test() {
+        //noinspection SpellCheckingInspection
+        byte[] bytes = Base64UrlUtil.decode("SZYN5YgOjGh0NBcP");
+        assertThrows(DataConversionException.class, () -> authenticatorDataConverter.createView(bytes));
+    }
+
+    @Test
+    void data_with_surplus_bytes_test() {
+        //noinspection SpellCheckingInspection
+        byte[] data = Base64UrlUtil.decode("SZYN5YgOjGh0NBcPZHZgW4_krrmihjLHmVzzuoMdl2MBAAABRQ");
+        AuthenticatorDataView<RegistrationExtensionAuthenticatorOutput> view = authenticatorDataConverter.createView(Arrays.copyOf(data, data.length + 1));
+
+        assertThat(view.getSignCount()).isEqualTo(325);
+        assertThrows(DataConversionException.class, view::getExtensions);
+    }
+}
@@ -25,6 +25,8 @@ import com.webauthn4j.data.client.challenge.DefaultChallenge;
 import com.webauthn4j.util.Base64UrlUtil;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +54,30 @@ class CollectedClientDataConverterTest {
         );
     }
 
+    @Test
+    void convert_ByteBuffer_and_InputStream_test() {
+        //noinspection SpellCheckingInspection
+        byte[] clientDataJson = "{\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"http://localhost:8080\",\"type\":\"webauthn.get\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(clientDataJson.length + 2);
+        byteBuffer.put((byte) 0x00).put(clientDataJson).put((byte) 0x00);
+        byteBuffer.position(1).limit(clientDataJson.length + 1);
+
+        CollectedClientData fromByteBuffer = target.convert(byteBuffer);
+        CollectedClientData fromInputStream = target.convert(new ByteArrayInputStream(clientDataJson));
+        assertAll(
+                () -> assertThat(fromByteBuffer).isEqualTo(target.convert(clientDataJson)),
+                () -> assertThat(fromInputStream).isEqualTo(target.convert(clientDataJson)),
+                () -> assertThat(byteBuffer.position()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void convert_escaped_clientData_test() {
+        String clientDataJson = "{\"type\":\"webauthn.get\",\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"https:\\/\\/example.com\"}";
+        CollectedClientData collectedClientData = target.convert(clientDataJson.getBytes(StandardCharsets.UTF_8));
+        assertThat(collectedClientData.getOrigin()).isEqualTo(new Origin("https://example.com"));
+    }
+
     @Test
     void convert_null_test() {
         assertThatThrownBy(() -> target.convert((String) null)).isInstanceOf(DataConversionException.class);
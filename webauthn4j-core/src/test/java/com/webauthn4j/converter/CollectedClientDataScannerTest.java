@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.client.CollectedClientData;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectedClientDataScannerTest {
+
+    private final JsonConverter jsonConverter = new ObjectConverter().getJsonConverter();
+
+    private final CollectedClientDataScanner target = new CollectedClientDataScanner();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"http://localhost:8080\",\"crossOrigin\":true,\"tokenBinding\":{\"status\":\"not-supported\"},\"type\":\"webauthn.get\"}",
+            "{\"type\":\"webauthn.create\",\"challenge\":\"Tgup0LZZQKinvtQcZFYdRw\",\"origin\":\"https://example.com\",\"crossOrigin\":false,\"other_keys_can_be_added_here\":\"do not compare clientDataJSON against a template. See https://goo.gl/yabPex\"}",
+            "{\n  \"type\" : \"webauthn.create\",\n  \"challenge\" : \"AAABcXKin1fLrZx0o4RL64fs-RUVSxCu\",\n  \"origin\" : \"android:apk-key-hash:pNiP5iKyQ8JwgGOaKA1zGPUPJIS00H1xKCQcfIoGLck\",\n  \"androidPackageName\" : \"com.myrpid.app\"\n}",
+            "{\"type\":\"payment.get\",\"challenge\":\"\",\"origin\":\"https://EXAMPLE.com:8443\",\"crossOrigin\":null,\"tokenBinding\":{\"status\":\"present\",\"id\":\"AAAA\",\"extra\":0}}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\",\"tokenBinding\":null,\"n\":-1.5e+3,\"b\":false,\"z\":null}"
+    })
+    void scan_matches_jackson_test(String clientDataJson) {
+        byte[] source = clientDataJson.getBytes(StandardCharsets.UTF_8);
+
+        CollectedClientData result = target.scan(source, 0, source.length);
+
+        assertThat(result).isNotNull();
+        assertThat(result).isEqualTo(jsonConverter.readValue(clientDataJson, CollectedClientData.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AA\\u0041A\",\"origin\":\"https://example.com\"}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\",\"name\":\"\u3042\"}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\",\"extra\":{\"a\":1}}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\",\"extra\":[1]}",
+            "{\"type\":\"webauthn.get\",\"type\":\"webauthn.create\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\"}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\",\"crossOrigin\":\"true\"}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\"} trailing",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"!!!!\",\"origin\":\"https://example.com\"}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://exa mple.com\"}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\"}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\",\"tokenBinding\":{}}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\",\"x\":\"a\ntrue}",
+            "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\",\"x\":01}",
+            "{}",
+            ""
+    })
+    void scan_leaves_data_to_jackson_test(String clientDataJson) {
+        byte[] source = clientDataJson.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(target.scan(source, 0, source.length)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3})
+    void scan_with_offset_test(int offset) {
+        byte[] clientDataJson = "{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://example.com\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] source = new byte[clientDataJson.length + offset * 2];
+        System.arraycopy(clientDataJson, 0, source, offset, clientDataJson.length);
+
+        CollectedClientData result = target.scan(source, offset, clientDataJson.length);
+
+        assertThat(result).isEqualTo(jsonConverter.readValue(clientDataJson, CollectedClientData.class));
+    }
+}
@@ -16,9 +16,13 @@
 
 package com.webauthn4j.converter.util;
 
+import com.webauthn4j.converter.exception.DataConversionException;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class CborConverterTest {
 
@@ -30,4 +34,18 @@ class CborConverterTest {
         assertThat(bytes).isNotNull();
     }
 
+    @Test
+    void readerFor_test() {
+        ConverterTestDto converterTestDto = new ConverterTestDto();
+        converterTestDto.setValue("dummy");
+        byte[] bytes = cborConverter.writeValueAsBytes(converterTestDto);
+
+        CborValueReader<ConverterTestDto> reader = cborConverter.readerFor(ConverterTestDto.class);
+
+        assertThat(reader.readValue(bytes).getValue()).isEqualTo("dummy");
+        assertThat(reader.readValue(new ByteArrayInputStream(bytes)).getValue()).isEqualTo("dummy");
+        assertThat(cborConverter.readerFor(ConverterTestDto.class)).isSameAs(reader);
+        assertThatThrownBy(() -> reader.readValue(new byte[]{(byte) 0xFF})).isInstanceOf(DataConversionException.class);
+    }
+
 }
\ No newline at end of file
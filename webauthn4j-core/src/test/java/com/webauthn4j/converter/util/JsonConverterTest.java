@@ -27,6 +27,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Test;
 
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -75,6 +77,26 @@ class JsonConverterTest {
         );
     }
 
+    @Test
+    void readerFor_test() {
+        JsonValueReader<ConverterTestDto> reader = jsonConverter.readerFor(ConverterTestDto.class);
+
+        assertThat(reader.readValue("{\"value\":\"dummy\"}").getValue()).isEqualTo("dummy");
+        assertThat(reader.readValue("{\"value\":\"dummy\"}".getBytes(StandardCharsets.UTF_8)).getValue()).isEqualTo("dummy");
+        assertThat(jsonConverter.readerFor(ConverterTestDto.class)).isSameAs(reader);
+        assertThrows(DataConversionException.class, () -> reader.readValue("{value:\"dummy\"}"));
+    }
+
+    @Test
+    void readerFor_TypeReference_test() {
+        JsonValueReader<List<ConverterTestDto>> reader = jsonConverter.readerFor(new TypeReference<List<ConverterTestDto>>() {
+        });
+
+        assertThat(reader.readValue("[{\"value\":\"dummy\"}]")).extracting(ConverterTestDto::getValue).containsExactly("dummy");
+        assertThat(jsonConverter.readerFor(new TypeReference<List<ConverterTestDto>>() {
+        })).isSameAs(reader);
+    }
+
     static class readValue {
         @Test
         void test() {
@@ -18,6 +18,10 @@ package com.webauthn4j.converter.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.test.TestDataUtil;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,4 +37,20 @@ class ObjectConverterTest {
         assertThat(objectConverter.getCborConverter()).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void createOptimized_test() {
+        ObjectConverter objectConverter = new ObjectConverter();
+        ObjectConverter optimized = ObjectConverter.createOptimized();
+
+        CollectedClientData collectedClientData = TestDataUtil.createClientData(ClientDataType.WEBAUTHN_CREATE);
+        String json = objectConverter.getJsonConverter().writeValueAsString(collectedClientData);
+        AttestationObject attestationObject = TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement();
+        byte[] cbor = objectConverter.getCborConverter().writeValueAsBytes(attestationObject);
+
+        assertThat(optimized.getJsonConverter().writeValueAsString(collectedClientData)).isEqualTo(json);
+        assertThat(optimized.getJsonConverter().readValue(json, CollectedClientData.class)).isEqualTo(collectedClientData);
+        assertThat(optimized.getCborConverter().writeValueAsBytes(attestationObject)).isEqualTo(cbor);
+        assertThat(optimized.getCborConverter().readValue(cbor, AttestationObject.class)).isEqualTo(attestationObject);
+    }
+
+}
@@ -23,9 +23,11 @@ import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
 import com.webauthn4j.validator.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 
+import java.io.*;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.PublicKey;
@@ -242,6 +244,35 @@ class EC2COSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_cached_instance_test() {
+        EC2COSEKey target = TestDataUtil.createEC2COSEPublicKey();
+        assertThat(target.getPublicKey()).isSameAs(target.getPublicKey());
+    }
+
+    @Test
+    void getPublicKey_after_java_serialization_test() {
+        EC2COSEKey original = TestDataUtil.createEC2COSEPublicKey();
+        PublicKey publicKey = original.getPublicKey();
+
+        byte[] serialized;
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream(); ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(original);
+            serialized = baos.toByteArray();
+        } catch (IOException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+
+        EC2COSEKey deserialized;
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(serialized); ObjectInputStream ois = new ObjectInputStream(bais)) {
+            deserialized = (EC2COSEKey) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+
+        assertThat(deserialized.getPublicKey()).isEqualTo(publicKey);
+    }
+
     @Test
     void getPrivateKey_test() {
         EC2COSEKey keyPair = EC2COSEKey.create(ECUtil.createKeyPair());
@@ -33,6 +33,13 @@ class EdDSACOSEKeyTest {
         assertThat(coseKey.getPublicKey().getEncoded()).isEqualTo(keyPair.getPublic().getEncoded());
     }
 
+    @Test
+    void publicKey_returns_cached_instance_test(){
+        KeyPair keyPair = EdDSAUtil.createKeyPair();
+        COSEKey coseKey = EdDSACOSEKey.create((EdECPublicKey) keyPair.getPublic());
+        assertThat(coseKey.getPublicKey()).isSameAs(coseKey.getPublicKey());
+    }
+
     @Test
     void privateKey_test(){
         KeyPair keyPair = EdDSAUtil.createKeyPair();
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data.client.challenge;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChallengeGeneratorTest {
+
+    @Test
+    void generate_test() {
+        ChallengeGenerator target = new ChallengeGenerator();
+        Challenge challengeA = target.generate();
+        Challenge challengeB = target.generate();
+
+        assertThat(challengeA.getValue()).hasSize(32);
+        assertThat(challengeA).isNotEqualTo(challengeB);
+    }
+
+    @Test
+    void generate_with_length_test() {
+        ChallengeGenerator target = new ChallengeGenerator(64);
+        assertThat(target.getLength()).isEqualTo(64);
+        assertThat(target.generate().getValue()).hasSize(64);
+    }
+
+    @Test
+    void generate_batch_test() {
+        ChallengeGenerator target = new ChallengeGenerator();
+        List<Challenge> challenges = target.generate(100);
+
+        assertThat(challenges).hasSize(100).doesNotHaveDuplicates();
+        assertThat(challenges).allSatisfy(challenge -> assertThat(challenge.getValue()).hasSize(32));
+    }
+
+    @Test
+    void generate_concurrently_test() throws InterruptedException {
+        ChallengeGenerator target = new ChallengeGenerator(16);
+        Set<Challenge> challenges = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    challenges.add(target.generate());
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(challenges).hasSize(8000);
+    }
+
+    @Test
+    void constructor_with_too_short_length_test() {
+        assertThrows(IllegalArgumentException.class, () -> new ChallengeGenerator(15));
+    }
+}
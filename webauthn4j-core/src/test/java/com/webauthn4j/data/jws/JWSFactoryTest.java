@@ -16,11 +16,18 @@
 
 package com.webauthn4j.data.jws;
 
+import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.ECUtil;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.util.Collections;
@@ -58,6 +65,72 @@ class JWSFactoryTest {
         assertThatThrownBy(() -> target.create(header, payload, privateKey)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void parse_InputStream_test() {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())));
+        Payload payload = new Payload();
+        payload.setDummy("dummy");
+        JWS<Payload> created = target.create(header, payload, TestAttestationUtil.load3tierTestAuthenticatorAttestationPrivateKey());
+        String serialized = created.toString();
+        // line breaks are ignored
+        String input = serialized.substring(0, 10) + "\r\n" + serialized.substring(10) + "\n";
+
+        JWS<Payload> jws = target.parse(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), Payload.class);
+
+        assertThat(jws.getHeader()).isEqualTo(header);
+        assertThat(jws.getPayload().getDummy()).isEqualTo("dummy");
+        assertThat(jws.getSignature()).isEqualTo(created.getSignature());
+        assertThat(jws.isValidSignature()).isTrue();
+        assertThat(jws).hasToString(serialized);
+        assertThat(jws.getBytes()).isEqualTo(created.getBytes());
+        assertThat(target.parse(serialized, Payload.class).isValidSignature()).isTrue();
+    }
+
+    @Test
+    void parse_InputStream_with_invalid_signature_test() {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())));
+        Payload payload = new Payload();
+        payload.setDummy("dummy");
+        JWS<Payload> created = target.create(header, payload, ECUtil.createKeyPair().getPrivate());
+
+        JWS<Payload> jws = target.parse(new ByteArrayInputStream(created.getBytes()), Payload.class);
+
+        assertThat(jws.isValidSignature()).isFalse();
+    }
+
+    @Test
+    void parse_InputStream_and_deserialize_test() throws IOException, ClassNotFoundException {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())));
+        Payload payload = new Payload();
+        payload.setDummy("dummy");
+        JWS<Payload> valid = target.parse(new ByteArrayInputStream(target.create(header, payload, TestAttestationUtil.load3tierTestAuthenticatorAttestationPrivateKey()).getBytes()), Payload.class);
+        JWS<Payload> invalid = target.parse(new ByteArrayInputStream(target.create(header, payload, ECUtil.createKeyPair().getPrivate()).getBytes()), Payload.class);
+
+        // the verification result is recomputed from the serialized form after deserialization
+        assertThat(serializeAndDeserialize(valid).isValidSignature()).isTrue();
+        assertThat(serializeAndDeserialize(invalid).isValidSignature()).isFalse();
+    }
+
+    @Test
+    void parse_InputStream_invalid_data_test() {
+        assertThatThrownBy(() -> target.parse(new ByteArrayInputStream("invalid".getBytes(StandardCharsets.US_ASCII)), Payload.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> target.parse(new ByteArrayInputStream("eyJhbGciOiJFUzI1NiJ9.e30.AA.AA".getBytes(StandardCharsets.US_ASCII)), Payload.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> target.parse(new ByteArrayInputStream("eyJhbGciOiJFUzI1NiJ9.e3*.AA".getBytes(StandardCharsets.US_ASCII)), Payload.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JWS<Payload> serializeAndDeserialize(JWS<Payload> jws) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(jws);
+        }
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            return (JWS<Payload>) objectInputStream.readObject();
+        }
+    }
 
     private static class Payload implements Serializable {
         private String dummy;
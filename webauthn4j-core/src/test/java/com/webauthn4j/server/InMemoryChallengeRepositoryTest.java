@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.ChallengeGenerator;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryChallengeRepositoryTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final InMemoryChallengeRepository target = new InMemoryChallengeRepository(4, clock);
+
+    @Test
+    void consume_test() {
+        when(clock.millis()).thenReturn(0L);
+        Challenge challenge = new DefaultChallenge();
+        target.save(challenge, Duration.ofMinutes(5));
+
+        assertThat(target.consume(new DefaultChallenge(challenge.getValue()))).isTrue();
+        assertThat(target.consume(challenge)).isFalse();
+    }
+
+    @Test
+    void consume_not_saved_challenge_test() {
+        when(clock.millis()).thenReturn(0L);
+        assertThat(target.consume(new DefaultChallenge())).isFalse();
+    }
+
+    @Test
+    void consume_expired_challenge_test() {
+        when(clock.millis()).thenReturn(0L);
+        Challenge challenge = new DefaultChallenge();
+        target.save(challenge, Duration.ofMinutes(5));
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(5).toMillis());
+        assertThat(target.consume(challenge)).isFalse();
+    }
+
+    @Test
+    void save_evicts_expired_challenges_test() {
+        when(clock.millis()).thenReturn(0L);
+        List<Challenge> expired = new ChallengeGenerator().generate(100);
+        for (Challenge challenge : expired) {
+            target.save(challenge, Duration.ofSeconds(1));
+        }
+        assertThat(target.size()).isEqualTo(100);
+
+        when(clock.millis()).thenReturn(Duration.ofSeconds(2).toMillis());
+        for (Challenge challenge : new ChallengeGenerator().generate(100)) {
+            target.save(challenge, Duration.ofSeconds(1));
+        }
+        assertThat(target.size()).isLessThan(200);
+        for (Challenge challenge : expired) {
+            assertThat(target.consume(challenge)).isFalse();
+        }
+    }
+
+    @Test
+    void consume_concurrently_test() throws InterruptedException {
+        InMemoryChallengeRepository repository = new InMemoryChallengeRepository(16, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+        List<Challenge> challenges = new ChallengeGenerator().generate(1000);
+        for (Challenge challenge : challenges) {
+            repository.save(challenge, Duration.ofMinutes(5));
+        }
+        AtomicInteger consumed = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executorService.execute(() -> {
+                for (Challenge challenge : challenges) {
+                    if (repository.consume(challenge)) {
+                        consumed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(consumed).hasValue(1000);
+        assertThat(repository.size()).isZero();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ServerPropertyRegistryTest {
+
+    private final ServerPropertyRegistry target = new ServerPropertyRegistry();
+
+    @Test
+    void find_test() {
+        ServerProperty tenantA = new ServerProperty(new Origin("https://a.example.com"), "a.example.com", null, null);
+        ServerProperty tenantB = new ServerProperty(new Origin("https://b.example.com"), "b.example.com", null, new byte[]{0x01});
+        target.register(tenantA);
+        target.register(tenantB);
+
+        assertAll(
+                () -> assertThat(target.find(tenantA.getRpIdHash())).isSameAs(tenantA),
+                () -> assertThat(target.find(tenantB.getRpIdHash())).isSameAs(tenantB),
+                () -> assertThat(target.find(new byte[32])).isNull(),
+                () -> assertThat(target.getServerProperties()).containsExactlyInAnyOrder(tenantA, tenantB)
+        );
+    }
+
+    @Test
+    void find_with_challenge_test() {
+        ServerProperty template = new ServerProperty(new Origin("https://a.example.com"), "a.example.com", null, new byte[]{0x01});
+        target.register(template);
+        Challenge challenge = new DefaultChallenge();
+
+        ServerProperty serverProperty = target.find(template.getRpIdHash(), challenge);
+
+        assertThat(serverProperty).isEqualTo(new ServerProperty(new Origin("https://a.example.com"), "a.example.com", challenge, new byte[]{0x01}));
+        //noinspection ConstantConditions
+        assertThat(serverProperty.getRpIdHash()).isEqualTo(template.getRpIdHash());
+        assertThat(target.find(new byte[32], challenge)).isNull();
+    }
+
+    @Test
+    void unregister_test() {
+        ServerProperty template = new ServerProperty(new Origin("https://a.example.com"), "a.example.com", null, null);
+        target.register(template);
+        target.unregister("a.example.com");
+        assertThat(target.find(template.getRpIdHash())).isNull();
+    }
+}
@@ -49,6 +49,19 @@ class ServerPropertyTest {
         );
     }
 
+    @Test
+    void getRpIdHash_test() throws Exception {
+        ServerProperty serverProperty = new ServerProperty(webApp1Origin, rpId, null, null);
+        byte[] expected = java.security.MessageDigest.getInstance("SHA-256").digest(rpId.getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertThat(serverProperty.getRpIdHash()).isEqualTo(expected),
+                () -> assertThat(serverProperty.getRpIdHash()).isNotSameAs(serverProperty.getRpIdHash()),
+                () -> assertThat(serverProperty.matchesRpIdHash(expected)).isTrue(),
+                () -> assertThat(serverProperty.matchesRpIdHash(new byte[32])).isFalse()
+        );
+    }
+
     @Test
     void equals_hashCode_test() {
         Challenge challenge = new DefaultChallenge();
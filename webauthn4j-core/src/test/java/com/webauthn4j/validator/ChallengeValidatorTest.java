@@ -21,11 +21,15 @@ import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.server.ChallengeRepository;
+import com.webauthn4j.server.InMemoryChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.validator.exception.BadChallengeException;
 import com.webauthn4j.validator.exception.MissingChallengeException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
@@ -82,4 +86,35 @@ class ChallengeValidatorTest {
                 () -> target.validate(collectedClientData, serverProperty)
         );
     }
+
+    @Test
+    void validate_with_challengeRepository_test() {
+        ChallengeRepository challengeRepository = new InMemoryChallengeRepository();
+        Challenge challenge = new DefaultChallenge(new byte[]{0x00});
+        challengeRepository.save(challenge, Duration.ofMinutes(5));
+        target.setChallengeRepository(challengeRepository);
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.WEBAUTHN_CREATE, challenge, Origin.create("http://example.com"), null);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, null, null);
+
+        //When
+        target.validate(collectedClientData, serverProperty);
+        assertThrows(BadChallengeException.class,
+                () -> target.validate(collectedClientData, serverProperty)
+        );
+    }
+
+    @Test
+    void validate_with_challengeRepository_and_not_issued_challenge_test() {
+        target.setChallengeRepository(new InMemoryChallengeRepository());
+        Challenge challenge = new DefaultChallenge(new byte[]{0x00});
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.WEBAUTHN_CREATE, challenge, Origin.create("http://example.com"), null);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+
+        //When
+        assertThrows(BadChallengeException.class,
+                () -> target.validate(collectedClientData, serverProperty)
+        );
+    }
 }
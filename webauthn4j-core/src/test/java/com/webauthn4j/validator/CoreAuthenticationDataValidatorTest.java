@@ -16,9 +16,14 @@
 
 package com.webauthn4j.validator;
 
+import com.webauthn4j.authenticator.CoreAuthenticator;
+import com.webauthn4j.authenticator.CoreAuthenticatorImpl;
+import com.webauthn4j.test.TestDataUtil;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class CoreAuthenticationDataValidatorTest {
 
@@ -36,4 +41,20 @@ class CoreAuthenticationDataValidatorTest {
         assertThat(coreAuthenticationDataValidator.getMaliciousCounterValueHandler()).isEqualTo(coreMaliciousCounterValueHandler);
     }
 
-}
\ No newline at end of file
+    @Test
+    void updateCounter_with_AtomicCounterAuthenticator_test() {
+        CoreAuthenticatorImpl authenticator = new CoreAuthenticatorImpl(TestDataUtil.createAttestedCredentialData(), null, 1, null);
+        assertThat(CoreAuthenticationDataValidator.updateCounter(authenticator, 0, 2)).isFalse();
+        assertThat(authenticator.getCounter()).isEqualTo(1);
+        assertThat(CoreAuthenticationDataValidator.updateCounter(authenticator, 1, 2)).isTrue();
+        assertThat(authenticator.getCounter()).isEqualTo(2);
+    }
+
+    @Test
+    void updateCounter_with_non_atomic_authenticator_test() {
+        CoreAuthenticator authenticator = mock(CoreAuthenticator.class);
+        assertThat(CoreAuthenticationDataValidator.updateCounter(authenticator, 0, 2)).isTrue();
+        verify(authenticator).setCounter(2);
+    }
+
+}
@@ -80,6 +80,29 @@ class RegistrationObjectTest {
         );
     }
 
+    @Test
+    void getAuthenticatorDataBytes_with_captured_bytes_does_not_decode_attestationObjectBytes_test() {
+        CollectedClientData clientData = TestDataUtil.createClientData(ClientDataType.WEBAUTHN_CREATE);
+        byte[] clientDataBytes = new CollectedClientDataConverter(objectConverter).convertToBytes(clientData);
+        AttestationObject attestationObject = TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement();
+        byte[] authenticatorDataBytes = new AuthenticatorDataConverter(objectConverter).convert(attestationObject.getAuthenticatorData());
+        // not a valid CBOR, so that decoding attestationObjectBytes would fail
+        byte[] malformedAttestationObjectBytes = new byte[]{(byte) 0xFF};
+        RegistrationObject registrationObject = new RegistrationObject(
+                attestationObject,
+                malformedAttestationObjectBytes,
+                authenticatorDataBytes,
+                clientData,
+                clientDataBytes,
+                new AuthenticationExtensionsClientOutputs<>(),
+                Collections.emptySet(),
+                TestDataUtil.createServerProperty(),
+                Instant.now()
+        );
+
+        assertThat(registrationObject.getAuthenticatorDataBytes()).isEqualTo(authenticatorDataBytes);
+    }
+
     @Test
     void equals_hashCode_test() {
         CollectedClientData clientData = TestDataUtil.createClientData(ClientDataType.WEBAUTHN_CREATE);
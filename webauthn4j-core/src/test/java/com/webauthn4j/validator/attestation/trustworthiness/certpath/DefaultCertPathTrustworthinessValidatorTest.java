@@ -28,6 +28,8 @@ import com.webauthn4j.validator.exception.TrustAnchorNotFoundException;
 import org.junit.jupiter.api.Test;
 
 import java.security.cert.TrustAnchor;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
@@ -100,6 +102,73 @@ class DefaultCertPathTrustworthinessValidatorTest {
     }
 
 
+    @Test
+    void validate_with_validationCache_test() {
+        when(trustAnchorRepository.find((AAGUID) any())).thenAnswer(invocation -> CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate())));
+        target.setValidationCacheSize(10);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        Instant timestamp = Instant.now();
+        target.validate(aaguid, attestationStatement, timestamp);
+        target.validate(aaguid, attestationStatement, timestamp);
+
+        //noinspection ConstantConditions
+        assertThat(target.getValidationCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    void validate_with_validationCache_and_full_chain_test() {
+        when(trustAnchorRepository.find(aaguid)).thenReturn(CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate())));
+        target.setValidationCacheSize(10);
+
+        AttestationCertificatePath attestationCertificatePath
+                = new AttestationCertificatePath(Arrays.asList(
+                TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate(),
+                TestAttestationUtil.load3tierTestIntermediateCACertificate(),
+                TestAttestationUtil.load3tierTestRootCACertificate()));
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(attestationCertificatePath);
+        target.validate(aaguid, attestationStatement);
+
+        target.setFullChainProhibited(true);
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+    }
+
+    @Test
+    void validate_with_validationCache_and_revocationCheck_test() {
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate())));
+        target.setValidationCacheSize(10);
+        target.setRevocationCheckEnabled(true);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+        //noinspection ConstantConditions
+        assertThat(target.getValidationCache().size()).isZero();
+    }
+
+    @Test
+    void validate_with_validationCache_after_notAfter_test() {
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate())));
+        target.setValidationCacheSize(10);
+        target.setValidationCacheTimeBucket(Duration.ofDays(365 * 1000));
+
+        AttestationCertificatePath attestationCertificatePath = TestAttestationUtil.load3tierTestAttestationCertificatePath();
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(attestationCertificatePath);
+        target.validate(aaguid, attestationStatement, Instant.now());
+
+        Instant afterNotAfter = attestationCertificatePath.getEndEntityAttestationCertificate().getCertificate().getNotAfter().toInstant().plusSeconds(1);
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement, afterNotAfter)
+        );
+    }
+
     @Test
     void getter_setter_test() {
         target.setFullChainProhibited(true);
@@ -108,6 +177,10 @@ class DefaultCertPathTrustworthinessValidatorTest {
         assertThat(target.isPolicyQualifiersRejected()).isTrue();
         target.setRevocationCheckEnabled(true);
         assertThat(target.isRevocationCheckEnabled()).isTrue();
+        target.setValidationCacheSize(100);
+        assertThat(target.getValidationCacheSize()).isEqualTo(100);
+        target.setValidationCacheTimeBucket(Duration.ofMinutes(5));
+        assertThat(target.getValidationCacheTimeBucket()).isEqualTo(Duration.ofMinutes(5));
     }
 
 
@@ -28,12 +28,15 @@ import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ExecutorUtil;
 import com.webauthn4j.validator.CustomCoreAuthenticationValidator;
 import com.webauthn4j.validator.exception.ValidationException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class DeviceCheckAssertionManager {
 
@@ -43,6 +46,8 @@ public class DeviceCheckAssertionManager {
     private final AuthenticatorDataConverter authenticatorDataConverter;
 
     private final DCAssertionDataValidator dcAssertionDataValidator;
+    // null to use the shared validation pool, which is created on first use
+    private Executor validationExecutor;
     private final CborConverter cborConverter;
 
     public DeviceCheckAssertionManager(@NonNull List<CustomCoreAuthenticationValidator> customAuthenticationValidators, @NonNull ObjectConverter objectConverter) {
@@ -95,6 +100,51 @@ public class DeviceCheckAssertionManager {
         return dcAssertionData;
     }
 
+    /**
+     * Parses the request on the caller thread, and validates it on the validation executor
+     *
+     * @param dcAssertionRequest request
+     * @param dcAssertionParameters parameters
+     * @return future completed with the validated data, or exceptionally with the {@link DataConversionException} or the {@link ValidationException}
+     */
+    public @NonNull CompletableFuture<DCAssertionData> validateAsync(@NonNull DCAssertionRequest dcAssertionRequest, @NonNull DCAssertionParameters dcAssertionParameters) {
+        DCAssertionData dcAssertionData;
+        try {
+            dcAssertionData = parse(dcAssertionRequest);
+        } catch (RuntimeException e) {
+            CompletableFuture<DCAssertionData> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return validateAsync(dcAssertionData, dcAssertionParameters);
+    }
+
+    /**
+     * Validates the parsed data on the validation executor
+     *
+     * @param dcAssertionData parsed data
+     * @param dcAssertionParameters parameters
+     * @return future completed with the validated data, or exceptionally with the {@link ValidationException}
+     */
+    public @NonNull CompletableFuture<DCAssertionData> validateAsync(@NonNull DCAssertionData dcAssertionData, @NonNull DCAssertionParameters dcAssertionParameters) {
+        return CompletableFuture.supplyAsync(() -> validate(dcAssertionData, dcAssertionParameters), getValidationExecutor());
+    }
+
+    public @NonNull Executor getValidationExecutor() {
+        return validationExecutor != null ? validationExecutor : ExecutorUtil.getValidationPool();
+    }
+
+    /**
+     * Sets the executor running the validation of validateAsync, as
+     * {@link com.webauthn4j.WebAuthnAuthenticationManager#setValidationExecutor(Executor)} does.
+     *
+     * @param validationExecutor executor
+     */
+    public void setValidationExecutor(@NonNull Executor validationExecutor) {
+        AssertUtil.notNull(validationExecutor, "validationExecutor must not be null");
+        this.validationExecutor = validationExecutor;
+    }
+
     public @NonNull DCAssertionDataValidator getDCAssertionDataValidator() {
         return dcAssertionDataValidator;
     }
@@ -25,12 +25,15 @@ import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ExecutorUtil;
 import com.webauthn4j.validator.CustomCoreRegistrationValidator;
 import com.webauthn4j.validator.attestation.trustworthiness.certpath.CertPathTrustworthinessValidator;
 import com.webauthn4j.validator.exception.ValidationException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class DeviceCheckAttestationManager {
 
@@ -39,6 +42,8 @@ public class DeviceCheckAttestationManager {
 
     private final AttestationObjectConverter attestationObjectConverter;
     private final DCAttestationDataValidator dcAttestationDataValidator;
+    // null to use the shared validation pool, which is created on first use
+    private Executor validationExecutor;
 
     public DeviceCheckAttestationManager(
             @NonNull CertPathTrustworthinessValidator certPathTrustworthinessValidator,
@@ -62,12 +67,16 @@ public class DeviceCheckAttestationManager {
         byte[] attestationObjectBytes = dcAttestationRequest.getAttestationObject();
         byte[] clientDataHash = dcAttestationRequest.getClientDataHash();
 
-        AttestationObject attestationObject = attestationObjectBytes == null ? null : attestationObjectConverter.convert(attestationObjectBytes);
+        AttestationObjectConverter.ConvertedAttestationObject convertedAttestationObject =
+                attestationObjectBytes == null ? null : attestationObjectConverter.convertWithAuthenticatorDataBytes(attestationObjectBytes);
+        AttestationObject attestationObject = convertedAttestationObject == null ? null : convertedAttestationObject.getAttestationObject();
+        byte[] authenticatorDataBytes = convertedAttestationObject == null ? null : convertedAttestationObject.getAuthenticatorDataBytes();
 
         return new DCAttestationData(
                 keyId,
                 attestationObject,
                 attestationObjectBytes,
+                authenticatorDataBytes,
                 clientDataHash
         );
     }
@@ -84,6 +93,51 @@ public class DeviceCheckAttestationManager {
         return dcAttestationData;
     }
 
+    /**
+     * Parses the request on the caller thread, and validates it on the validation executor
+     *
+     * @param dcAttestationRequest request
+     * @param dcAttestationParameters parameters
+     * @return future completed with the validated data, or exceptionally with the {@link DataConversionException} or the {@link ValidationException}
+     */
+    public @NonNull CompletableFuture<DCAttestationData> validateAsync(@NonNull DCAttestationRequest dcAttestationRequest, @NonNull DCAttestationParameters dcAttestationParameters) {
+        DCAttestationData dcAttestationData;
+        try {
+            dcAttestationData = parse(dcAttestationRequest);
+        } catch (RuntimeException e) {
+            CompletableFuture<DCAttestationData> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return validateAsync(dcAttestationData, dcAttestationParameters);
+    }
+
+    /**
+     * Validates the parsed data on the validation executor
+     *
+     * @param dcAttestationData parsed data
+     * @param dcAttestationParameters parameters
+     * @return future completed with the validated data, or exceptionally with the {@link ValidationException}
+     */
+    public @NonNull CompletableFuture<DCAttestationData> validateAsync(@NonNull DCAttestationData dcAttestationData, @NonNull DCAttestationParameters dcAttestationParameters) {
+        return CompletableFuture.supplyAsync(() -> validate(dcAttestationData, dcAttestationParameters), getValidationExecutor());
+    }
+
+    public @NonNull Executor getValidationExecutor() {
+        return validationExecutor != null ? validationExecutor : ExecutorUtil.getValidationPool();
+    }
+
+    /**
+     * Sets the executor running the validation of validateAsync, as
+     * {@link com.webauthn4j.WebAuthnAuthenticationManager#setValidationExecutor(Executor)} does.
+     *
+     * @param validationExecutor executor
+     */
+    public void setValidationExecutor(@NonNull Executor validationExecutor) {
+        AssertUtil.notNull(validationExecutor, "validationExecutor must not be null");
+        this.validationExecutor = validationExecutor;
+    }
+
     public @NonNull DCAttestationDataValidator getDCAttestationDataValidator() {
         return dcAttestationDataValidator;
     }
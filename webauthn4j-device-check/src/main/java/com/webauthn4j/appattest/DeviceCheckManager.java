@@ -33,6 +33,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class DeviceCheckManager {
 
@@ -156,6 +158,37 @@ public class DeviceCheckManager {
         return this.deviceCheckAssertionManager.validate(dcAssertionData, dcAssertionParameters);
     }
 
+    public @NonNull CompletableFuture<DCAttestationData> validateAsync(@NonNull DCAttestationRequest dcAttestationRequest, @NonNull DCAttestationParameters dcAttestationParameters) {
+        return this.deviceCheckAttestationManager.validateAsync(dcAttestationRequest, dcAttestationParameters);
+    }
+
+    public @NonNull CompletableFuture<DCAttestationData> validateAsync(@NonNull DCAttestationData dcAttestationData, @NonNull DCAttestationParameters dcAttestationParameters) {
+        return this.deviceCheckAttestationManager.validateAsync(dcAttestationData, dcAttestationParameters);
+    }
+
+    public @NonNull CompletableFuture<DCAssertionData> validateAsync(@NonNull DCAssertionRequest dcAssertionRequest, @NonNull DCAssertionParameters dcAssertionParameters) {
+        return this.deviceCheckAssertionManager.validateAsync(dcAssertionRequest, dcAssertionParameters);
+    }
+
+    public @NonNull CompletableFuture<DCAssertionData> validateAsync(@NonNull DCAssertionData dcAssertionData, @NonNull DCAssertionParameters dcAssertionParameters) {
+        return this.deviceCheckAssertionManager.validateAsync(dcAssertionData, dcAssertionParameters);
+    }
+
+    public @NonNull Executor getValidationExecutor() {
+        return this.deviceCheckAttestationManager.getValidationExecutor();
+    }
+
+    /**
+     * Sets the executor running the validation of validateAsync of the underlying managers, as
+     * {@link com.webauthn4j.WebAuthnAuthenticationManager#setValidationExecutor(Executor)} does.
+     *
+     * @param validationExecutor executor
+     */
+    public void setValidationExecutor(@NonNull Executor validationExecutor) {
+        this.deviceCheckAttestationManager.setValidationExecutor(validationExecutor);
+        this.deviceCheckAssertionManager.setValidationExecutor(validationExecutor);
+    }
+
     public @NonNull DCAttestationDataValidator getAttestationDataValidator() {
         return this.deviceCheckAttestationManager.getDCAttestationDataValidator();
     }
@@ -25,17 +25,29 @@ import java.util.Arrays;
 
 public class DCAttestationData extends CoreRegistrationData {
 
+    // pinned to the value before the constructor taking authenticatorDataBytes was added
+    private static final long serialVersionUID = 8345454913377392718L;
+
     private final byte[] keyId;
 
     public DCAttestationData(
             @Nullable byte[] keyId,
             @Nullable AttestationObject attestationObject,
             @Nullable byte[] attestationObjectBytes,
+            @Nullable byte[] authenticatorDataBytes,
             @Nullable byte[] clientDataHash) {
-        super(attestationObject, attestationObjectBytes, clientDataHash);
+        super(attestationObject, attestationObjectBytes, authenticatorDataBytes, clientDataHash);
         this.keyId = ArrayUtil.clone(keyId);
     }
 
+    public DCAttestationData(
+            @Nullable byte[] keyId,
+            @Nullable AttestationObject attestationObject,
+            @Nullable byte[] attestationObjectBytes,
+            @Nullable byte[] clientDataHash) {
+        this(keyId, attestationObject, attestationObjectBytes, null, clientDataHash);
+    }
+
     public @Nullable byte[] getKeyId() {
         return ArrayUtil.clone(keyId);
     }
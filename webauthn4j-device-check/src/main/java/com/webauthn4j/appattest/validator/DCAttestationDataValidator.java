@@ -91,6 +91,7 @@ public class DCAttestationDataValidator extends CoreRegistrationDataValidator {
                 dcAttestationData.getKeyId(),
                 registrationData.getAttestationObject(),
                 registrationData.getAttestationObjectBytes(),
+                registrationData.getAuthenticatorDataBytes(),
                 registrationData.getClientDataHash(),
                 registrationParameters.getServerProperty(), Instant.now());
     }
@@ -32,20 +32,32 @@ public class DCRegistrationObject extends CoreRegistrationObject {
     private final byte[] keyId;
 
 
+    @SuppressWarnings("squid:S00107")
     public DCRegistrationObject(
             @NonNull byte[] keyId,
             @NonNull AttestationObject attestationObject,
             @NonNull byte[] attestationObjectBytes,
+            @Nullable byte[] authenticatorDataBytes,
             @NonNull byte[] clientDataHash,
             @NonNull CoreServerProperty serverProperty,
             @NonNull Instant timestamp) {
-        super(attestationObject, attestationObjectBytes, clientDataHash, serverProperty, timestamp);
+        super(attestationObject, attestationObjectBytes, authenticatorDataBytes, clientDataHash, serverProperty, timestamp);
 
         AssertUtil.notNull(keyId, "keyId must not be null");
 
         this.keyId = ArrayUtil.clone(keyId);
     }
 
+    public DCRegistrationObject(
+            @NonNull byte[] keyId,
+            @NonNull AttestationObject attestationObject,
+            @NonNull byte[] attestationObjectBytes,
+            @NonNull byte[] clientDataHash,
+            @NonNull CoreServerProperty serverProperty,
+            @NonNull Instant timestamp) {
+        this(keyId, attestationObject, attestationObjectBytes, null, clientDataHash, serverProperty, timestamp);
+    }
+
     public DCRegistrationObject(
             @NonNull byte[] keyId,
             @NonNull AttestationObject attestationObject,
@@ -18,6 +18,7 @@ package com.webauthn4j.appattest;
 
 import com.webauthn4j.appattest.data.DCAssertion;
 import com.webauthn4j.appattest.data.DCAssertionData;
+import com.webauthn4j.appattest.data.DCAssertionParameters;
 import com.webauthn4j.appattest.data.DCAssertionRequest;
 import com.webauthn4j.converter.AuthenticatorDataConverter;
 import com.webauthn4j.converter.util.CborConverter;
@@ -25,12 +26,21 @@ import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.ExecutorUtil;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
 class DeviceCheckAssertionManagerTest {
 
@@ -60,4 +70,40 @@ class DeviceCheckAssertionManagerTest {
         assertThat(dcAssertionData.getClientDataHash()).isEqualTo(new byte[32]);
     }
 
-}
\ No newline at end of file
+    @Test
+    void validateAsync_runs_validation_on_validation_pool_by_default_test() throws ExecutionException, InterruptedException {
+        DeviceCheckAssertionManager target = spy(new DeviceCheckAssertionManager());
+        DCAssertionData dcAssertionData = mock(DCAssertionData.class);
+        DCAssertionParameters dcAssertionParameters = mock(DCAssertionParameters.class);
+        AtomicReference<Thread> validationThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            validationThread.set(Thread.currentThread());
+            return dcAssertionData;
+        }).when(target).validate(dcAssertionData, dcAssertionParameters);
+
+        CompletableFuture<DCAssertionData> future = target.validateAsync(dcAssertionData, dcAssertionParameters);
+
+        assertThat(future.get()).isSameAs(dcAssertionData);
+        assertThat(target.getValidationExecutor()).isSameAs(ExecutorUtil.getValidationPool());
+        assertThat(validationThread.get().getName()).startsWith("webauthn4j-validation-");
+    }
+
+    @Test
+    void validateAsync_runs_validation_on_validationExecutor_test() throws ExecutionException, InterruptedException {
+        DeviceCheckAssertionManager target = spy(new DeviceCheckAssertionManager());
+        DCAssertionData dcAssertionData = mock(DCAssertionData.class);
+        DCAssertionParameters dcAssertionParameters = mock(DCAssertionParameters.class);
+        doReturn(dcAssertionData).when(target).validate(dcAssertionData, dcAssertionParameters);
+        AtomicInteger executions = new AtomicInteger();
+        target.setValidationExecutor(command -> {
+            executions.incrementAndGet();
+            command.run();
+        });
+
+        CompletableFuture<DCAssertionData> future = target.validateAsync(dcAssertionData, dcAssertionParameters);
+
+        assertThat(future.get()).isSameAs(dcAssertionData);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.appattest;
+
+import com.webauthn4j.appattest.data.DCAttestationData;
+import com.webauthn4j.appattest.data.DCAttestationParameters;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.util.ExecutorUtil;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.CertPathTrustworthinessValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+class DeviceCheckAttestationManagerTest {
+
+    @Test
+    void validateAsync_runs_validation_on_validation_pool_by_default_test() throws ExecutionException, InterruptedException {
+        DeviceCheckAttestationManager target = spy(new DeviceCheckAttestationManager(mock(CertPathTrustworthinessValidator.class), Collections.emptyList(), new ObjectConverter()));
+        DCAttestationData dcAttestationData = mock(DCAttestationData.class);
+        DCAttestationParameters dcAttestationParameters = mock(DCAttestationParameters.class);
+        AtomicReference<Thread> validationThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            validationThread.set(Thread.currentThread());
+            return dcAttestationData;
+        }).when(target).validate(dcAttestationData, dcAttestationParameters);
+
+        CompletableFuture<DCAttestationData> future = target.validateAsync(dcAttestationData, dcAttestationParameters);
+
+        assertThat(future.get()).isSameAs(dcAttestationData);
+        assertThat(target.getValidationExecutor()).isSameAs(ExecutorUtil.getValidationPool());
+        assertThat(validationThread.get().getName()).startsWith("webauthn4j-validation-");
+    }
+
+    @Test
+    void validateAsync_runs_validation_on_validationExecutor_test() throws ExecutionException, InterruptedException {
+        DeviceCheckAttestationManager target = spy(new DeviceCheckAttestationManager(mock(CertPathTrustworthinessValidator.class), Collections.emptyList(), new ObjectConverter()));
+        DCAttestationData dcAttestationData = mock(DCAttestationData.class);
+        DCAttestationParameters dcAttestationParameters = mock(DCAttestationParameters.class);
+        doReturn(dcAttestationData).when(target).validate(dcAttestationData, dcAttestationParameters);
+        AtomicInteger executions = new AtomicInteger();
+        target.setValidationExecutor(command -> {
+            executions.incrementAndGet();
+            command.run();
+        });
+
+        CompletableFuture<DCAttestationData> future = target.validateAsync(dcAttestationData, dcAttestationParameters);
+
+        assertThat(future.get()).isSameAs(dcAttestationData);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+}
@@ -17,40 +17,260 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * {@link MetadataBLOBProvider} which caches the provided {@link MetadataBLOB} until its nextUpdate date.
+ * <p>
+ * By default, an expired BLOB is refreshed inline on the calling thread. Only one thread refreshes at a time, and the
+ * others get the current snapshot meanwhile. When background refresh is enabled by
+ * {@link #setBackgroundRefreshEnabled(boolean)}, callers always get the current snapshot without blocking,
+ * and a single refresh is run on a scheduler with random jitter, retried with exponential backoff on failure.
+ */
 public abstract class CachingMetadataBLOBProvider implements MetadataBLOBProvider {
 
-    private MetadataBLOB cachedMetadataBLOB;
-    private LocalDate cachedMetadataBLOBLastUpdate = null;
+    private static final Duration DEFAULT_REFRESH_JITTER = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofHours(1);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private volatile MetadataBLOB cachedMetadataBLOB;
+    private volatile LocalDate cachedMetadataBLOBLastUpdate = null;
+    private volatile Instant lastRefreshTime = null;
     private final Object cachedMetadataBLOBLock = new Object();
+    // held while the BLOB is downloaded, so that refreshes don't overlap and a slower one doesn't overwrite a newer BLOB
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile boolean backgroundRefreshEnabled = false;
+    private ScheduledExecutorService scheduledExecutorService;
+    private volatile Duration refreshJitter = DEFAULT_REFRESH_JITTER;
+    private volatile Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+    private volatile Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+    private final AtomicBoolean backgroundRefreshInProgress = new AtomicBoolean(false);
+    private volatile int consecutiveRefreshFailures = 0;
 
     @Override
     public @NonNull MetadataBLOB provide(){
-        synchronized (cachedMetadataBLOBLock){
-            if(cachedMetadataBLOB == null){
-                refresh();
+        MetadataBLOB metadataBLOB = cachedMetadataBLOB;
+        if(metadataBLOB == null){
+            refreshLock.lock();
+            try {
+                if(cachedMetadataBLOB == null){
+                    refresh();
+                }
             }
+            finally {
+                refreshLock.unlock();
+            }
+            metadataBLOB = cachedMetadataBLOB;
         }
-        LocalDate today = LocalDate.now();
-        LocalDate nextUpdate = cachedMetadataBLOB.getPayload().getNextUpdate();
-        if((nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && cachedMetadataBLOBLastUpdate.isBefore(today)){
-            refresh();
+        if(isRefreshRequired(metadataBLOB)){
+            if(backgroundRefreshEnabled){
+                scheduleBackgroundRefresh();
+                return metadataBLOB;
+            }
+            // single-flight: the thread which gets the lock refreshes unless it has just been done by another thread,
+            // and the others return the current snapshot instead of downloading the BLOB as well
+            if(refreshLock.tryLock()){
+                try {
+                    if(isRefreshRequired(cachedMetadataBLOB)){
+                        refresh();
+                    }
+                }
+                finally {
+                    refreshLock.unlock();
+                }
+            }
+            return cachedMetadataBLOB;
         }
 
-        return cachedMetadataBLOB;
+        return metadataBLOB;
     }
 
     public void refresh(){
-        synchronized (cachedMetadataBLOBLock){
-            cachedMetadataBLOB = doProvide();
-            cachedMetadataBLOBLastUpdate = LocalDate.now();
+        refreshLock.lock();
+        try {
+            // only refreshes wait for the download. Readers are not blocked, as they don't take refreshLock once loaded
+            MetadataBLOB metadataBLOB = doProvide();
+            synchronized (cachedMetadataBLOBLock){
+                cachedMetadataBLOBLastUpdate = LocalDate.now();
+                lastRefreshTime = Instant.now();
+                cachedMetadataBLOB = metadataBLOB;
+            }
+        }
+        finally {
+            refreshLock.unlock();
         }
     }
 
+    private boolean isRefreshRequired(@NonNull MetadataBLOB metadataBLOB) {
+        // cachedMetadataBLOBLastUpdate is written before cachedMetadataBLOB, so it is not null here
+        LocalDate lastUpdate = cachedMetadataBLOBLastUpdate;
+        LocalDate today = LocalDate.now();
+        LocalDate nextUpdate = metadataBLOB.getPayload().getNextUpdate();
+        return (nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && lastUpdate.isBefore(today);
+    }
+
     protected abstract @NonNull MetadataBLOB doProvide();
 
+    private void scheduleBackgroundRefresh() {
+        if (!backgroundRefreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        long jitterMillis = refreshJitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(refreshJitter.toMillis() + 1);
+        if (!schedule(jitterMillis)) {
+            backgroundRefreshInProgress.set(false);
+        }
+    }
+
+    private void runBackgroundRefresh() {
+        boolean retryScheduled = false;
+        try {
+            refresh();
+            consecutiveRefreshFailures = 0;
+        } catch (RuntimeException e) {
+            int failures = ++consecutiveRefreshFailures;
+            Duration backoff = calculateBackoff(failures);
+            logger.warn("Failed to refresh MetadataBLOB. Retrying in {} seconds. (consecutive failures: {})", backoff.getSeconds(), failures, e);
+            retryScheduled = schedule(backoff.toMillis());
+        } finally {
+            // unless a retry is pending, the next provide call after nextUpdate must be able to schedule a refresh again
+            if (!retryScheduled) {
+                backgroundRefreshInProgress.set(false);
+            }
+        }
+    }
+
+    private boolean schedule(long delayMillis) {
+        try {
+            getScheduledExecutorService().schedule(this::runBackgroundRefresh, delayMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            logger.warn("Failed to schedule MetadataBLOB refresh.", e);
+            return false;
+        }
+    }
+
+    @NonNull Duration calculateBackoff(int failures) {
+        Duration backoff = initialBackoff;
+        for (int i = 1; i < failures && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+    }
 
+    private synchronized @NonNull ScheduledExecutorService getScheduledExecutorService() {
+        if (scheduledExecutorService == null) {
+            scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "webauthn4j-metadata-blob-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduledExecutorService;
+    }
+
+    /**
+     * Returns the time the cached {@link MetadataBLOB} was last refreshed successfully.
+     *
+     * @return last refresh time, or null if it has not been loaded yet
+     */
+    public @Nullable Instant getLastRefreshTime() {
+        return lastRefreshTime;
+    }
+
+    /**
+     * Returns how long the cached {@link MetadataBLOB} has been served past its nextUpdate date.
+     *
+     * @return stale age, or {@link Duration#ZERO} if it is not stale or has not been loaded yet
+     */
+    public @NonNull Duration getStaleAge() {
+        MetadataBLOB metadataBLOB = cachedMetadataBLOB;
+        if (metadataBLOB == null) {
+            return Duration.ZERO;
+        }
+        Instant nextUpdate = metadataBLOB.getPayload().getNextUpdate().atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Duration staleAge = Duration.between(nextUpdate, Instant.now());
+        return staleAge.isNegative() ? Duration.ZERO : staleAge;
+    }
+
+    /**
+     * Returns the number of background refresh attempts that have failed since the last successful one.
+     *
+     * @return consecutive failure count
+     */
+    public int getConsecutiveRefreshFailures() {
+        return consecutiveRefreshFailures;
+    }
+
+    public boolean isBackgroundRefreshEnabled() {
+        return backgroundRefreshEnabled;
+    }
+
+    public void setBackgroundRefreshEnabled(boolean backgroundRefreshEnabled) {
+        this.backgroundRefreshEnabled = backgroundRefreshEnabled;
+    }
+
+    /**
+     * Sets the scheduler to run background refresh on. If not set, a single daemon thread scheduler is created on first use.
+     *
+     * @param scheduledExecutorService scheduler
+     */
+    public synchronized void setScheduledExecutorService(@NonNull ScheduledExecutorService scheduledExecutorService) {
+        AssertUtil.notNull(scheduledExecutorService, "scheduledExecutorService must not be null");
+        this.scheduledExecutorService = scheduledExecutorService;
+    }
+
+    public @NonNull Duration getRefreshJitter() {
+        return refreshJitter;
+    }
+
+    /**
+     * Sets the upper bound of the random delay before a background refresh starts,
+     * so that many instances do not hit the metadata service at the same time.
+     *
+     * @param refreshJitter upper bound of the delay
+     */
+    public void setRefreshJitter(@NonNull Duration refreshJitter) {
+        AssertUtil.notNull(refreshJitter, "refreshJitter must not be null");
+        AssertUtil.isTrue(!refreshJitter.isNegative(), "refreshJitter must not be negative");
+        this.refreshJitter = refreshJitter;
+    }
+
+    public @NonNull Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(@NonNull Duration initialBackoff) {
+        AssertUtil.notNull(initialBackoff, "initialBackoff must not be null");
+        AssertUtil.isTrue(!initialBackoff.isNegative() && !initialBackoff.isZero(), "initialBackoff must be positive");
+        this.initialBackoff = initialBackoff;
+    }
+
+    public @NonNull Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(@NonNull Duration maxBackoff) {
+        AssertUtil.notNull(maxBackoff, "maxBackoff must not be null");
+        AssertUtil.isTrue(!maxBackoff.isNegative() && !maxBackoff.isZero(), "maxBackoff must be positive");
+        this.maxBackoff = maxBackoff;
+    }
 }
@@ -22,7 +22,10 @@ import com.webauthn4j.metadata.data.MetadataBLOBFactory;
 import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.util.CertificateUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
 import java.util.Collections;
@@ -41,6 +44,8 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
     private final HttpClient httpClient;
     private final Set<TrustAnchor> trustAnchors;
     private boolean revocationCheckEnabled = true;
+    // last MetadataBLOB fetched with a validator, reused when the server responds with 304 Not Modified
+    private volatile FetchedMetadataBLOB lastFetchedMetadataBLOB;
 
     public FidoMDS3MetadataBLOBProvider(@NonNull ObjectConverter objectConverter, @NonNull String blobEndpoint, @NonNull HttpClient httpClient, @NonNull Set<TrustAnchor> trustAnchors) {
         this.metadataBLOBFactory = new MetadataBLOBFactory(objectConverter);
@@ -50,11 +55,11 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
     }
 
     public FidoMDS3MetadataBLOBProvider(@NonNull ObjectConverter objectConverter, @NonNull String blobEndpoint, @NonNull Set<TrustAnchor> trustAnchors) {
-        this(objectConverter, blobEndpoint, new SimpleHttpClient(), trustAnchors);
+        this(objectConverter, blobEndpoint, new StreamingHttpClient(), trustAnchors);
     }
 
     public FidoMDS3MetadataBLOBProvider(@NonNull ObjectConverter objectConverter, @NonNull String blobEndpoint, @NonNull X509Certificate trustAnchorCertificate) {
-        this(objectConverter, blobEndpoint, new SimpleHttpClient(), Collections.singleton(new TrustAnchor(trustAnchorCertificate, null)));
+        this(objectConverter, blobEndpoint, new StreamingHttpClient(), Collections.singleton(new TrustAnchor(trustAnchorCertificate, null)));
     }
 
     public FidoMDS3MetadataBLOBProvider(@NonNull ObjectConverter objectConverter, @NonNull Set<TrustAnchor> trustAnchors) {
@@ -67,8 +72,7 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
 
     @Override
     protected @NonNull MetadataBLOB doProvide() {
-        String responseBody = httpClient.fetch(blobEndpoint);
-        MetadataBLOB metadataBLOB = metadataBLOBFactory.parse(responseBody);
+        MetadataBLOB metadataBLOB = fetch();
         if(!metadataBLOB.isValidSignature()){
             throw new MDSException("MetadataBLOB signature is invalid");
         }
@@ -76,6 +80,47 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
         return metadataBLOB;
     }
 
+    @NonNull MetadataBLOB fetch() {
+        if (httpClient instanceof StreamingHttpClient) {
+            return fetchAndParse((StreamingHttpClient) httpClient);
+        }
+        String responseBody = httpClient.fetch(blobEndpoint);
+        return metadataBLOBFactory.parse(responseBody);
+    }
+
+    /**
+     * Parses the response body while it is downloaded. If conditional requests are enabled, the validators of the response
+     * are remembered with the parsed {@link MetadataBLOB}, which is returned again on 304 Not Modified, so that the raw
+     * body doesn't need to be retained by {@link StreamingHttpClient}.
+     */
+    private @NonNull MetadataBLOB fetchAndParse(@NonNull StreamingHttpClient streamingHttpClient) {
+        boolean conditionalRequestEnabled = streamingHttpClient.isConditionalRequestEnabled();
+        FetchedMetadataBLOB lastFetched = conditionalRequestEnabled ? lastFetchedMetadataBLOB : null;
+        String eTag = lastFetched == null ? null : lastFetched.eTag;
+        String lastModified = lastFetched == null ? null : lastFetched.lastModified;
+        try (StreamingHttpClient.Response response = streamingHttpClient.open(blobEndpoint, eTag, lastModified)) {
+            if (response.isNotModified()) {
+                if (lastFetched == null) {
+                    throw new MDSException("failed to fetch " + blobEndpoint + " (unexpected 304 response)");
+                }
+                return lastFetched.metadataBLOB;
+            }
+            long contentLength = response.getContentLength();
+            int expectedLength = contentLength > 0 && contentLength < Integer.MAX_VALUE ? (int) contentLength : -1;
+            //noinspection ConstantConditions as the body is present unless the response is 304 Not Modified
+            MetadataBLOB metadataBLOB = metadataBLOBFactory.parse(response.getBody(), expectedLength);
+            if (conditionalRequestEnabled && (response.getETag() != null || response.getLastModified() != null)) {
+                lastFetchedMetadataBLOB = new FetchedMetadataBLOB(response.getETag(), response.getLastModified(), metadataBLOB);
+            }
+            else {
+                lastFetchedMetadataBLOB = null;
+            }
+            return metadataBLOB;
+        } catch (IOException | UncheckedIOException e) {
+            throw new MDSException("failed to fetch " + blobEndpoint, e);
+        }
+    }
+
     private void validateCertPath(@NonNull MetadataBLOB metadataBLOB) {
         CertPath certPath = metadataBLOB.getHeader().getX5c();
 
@@ -103,4 +148,17 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
     public void setRevocationCheckEnabled(boolean revocationCheckEnabled) {
         this.revocationCheckEnabled = revocationCheckEnabled;
     }
+
+    private static class FetchedMetadataBLOB {
+
+        private final String eTag;
+        private final String lastModified;
+        private final MetadataBLOB metadataBLOB;
+
+        private FetchedMetadataBLOB(@Nullable String eTag, @Nullable String lastModified, @NonNull MetadataBLOB metadataBLOB) {
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.metadataBLOB = metadataBLOB;
+        }
+    }
 }
@@ -21,11 +21,11 @@ import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBFactory;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.io.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Load MetadataBLOB from a local file. This provider doesn't validate MetadataBLOB signature as it trusts local metadata BLOB file.
@@ -41,11 +41,9 @@ public class LocalFileMetadataBLOBProvider extends CachingMetadataBLOBProvider{
     }
 
     protected @NonNull MetadataBLOB doProvide(){
+        // line breaks in the file are skipped by the parser
         try (InputStream inputStream = Files.newInputStream(path)) {
-            InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
-            Stream<String> lines = new BufferedReader(inputStreamReader).lines();
-            String string = lines.collect(Collectors.joining());
-            return metadataBLOBFactory.parse(string);
+            return metadataBLOBFactory.parse(inputStream);
         } catch (IOException e) {
             throw new UncheckedIOException("Failed to load a MetadataBLOB file", e);
         }
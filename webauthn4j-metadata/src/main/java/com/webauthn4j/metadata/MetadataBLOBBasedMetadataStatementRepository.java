@@ -18,56 +18,66 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.AuthenticatorAttestationType;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import com.webauthn4j.metadata.data.toc.StatusReport;
 import com.webauthn4j.util.HexUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * {@link MetadataStatementRepository} backed by {@link MetadataBLOBProvider}s.
+ * Lookup indexes are built once per provided {@link MetadataBLOB} instance, and swapped when the provider returns a new one.
+ */
 public class MetadataBLOBBasedMetadataStatementRepository implements MetadataStatementRepository {
 
     private final List<MetadataBLOBProvider> metadataBLOBProviders;
+    private final AtomicReferenceArray<Index> indexes;
 
-    private boolean notFidoCertifiedAllowed = false;
-    private boolean selfAssertionSubmittedAllowed = false;
+    private volatile boolean notFidoCertifiedAllowed = false;
+    private volatile boolean selfAssertionSubmittedAllowed = false;
 
     public MetadataBLOBBasedMetadataStatementRepository(MetadataBLOBProvider... metadataBLOBProviders) {
         this.metadataBLOBProviders = Arrays.asList(metadataBLOBProviders);
+        this.indexes = new AtomicReferenceArray<>(metadataBLOBProviders.length);
     }
 
     @Override
     public Set<MetadataStatement> find(AAGUID aaguid) {
-        return metadataBLOBProviders.stream()
-                .flatMap(provider -> provider.provide().getPayload().getEntries().stream())
-                .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
-                .filter(this::checkMetadataBLOBPayloadEntry)
-                .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                .filter(this::checkSurrogateMetadataStatementAttestationRootCertificate)
-                .collect(Collectors.toSet());
+        Set<MetadataStatement> metadataStatements = new HashSet<>();
+        for (int i = 0; i < metadataBLOBProviders.size(); i++) {
+            metadataStatements.addAll(getIndex(i).findByAAGUID(aaguid));
+        }
+        return metadataStatements;
     }
 
     @Override
     public Set<MetadataStatement> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBProviders.stream()
-                .flatMap(provider -> provider.provide().getPayload().getEntries().stream())
-                .filter(entry -> {
-                    MetadataStatement metadataStatement = entry.getMetadataStatement();
-                    if(metadataStatement == null || metadataStatement.getAttestationCertificateKeyIdentifiers() == null){
-                        return false;
-                    }
-                    return metadataStatement.getAttestationCertificateKeyIdentifiers().stream().anyMatch(identifier -> Arrays.equals(HexUtil.decode(identifier), attestationCertificateKeyIdentifier));
-                })
-                .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                .filter(this::checkSurrogateMetadataStatementAttestationRootCertificate)
-                .collect(Collectors.toSet());
+        if (attestationCertificateKeyIdentifier == null) {
+            return new HashSet<>();
+        }
+        String key = HexUtil.encodeToString(attestationCertificateKeyIdentifier);
+        Set<MetadataStatement> metadataStatements = new HashSet<>();
+        for (int i = 0; i < metadataBLOBProviders.size(); i++) {
+            metadataStatements.addAll(getIndex(i).findByAttestationCertificateKeyIdentifier(key));
+        }
+        return metadataStatements;
     }
 
+    private @NonNull Index getIndex(int providerIndex) {
+        MetadataBLOB metadataBLOB = metadataBLOBProviders.get(providerIndex).provide();
+        boolean currentNotFidoCertifiedAllowed = notFidoCertifiedAllowed;
+        boolean currentSelfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+        Index index = indexes.get(providerIndex);
+        if (index == null || !index.isBuiltFor(metadataBLOB, currentNotFidoCertifiedAllowed, currentSelfAssertionSubmittedAllowed)) {
+            index = new Index(metadataBLOB, currentNotFidoCertifiedAllowed, currentSelfAssertionSubmittedAllowed);
+            indexes.set(providerIndex, index);
+        }
+        return index;
+    }
 
     public boolean isNotFidoCertifiedAllowed() {
         return notFidoCertifiedAllowed;
@@ -85,7 +95,7 @@ public class MetadataBLOBBasedMetadataStatementRepository implements MetadataSta
         this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
     }
 
-    private boolean checkMetadataBLOBPayloadEntry(@NonNull MetadataBLOBPayloadEntry metadataBLOBPayloadEntry) {
+    private static boolean checkMetadataBLOBPayloadEntry(@NonNull MetadataBLOBPayloadEntry metadataBLOBPayloadEntry, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
         List<StatusReport> statusReports = metadataBLOBPayloadEntry.getStatusReports();
         for (StatusReport report : statusReports) {
             switch (report.getStatus()) {
@@ -132,7 +142,7 @@ public class MetadataBLOBBasedMetadataStatementRepository implements MetadataSta
         return true;
     }
 
-    private boolean checkSurrogateMetadataStatementAttestationRootCertificate(MetadataStatement metadataStatement) {
+    private static boolean checkSurrogateMetadataStatementAttestationRootCertificate(MetadataStatement metadataStatement) {
         boolean isSurrogate = metadataStatement != null && metadataStatement.getAttestationTypes().stream().allMatch(type -> type.equals(AuthenticatorAttestationType.BASIC_SURROGATE));
 
         if (isSurrogate) {
@@ -140,4 +150,73 @@ public class MetadataBLOBBasedMetadataStatementRepository implements MetadataSta
         }
         return true;
     }
+
+    /**
+     * Immutable lookup index over the entries of a {@link MetadataBLOB}
+     */
+    private static class Index {
+
+        private final MetadataBLOB metadataBLOB;
+        private final boolean notFidoCertifiedAllowed;
+        private final boolean selfAssertionSubmittedAllowed;
+        private final Map<AAGUID, Set<MetadataStatement>> metadataStatementsByAAGUID;
+        private final Map<String, Set<MetadataStatement>> metadataStatementsByAttestationCertificateKeyIdentifier;
+
+        Index(@NonNull MetadataBLOB metadataBLOB, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+            this.metadataBLOB = metadataBLOB;
+            this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
+            this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+
+            Map<AAGUID, Set<MetadataStatement>> byAAGUID = new HashMap<>();
+            Map<String, Set<MetadataStatement>> byAttestationCertificateKeyIdentifier = new HashMap<>();
+            for (MetadataBLOBPayloadEntry entry : metadataBLOB.getPayload().getEntries()) {
+                MetadataStatement metadataStatement = entry.getMetadataStatement();
+                if (!checkSurrogateMetadataStatementAttestationRootCertificate(metadataStatement)) {
+                    continue;
+                }
+                if (checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed)) {
+                    byAAGUID.computeIfAbsent(entry.getAaguid(), key -> new HashSet<>()).add(metadataStatement);
+                }
+                if (metadataStatement != null && metadataStatement.getAttestationCertificateKeyIdentifiers() != null) {
+                    for (String identifier : metadataStatement.getAttestationCertificateKeyIdentifiers()) {
+                        // a malformed identifier can never match, and must not prevent the other entries from being indexed
+                        if (!isHex(identifier)) {
+                            continue;
+                        }
+                        // normalize the case of the hex representation
+                        String key = HexUtil.encodeToString(HexUtil.decode(identifier));
+                        byAttestationCertificateKeyIdentifier.computeIfAbsent(key, k -> new HashSet<>()).add(metadataStatement);
+                    }
+                }
+            }
+            this.metadataStatementsByAAGUID = Collections.unmodifiableMap(byAAGUID);
+            this.metadataStatementsByAttestationCertificateKeyIdentifier = Collections.unmodifiableMap(byAttestationCertificateKeyIdentifier);
+        }
+
+        private static boolean isHex(String identifier) {
+            if (identifier == null || identifier.length() % 2 != 0) {
+                return false;
+            }
+            for (int i = 0; i < identifier.length(); i++) {
+                if (Character.digit(identifier.charAt(i), 16) == -1) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isBuiltFor(@NonNull MetadataBLOB metadataBLOB, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+            return this.metadataBLOB == metadataBLOB &&
+                    this.notFidoCertifiedAllowed == notFidoCertifiedAllowed &&
+                    this.selfAssertionSubmittedAllowed == selfAssertionSubmittedAllowed;
+        }
+
+        @NonNull Set<MetadataStatement> findByAAGUID(AAGUID aaguid) {
+            return metadataStatementsByAAGUID.getOrDefault(aaguid, Collections.emptySet());
+        }
+
+        @NonNull Set<MetadataStatement> findByAttestationCertificateKeyIdentifier(@NonNull String key) {
+            return metadataStatementsByAttestationCertificateKeyIdentifier.getOrDefault(key, Collections.emptySet());
+        }
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBFactory;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.HexUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link MetadataBLOBProvider} which keeps the last known good {@link MetadataBLOB} provided by the delegate in a local directory.
+ * <p>
+ * On the first call, the BLOB stored in the directory is loaded after its checksum is verified, and returned without
+ * waiting for the delegate. As the stored BLOB was verified by the delegate before it was written, its signature and
+ * certificate path are not validated again. The delegate is then called asynchronously on the configured {@link Executor},
+ * and again each time the current BLOB reaches its nextUpdate date. Every BLOB obtained from the delegate is written back
+ * to the directory. If no valid BLOB is stored, the first call falls back to calling the delegate synchronously.
+ * <p>
+ * The delegate is expected to validate the BLOB, like {@link FidoMDS3MetadataBLOBProvider} does.
+ */
+public class PersistentCachingMetadataBLOBProvider implements MetadataBLOBProvider {
+
+    private static final String BLOB_FILE_NAME = "blob.jwt";
+    private static final String CHECKSUM_FILE_NAME = "blob.jwt.sha256";
+
+    private final Logger logger = LoggerFactory.getLogger(PersistentCachingMetadataBLOBProvider.class);
+
+    private final MetadataBLOBProvider delegate;
+    private final MetadataBLOBFactory metadataBLOBFactory;
+    private final Path blobFile;
+    private final Path checksumFile;
+    private final Executor executor;
+
+    private volatile MetadataBLOB currentMetadataBLOB;
+    private volatile LocalDate lastFetchDate;
+    private final Object lock = new Object();
+    private final AtomicBoolean fetchInProgress = new AtomicBoolean(false);
+
+    public PersistentCachingMetadataBLOBProvider(@NonNull MetadataBLOBProvider delegate, @NonNull ObjectConverter objectConverter, @NonNull Path cacheDirectory, @NonNull Executor executor) {
+        AssertUtil.notNull(delegate, "delegate must not be null");
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        AssertUtil.notNull(cacheDirectory, "cacheDirectory must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+        this.delegate = delegate;
+        this.metadataBLOBFactory = new MetadataBLOBFactory(objectConverter);
+        this.blobFile = cacheDirectory.resolve(BLOB_FILE_NAME);
+        this.checksumFile = cacheDirectory.resolve(CHECKSUM_FILE_NAME);
+        this.executor = executor;
+    }
+
+    public PersistentCachingMetadataBLOBProvider(@NonNull MetadataBLOBProvider delegate, @NonNull ObjectConverter objectConverter, @NonNull Path cacheDirectory) {
+        this(delegate, objectConverter, cacheDirectory, runnable -> {
+            Thread thread = new Thread(runnable, "webauthn4j-metadata-blob-fetch");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    @Override
+    public @NonNull MetadataBLOB provide() {
+        MetadataBLOB metadataBLOB = currentMetadataBLOB;
+        if (metadataBLOB == null) {
+            synchronized (lock) {
+                metadataBLOB = currentMetadataBLOB;
+                if (metadataBLOB == null) {
+                    metadataBLOB = load();
+                    if (metadataBLOB == null) {
+                        return fetch();
+                    }
+                    currentMetadataBLOB = metadataBLOB;
+                    fetchAsync();
+                    return metadataBLOB;
+                }
+            }
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate nextUpdate = metadataBLOB.getPayload().getNextUpdate();
+        if (!nextUpdate.isAfter(today) && (lastFetchDate == null || lastFetchDate.isBefore(today))) {
+            fetchAsync();
+        }
+        return metadataBLOB;
+    }
+
+    private void fetchAsync() {
+        if (!fetchInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    fetch();
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to fetch MetadataBLOB. Last known good MetadataBLOB continues to be used.", e);
+                } finally {
+                    fetchInProgress.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            fetchInProgress.set(false);
+            throw e;
+        }
+    }
+
+    private @NonNull MetadataBLOB fetch() {
+        MetadataBLOB metadataBLOB = delegate.provide();
+        lastFetchDate = LocalDate.now();
+        MetadataBLOB previous = currentMetadataBLOB;
+        currentMetadataBLOB = metadataBLOB;
+        if (metadataBLOB != previous) {
+            try {
+                store(metadataBLOB);
+            } catch (UncheckedIOException e) {
+                logger.warn("Failed to store MetadataBLOB to {}", blobFile, e);
+            }
+        }
+        return metadataBLOB;
+    }
+
+    @Nullable MetadataBLOB load() {
+        if (!Files.isRegularFile(blobFile) || !Files.isRegularFile(checksumFile)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(blobFile);
+            String checksum = new String(Files.readAllBytes(checksumFile), StandardCharsets.US_ASCII).trim();
+            if (!calculateChecksum(bytes).equalsIgnoreCase(checksum)) {
+                logger.warn("Checksum of the stored MetadataBLOB {} doesn't match. It is ignored.", blobFile);
+                return null;
+            }
+            return metadataBLOBFactory.parse(new ByteArrayInputStream(bytes));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to load the stored MetadataBLOB {}. It is ignored.", blobFile, e);
+            return null;
+        }
+    }
+
+    void store(@NonNull MetadataBLOB metadataBLOB) {
+        byte[] bytes = metadataBLOB.getBytes();
+        try {
+            Files.createDirectories(blobFile.getParent());
+            // the checksum is written after the BLOB, so that an interrupted write is detected as a mismatch on load
+            writeAtomically(blobFile, bytes);
+            writeAtomically(checksumFile, calculateChecksum(bytes).getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeAtomically(@NonNull Path target, @NonNull byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static @NonNull String calculateChecksum(@NonNull byte[] bytes) {
+        return HexUtil.encodeToString(MessageDigestUtil.digestSHA256(bytes));
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * {@link HttpClient} implementation which streams the response body instead of buffering it byte by byte.
+ * <p>
+ * It requests gzip compression, applies connect and read timeouts, and sends conditional requests
+ * (If-None-Match / If-Modified-Since) for URLs fetched before, so that an unchanged resource is not downloaded again.
+ * The response body can be consumed as an {@link InputStream} via {@link #open(String, String, String)},
+ * or as a {@link ByteBuffer} via {@link #fetchAsByteBuffer(String)}.
+ */
+public class StreamingHttpClient implements HttpClient {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ConcurrentMap<String, CachedResponse> cachedResponses = new ConcurrentHashMap<>();
+
+    private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private Duration readTimeout = DEFAULT_READ_TIMEOUT;
+    private boolean gzipEnabled = true;
+    private boolean conditionalRequestEnabled = true;
+
+    @Override
+    public @NonNull String fetch(@NonNull String url) {
+        ByteBuffer byteBuffer = fetchAsByteBuffer(url);
+        return StandardCharsets.UTF_8.decode(byteBuffer).toString();
+    }
+
+    /**
+     * Fetches the resource at the url. If conditional requests are enabled and the server responds with 304 Not Modified,
+     * the body of the last successful response for the url is returned.
+     *
+     * @param url url
+     * @return read-only response body
+     */
+    public @NonNull ByteBuffer fetchAsByteBuffer(@NonNull String url) {
+        AssertUtil.notNull(url, "url must not be null");
+        CachedResponse cachedResponse = conditionalRequestEnabled ? cachedResponses.get(url) : null;
+        String eTag = cachedResponse == null ? null : cachedResponse.eTag;
+        String lastModified = cachedResponse == null ? null : cachedResponse.lastModified;
+        try (Response response = open(url, eTag, lastModified)) {
+            if (response.isNotModified()) {
+                if (cachedResponse == null) {
+                    throw new MDSException("failed to fetch " + url + " (unexpected 304 response)");
+                }
+                return ByteBuffer.wrap(cachedResponse.body).asReadOnlyBuffer();
+            }
+            //noinspection ConstantConditions
+            byte[] body = readAll(response.getBody());
+            if (conditionalRequestEnabled && (response.getETag() != null || response.getLastModified() != null)) {
+                cachedResponses.put(url, new CachedResponse(response.getETag(), response.getLastModified(), body));
+            }
+            return ByteBuffer.wrap(body).asReadOnlyBuffer();
+        } catch (IOException e) {
+            throw new MDSException("failed to fetch " + url, e);
+        }
+    }
+
+    /**
+     * Sends a GET request and returns the response without reading its body.
+     * The caller must close the returned {@link Response}.
+     *
+     * @param url          url
+     * @param eTag         entity tag sent as If-None-Match, or null
+     * @param lastModified date sent as If-Modified-Since, or null
+     * @return response
+     */
+    public @NonNull Response open(@NonNull String url, @Nullable String eTag, @Nullable String lastModified) {
+        AssertUtil.notNull(url, "url must not be null");
+        HttpURLConnection urlConnection = null;
+        try {
+            urlConnection = (HttpURLConnection) new URL(url).openConnection();
+            urlConnection.setRequestMethod("GET");
+            urlConnection.setConnectTimeout((int) connectTimeout.toMillis());
+            urlConnection.setReadTimeout((int) readTimeout.toMillis());
+            if (gzipEnabled) {
+                urlConnection.setRequestProperty("Accept-Encoding", "gzip");
+            }
+            if (eTag != null) {
+                urlConnection.setRequestProperty("If-None-Match", eTag);
+            }
+            if (lastModified != null) {
+                urlConnection.setRequestProperty("If-Modified-Since", lastModified);
+            }
+            urlConnection.connect();
+
+            int status = urlConnection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                urlConnection.disconnect();
+                return new Response(status, eTag, lastModified, -1, null);
+            }
+            if (status == HttpURLConnection.HTTP_OK) {
+                InputStream inputStream = urlConnection.getInputStream();
+                long contentLength = urlConnection.getContentLengthLong();
+                if ("gzip".equalsIgnoreCase(urlConnection.getContentEncoding())) {
+                    inputStream = new GZIPInputStream(inputStream, BUFFER_SIZE);
+                    // Content-Length is the compressed length
+                    contentLength = -1;
+                }
+                return new Response(status, urlConnection.getHeaderField("ETag"), urlConnection.getHeaderField("Last-Modified"), contentLength, inputStream);
+            }
+            urlConnection.disconnect();
+            throw new MDSException("failed to fetch " + url + " (status: " + status + ")");
+        } catch (IOException e) {
+            if (urlConnection != null) {
+                urlConnection.disconnect();
+            }
+            throw new MDSException("failed to fetch " + url, e);
+        }
+    }
+
+    private static @NonNull byte[] readAll(@NonNull InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, length);
+        }
+        return outputStream.toByteArray();
+    }
+
+    public @NonNull Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(@NonNull Duration connectTimeout) {
+        AssertUtil.notNull(connectTimeout, "connectTimeout must not be null");
+        AssertUtil.isTrue(!connectTimeout.isNegative(), "connectTimeout must not be negative");
+        this.connectTimeout = connectTimeout;
+    }
+
+    public @NonNull Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(@NonNull Duration readTimeout) {
+        AssertUtil.notNull(readTimeout, "readTimeout must not be null");
+        AssertUtil.isTrue(!readTimeout.isNegative(), "readTimeout must not be negative");
+        this.readTimeout = readTimeout;
+    }
+
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
+    public void setGzipEnabled(boolean gzipEnabled) {
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    public boolean isConditionalRequestEnabled() {
+        return conditionalRequestEnabled;
+    }
+
+    public void setConditionalRequestEnabled(boolean conditionalRequestEnabled) {
+        this.conditionalRequestEnabled = conditionalRequestEnabled;
+        if (!conditionalRequestEnabled) {
+            cachedResponses.clear();
+        }
+    }
+
+    /**
+     * Response of {@link #open(String, String, String)}.
+     */
+    public static class Response implements Closeable {
+
+        private final int status;
+        private final String eTag;
+        private final String lastModified;
+        private final long contentLength;
+        private final InputStream body;
+
+        Response(int status, @Nullable String eTag, @Nullable String lastModified, long contentLength, @Nullable InputStream body) {
+            this.status = status;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.contentLength = contentLength;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isNotModified() {
+            return status == HttpURLConnection.HTTP_NOT_MODIFIED;
+        }
+
+        public @Nullable String getETag() {
+            return eTag;
+        }
+
+        public @Nullable String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Returns the length of the decoded response body.
+         *
+         * @return length, or -1 if it is unknown, including when the body is gzip compressed
+         */
+        public long getContentLength() {
+            return contentLength;
+        }
+
+        /**
+         * Returns the decoded response body.
+         *
+         * @return response body, or null if the response is 304 Not Modified
+         */
+        public @Nullable InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (body != null) {
+                body.close();
+            }
+        }
+    }
+
+    private static class CachedResponse {
+
+        private final String eTag;
+        private final String lastModified;
+        private final byte[] body;
+
+        private CachedResponse(@Nullable String eTag, @Nullable String lastModified, @NonNull byte[] body) {
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+    }
+}
@@ -50,4 +50,13 @@ public class MetadataBLOB {
         return jws.isValidSignature();
     }
 
+    /**
+     * Returns the JWS compact serialization of the BLOB as it was parsed.
+     *
+     * @return serialized BLOB
+     */
+    public @NonNull byte[] getBytes() {
+        return jws.getBytes();
+    }
+
 }
@@ -21,6 +21,8 @@ import com.webauthn4j.data.jws.JWS;
 import com.webauthn4j.data.jws.JWSFactory;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.io.InputStream;
+
 public class MetadataBLOBFactory {
 
     @NonNull
@@ -35,4 +37,29 @@ public class MetadataBLOBFactory {
         return new MetadataBLOB(jws);
     }
 
+    /**
+     * Parses a MetadataBLOB from the stream without holding it as a string.
+     * The entries are deserialized one by one as the payload is decoded, and the signature is verified along the way,
+     * so that only the raw BLOB and the parsed entries are kept in memory. The stream is not closed.
+     *
+     * @param inputStream stream of a MetadataBLOB
+     * @return parsed {@link MetadataBLOB}
+     */
+    public @NonNull MetadataBLOB parse(@NonNull InputStream inputStream){
+        return parse(inputStream, -1);
+    }
+
+    /**
+     * Parses a MetadataBLOB from the stream like {@link #parse(InputStream)}, allocating the buffer of the raw BLOB
+     * with the expected length up front.
+     *
+     * @param inputStream    stream of a MetadataBLOB
+     * @param expectedLength expected length of the BLOB such as a Content-Length, or a negative value if it is unknown
+     * @return parsed {@link MetadataBLOB}
+     */
+    public @NonNull MetadataBLOB parse(@NonNull InputStream inputStream, int expectedLength){
+        JWS<MetadataBLOBPayload> jws = jwsFactory.parse(inputStream, MetadataBLOBPayload.class, expectedLength);
+        return new MetadataBLOB(jws);
+    }
+
 }
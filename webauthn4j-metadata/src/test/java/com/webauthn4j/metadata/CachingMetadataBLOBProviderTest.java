@@ -8,12 +8,28 @@ import com.webauthn4j.data.jws.JWSHeader;
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayload;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class CachingMetadataBLOBProviderTest {
@@ -66,6 +82,144 @@ class CachingMetadataBLOBProviderTest {
         }
     }
 
+    @Test
+    void inline_refresh_is_run_by_a_single_thread_test() throws Exception {
+        MetadataBLOB staleMetadataBLOB = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        MetadataBLOB freshMetadataBLOB = createMetadataBLOB(LocalDate.of(2020, 1, 10));
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch refreshReleased = new CountDownLatch(1);
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(staleMetadataBLOB).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            refreshReleased.await();
+            return freshMetadataBLOB;
+        });
+        // the static mock is visible only on this thread, so the other threads see the BLOB as expired
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 1));
+            target.provide();
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Future<MetadataBLOB> refreshing = executorService.submit(target::provide);
+            refreshStarted.await();
+            List<Future<MetadataBLOB>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(executorService.submit(target::provide));
+            }
+            for (Future<MetadataBLOB> other : others) {
+                assertThat(other.get()).isSameAs(staleMetadataBLOB);
+            }
+            refreshReleased.countDown();
+
+            assertAll(
+                    () -> assertThat(refreshing.get()).isSameAs(freshMetadataBLOB),
+                    () -> assertThat(target.provide()).isSameAs(freshMetadataBLOB),
+                    () -> verify(target, times(2)).doProvide()
+            );
+        } finally {
+            refreshReleased.countDown();
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void background_refresh_returns_current_snapshot_and_schedules_single_refresh_test(){
+        MetadataBLOB staleMetadataBLOB = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        MetadataBLOB freshMetadataBLOB = createMetadataBLOB(LocalDate.of(2020, 1, 10));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(staleMetadataBLOB, freshMetadataBLOB);
+        ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+        target.setBackgroundRefreshEnabled(true);
+        target.setScheduledExecutorService(scheduledExecutorService);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 1));
+            target.provide();
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 3));
+            assertThat(target.provide()).isSameAs(staleMetadataBLOB);
+            assertThat(target.provide()).isSameAs(staleMetadataBLOB);
+
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduledExecutorService, times(1)).schedule(captor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+            captor.getValue().run();
+
+            assertAll(
+                    () -> assertThat(target.provide()).isSameAs(freshMetadataBLOB),
+                    () -> verify(target, times(2)).doProvide(),
+                    () -> assertThat(target.getConsecutiveRefreshFailures()).isZero()
+            );
+        }
+    }
+
+    @Test
+    void background_refresh_failure_is_retried_with_backoff_test(){
+        MetadataBLOB staleMetadataBLOB = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(staleMetadataBLOB).thenThrow(new IllegalStateException("unavailable"));
+        ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+        target.setBackgroundRefreshEnabled(true);
+        target.setScheduledExecutorService(scheduledExecutorService);
+        target.setRefreshJitter(Duration.ZERO);
+        target.setInitialBackoff(Duration.ofSeconds(10));
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 1));
+            target.provide();
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 3));
+            target.provide();
+
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduledExecutorService).schedule(captor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+            captor.getValue().run();
+
+            assertAll(
+                    () -> assertThat(target.provide()).isSameAs(staleMetadataBLOB),
+                    () -> assertThat(target.getConsecutiveRefreshFailures()).isEqualTo(1),
+                    () -> verify(scheduledExecutorService).schedule(any(Runnable.class), eq(10000L), eq(TimeUnit.MILLISECONDS))
+            );
+        }
+    }
+
+    @Test
+    void background_refresh_is_scheduled_again_after_retry_is_rejected_test(){
+        MetadataBLOB staleMetadataBLOB = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(staleMetadataBLOB).thenThrow(new IllegalStateException("unavailable"));
+        ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+        when(scheduledExecutorService.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(null)
+                .thenThrow(new RejectedExecutionException("shutdown"))
+                .thenReturn(null);
+        target.setBackgroundRefreshEnabled(true);
+        target.setScheduledExecutorService(scheduledExecutorService);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 1));
+            target.provide();
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 3));
+            target.provide();
+
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduledExecutorService).schedule(captor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+            captor.getValue().run();
+
+            assertThat(target.provide()).isSameAs(staleMetadataBLOB);
+            verify(scheduledExecutorService, times(3)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void calculateBackoff_test(){
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        target.setInitialBackoff(Duration.ofSeconds(30));
+        target.setMaxBackoff(Duration.ofMinutes(5));
+        assertAll(
+                () -> assertThat(target.calculateBackoff(1)).isEqualTo(Duration.ofSeconds(30)),
+                () -> assertThat(target.calculateBackoff(2)).isEqualTo(Duration.ofSeconds(60)),
+                () -> assertThat(target.calculateBackoff(4)).isEqualTo(Duration.ofSeconds(240)),
+                () -> assertThat(target.calculateBackoff(5)).isEqualTo(Duration.ofMinutes(5)),
+                () -> assertThat(target.calculateBackoff(100)).isEqualTo(Duration.ofMinutes(5))
+        );
+    }
+
 
     private MetadataBLOB createMetadataBLOB(LocalDate nextUpdate){
         JWSFactory factory = new JWSFactory(new ObjectConverter());
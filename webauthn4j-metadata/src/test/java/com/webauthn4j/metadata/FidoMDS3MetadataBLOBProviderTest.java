@@ -16,13 +16,24 @@
 
 package com.webauthn4j.metadata;
 
+import com.sun.net.httpserver.HttpServer;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.util.Base64Util;
 import com.webauthn4j.util.CertificateUtil;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -55,4 +66,42 @@ class FidoMDS3MetadataBLOBProviderTest {
         assertThat(metadataBLOB).isNotNull();
     }
 
+    @Test
+    void default_http_client_streams_blob_and_reuses_it_on_not_modified_test() throws IOException, URISyntaxException {
+        byte[] blob = Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource("integration/component/blob.jwt").toURI()));
+        String eTag = "\"v1\"";
+        List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatchHeaders.add(String.valueOf(ifNoneMatch));
+            exchange.getResponseHeaders().add("ETag", eTag);
+            if (eTag.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+            }
+            else {
+                exchange.sendResponseHeaders(200, blob.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(blob);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        try {
+            String endpoint = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+            FidoMDS3MetadataBLOBProvider target = new FidoMDS3MetadataBLOBProvider(new ObjectConverter(), endpoint, Collections.emptySet());
+
+            MetadataBLOB first = target.fetch();
+            MetadataBLOB second = target.fetch();
+
+            // only the streaming client sends a conditional request, and the parsed BLOB is reused instead of a raw body
+            assertThat(ifNoneMatchHeaders).containsExactly("null", eTag);
+            assertThat(second).isSameAs(first);
+            assertThat(first.getBytes()).isEqualTo(blob);
+        } finally {
+            server.stop(0);
+        }
+    }
+
 }
@@ -17,7 +17,11 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticatorAttestationType;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBPayload;
+import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.util.HexUtil;
@@ -30,11 +34,101 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class MetadataBLOBBasedMetadataStatementRepositoryTest {
 
+    @TempDir
+    Path tempDir;
 
+    @Test
+    void find_by_aaguid_test() {
+        MetadataBLOBBasedMetadataStatementRepository target = new MetadataBLOBBasedMetadataStatementRepository(createProvider("src/test/resources/integration/component/blob.jwt"));
+        Set<MetadataStatement> metadataStatements = target.find(new AAGUID("08987058-CADC-4B81-B6E1-30DE50DCBE96"));
+        assertThat(metadataStatements).isNotEmpty();
+    }
+
+    @Test
+    void find_by_attestationCertificateKeyIdentifier_test() {
+        MetadataBLOBBasedMetadataStatementRepository target = new MetadataBLOBBasedMetadataStatementRepository(createProvider("src/test/resources/integration/component/blob.jwt"));
+        Set<MetadataStatement> metadataStatements = target.find(HexUtil.decode("2fea8f357c7a54a57f45cda72fafb34d1d449fd4"));
+        assertThat(metadataStatements).isNotEmpty();
+    }
+
+    @Test
+    void find_by_unknown_attestationCertificateKeyIdentifier_test() {
+        MetadataBLOBBasedMetadataStatementRepository target = new MetadataBLOBBasedMetadataStatementRepository(createProvider("src/test/resources/integration/component/blob.jwt"));
+        assertThat(target.find(new byte[20])).isEmpty();
+    }
+
+    @Test
+    void find_after_refresh_test() {
+        LocalFileMetadataBLOBProvider provider = createProvider("src/test/resources/integration/component/blob.jwt");
+        MetadataBLOBBasedMetadataStatementRepository target = new MetadataBLOBBasedMetadataStatementRepository(provider);
+        AAGUID aaguid = new AAGUID("08987058-CADC-4B81-B6E1-30DE50DCBE96");
+        assertThat(target.find(aaguid)).isNotEmpty();
+
+        // the entry is not included in test-blob.jwt
+        copy("src/test/resources/integration/component/test-blob.jwt");
+        provider.refresh();
+
+        assertThat(target.find(aaguid)).isEmpty();
+    }
+
+    @Test
+    void find_with_malformed_attestationCertificateKeyIdentifier_in_entry_test() {
+        AAGUID aaguid = new AAGUID("08987058-CADC-4B81-B6E1-30DE50DCBE96");
+        MetadataStatement metadataStatement = mock(MetadataStatement.class);
+        when(metadataStatement.getAttestationTypes()).thenReturn(Collections.singletonList(AuthenticatorAttestationType.BASIC_FULL));
+        when(metadataStatement.getAttestationCertificateKeyIdentifiers()).thenReturn(Arrays.asList("abc", "not-hex!", "2FEA8F357C7A54A57F45CDA72FAFB34D1D449FD4"));
+        MetadataBLOBPayloadEntry entry = mock(MetadataBLOBPayloadEntry.class);
+        when(entry.getAaguid()).thenReturn(aaguid);
+        when(entry.getStatusReports()).thenReturn(Collections.emptyList());
+        when(entry.getMetadataStatement()).thenReturn(metadataStatement);
+        MetadataBLOB metadataBLOB = mock(MetadataBLOB.class);
+        when(metadataBLOB.getPayload()).thenReturn(new MetadataBLOBPayload(null, 1, LocalDate.MAX, Collections.singletonList(entry)));
+        MetadataBLOBBasedMetadataStatementRepository target = new MetadataBLOBBasedMetadataStatementRepository(() -> metadataBLOB);
+
+        assertThat(target.find(aaguid)).containsExactly(metadataStatement);
+        assertThat(target.find(HexUtil.decode("2fea8f357c7a54a57f45cda72fafb34d1d449fd4"))).containsExactly(metadataStatement);
+    }
+
+    @Test
+    void find_with_null_attestationCertificateKeyIdentifier_test() {
+        MetadataBLOBBasedMetadataStatementRepository target = new MetadataBLOBBasedMetadataStatementRepository(createProvider("src/test/resources/integration/component/blob.jwt"));
+        assertThat(target.find((byte[]) null)).isEmpty();
+    }
+
+    @Test
+    void setNotFidoCertifiedAllowed_after_lookup_test() {
+        MetadataBLOBBasedMetadataStatementRepository target = new MetadataBLOBBasedMetadataStatementRepository(createProvider("src/test/resources/integration/component/test-blob.jwt"));
+        AAGUID aaguid = new AAGUID("d54e9697-08ca-4d95-b2c2-ef9dd7c7d105");
+
+        assertThat(target.find(aaguid)).isEmpty();
+        target.setNotFidoCertifiedAllowed(true);
+        assertThat(target.find(aaguid)).isNotEmpty();
+    }
+
+    private LocalFileMetadataBLOBProvider createProvider(String filePath) {
+        return new LocalFileMetadataBLOBProvider(new ObjectConverter(), copy(filePath));
+    }
+
+    private Path copy(String filePath) {
+        try {
+            Path blobPath = new File(filePath).toPath();
+            Path dstPath = tempDir.resolve("blob.jwt");
+            Files.copy(blobPath, dstPath, StandardCopyOption.REPLACE_EXISTING);
+            return dstPath;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class PersistentCachingMetadataBLOBProviderTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void provide_without_stored_blob_calls_delegate_synchronously_and_stores_it_test() {
+        MetadataBLOBProvider delegate = new LocalFileMetadataBLOBProvider(objectConverter, new File("src/test/resources/integration/component/blob.jwt").toPath());
+        List<Runnable> tasks = new ArrayList<>();
+        PersistentCachingMetadataBLOBProvider target = new PersistentCachingMetadataBLOBProvider(delegate, objectConverter, tempDir, tasks::add);
+
+        MetadataBLOB metadataBLOB = target.provide();
+
+        assertThat(metadataBLOB).isNotNull();
+        assertThat(tasks).isEmpty();
+        assertThat(tempDir.resolve("blob.jwt")).exists();
+        assertThat(tempDir.resolve("blob.jwt.sha256")).exists();
+    }
+
+    @Test
+    void provide_with_stored_blob_returns_it_and_fetches_asynchronously_test() {
+        MetadataBLOBProvider delegate = new LocalFileMetadataBLOBProvider(objectConverter, new File("src/test/resources/integration/component/blob.jwt").toPath());
+        new PersistentCachingMetadataBLOBProvider(delegate, objectConverter, tempDir, Runnable::run).provide();
+
+        MetadataBLOBProvider failingDelegate = mock(MetadataBLOBProvider.class);
+        when(failingDelegate.provide()).thenThrow(new IllegalStateException("metadata service is unavailable"));
+        List<Runnable> tasks = new ArrayList<>();
+        PersistentCachingMetadataBLOBProvider target = new PersistentCachingMetadataBLOBProvider(failingDelegate, objectConverter, tempDir, tasks::add);
+
+        MetadataBLOB metadataBLOB = target.provide();
+        assertThat(metadataBLOB).isNotNull();
+        verify(failingDelegate, never()).provide();
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+        verify(failingDelegate).provide();
+        assertThat(target.provide()).isSameAs(metadataBLOB);
+    }
+
+    @Test
+    void provide_with_corrupted_stored_blob_ignores_it_test() throws IOException {
+        MetadataBLOBProvider delegate = new LocalFileMetadataBLOBProvider(objectConverter, new File("src/test/resources/integration/component/blob.jwt").toPath());
+        new PersistentCachingMetadataBLOBProvider(delegate, objectConverter, tempDir, Runnable::run).provide();
+        Files.write(tempDir.resolve("blob.jwt.sha256"), "00".getBytes(StandardCharsets.US_ASCII));
+
+        MetadataBLOBProvider spiedDelegate = spy(delegate);
+        PersistentCachingMetadataBLOBProvider target = new PersistentCachingMetadataBLOBProvider(spiedDelegate, objectConverter, tempDir, Runnable::run);
+        assertThat(target.load()).isNull();
+        assertThat(target.provide()).isNotNull();
+        verify(spiedDelegate).provide();
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.webauthn4j.metadata.exception.MDSException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingHttpClientTest {
+
+    private static final String BODY = "metadata blob body";
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+    private final List<HttpExchangeRecord> records = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/blob", this::handleBlob);
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/error", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void handleBlob(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        records.add(new HttpExchangeRecord(ifNoneMatch, exchange.getRequestHeaders().getFirst("If-Modified-Since")));
+        if (ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        exchange.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+                gzipOutputStream.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    @Test
+    void fetch_gzip_test() {
+        StreamingHttpClient target = new StreamingHttpClient();
+        assertThat(target.fetch(baseUrl + "/blob")).isEqualTo(BODY);
+    }
+
+    @Test
+    void fetch_without_gzip_test() {
+        StreamingHttpClient target = new StreamingHttpClient();
+        target.setGzipEnabled(false);
+        assertThat(target.fetch(baseUrl + "/blob")).isEqualTo(BODY);
+    }
+
+    @Test
+    void fetchAsByteBuffer_sends_conditional_request_test() {
+        StreamingHttpClient target = new StreamingHttpClient();
+        ByteBuffer first = target.fetchAsByteBuffer(baseUrl + "/blob");
+        ByteBuffer second = target.fetchAsByteBuffer(baseUrl + "/blob");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(second).toString()).isEqualTo(BODY);
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).ifNoneMatch).isNull();
+        assertThat(records.get(1).ifNoneMatch).isEqualTo(ETAG);
+        assertThat(records.get(1).ifModifiedSince).isEqualTo(LAST_MODIFIED);
+    }
+
+    @Test
+    void fetchAsByteBuffer_without_conditional_request_test() {
+        StreamingHttpClient target = new StreamingHttpClient();
+        target.setConditionalRequestEnabled(false);
+        target.fetchAsByteBuffer(baseUrl + "/blob");
+        target.fetchAsByteBuffer(baseUrl + "/blob");
+        assertThat(records).extracting(record -> record.ifNoneMatch).containsOnlyNulls();
+    }
+
+    @Test
+    void open_test() throws IOException {
+        StreamingHttpClient target = new StreamingHttpClient();
+        try (StreamingHttpClient.Response response = target.open(baseUrl + "/blob", null, null)) {
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getETag()).isEqualTo(ETAG);
+            assertThat(response.getLastModified()).isEqualTo(LAST_MODIFIED);
+            InputStream body = response.getBody();
+            assertThat(body).isNotNull();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4];
+            int length;
+            while ((length = body.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    void open_not_modified_test() throws IOException {
+        StreamingHttpClient target = new StreamingHttpClient();
+        try (StreamingHttpClient.Response response = target.open(baseUrl + "/blob", ETAG, null)) {
+            assertThat(response.isNotModified()).isTrue();
+            assertThat(response.getBody()).isNull();
+        }
+    }
+
+    @Test
+    void read_timeout_test() {
+        StreamingHttpClient target = new StreamingHttpClient();
+        target.setReadTimeout(Duration.ofMillis(100));
+        assertThatThrownBy(() -> target.fetch(baseUrl + "/slow"))
+                .isInstanceOf(MDSException.class)
+                .hasCauseInstanceOf(SocketTimeoutException.class);
+    }
+
+    @Test
+    void error_status_test() {
+        StreamingHttpClient target = new StreamingHttpClient();
+        assertThatThrownBy(() -> target.fetch(baseUrl + "/error")).isInstanceOf(MDSException.class);
+    }
+
+    private static class HttpExchangeRecord {
+
+        private final String ifNoneMatch;
+        private final String ifModifiedSince;
+
+        private HttpExchangeRecord(String ifNoneMatch, String ifModifiedSince) {
+            this.ifNoneMatch = ifNoneMatch;
+            this.ifModifiedSince = ifModifiedSince;
+        }
+    }
+}
@@ -25,7 +25,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -51,6 +53,24 @@ class MetadataBLOBTest {
         assertThat(metadataBLOB.getSignature()).isEqualTo(Base64UrlUtil.decode("CLHevWeNEwJynHqxs5-xH0wlOuhz3cu9r8UL4fyJ0T7Avbi-OdE2LnT2ZUDjJC0F8R1V6bmrUBoyR4bjTTCt5FpKNyOwfSEVf3ToK6ZR3kITEDGfJgztDxn8rjS26FpM0JHnVms9-_74AEqVas7qVoPoKq9HYQyHUkvWdeVHhziOEMIa6NYEJa7qhtzlKi8ZKTJeEYbjUWVIhgTOHNUi_jGfLFTm10HDgiFc6pa5M5-BvoOKBCztzW_tzCl96wP8K2ujVg0xHA-RRTwinGAbDiwSIDGpYymhElQ40gdpsHtRYPOPQiqZgQX7u_CRGN2CA6qykF9mOY2U2RhA3cxZpw"));
     }
 
+    @Test
+    void parse_InputStream_test() throws IOException {
+        Path blobPath = new File("src/test/resources/integration/component/blob.jwt").toPath();
+        MetadataBLOBFactory metadataBLOBFactory = new MetadataBLOBFactory(new ObjectConverter());
+        MetadataBLOB expected = metadataBLOBFactory.parse(String.join("", Files.readAllLines(blobPath, StandardCharsets.UTF_8)));
+
+        MetadataBLOB metadataBLOB;
+        try (InputStream inputStream = Files.newInputStream(blobPath)) {
+            metadataBLOB = metadataBLOBFactory.parse(inputStream);
+        }
+
+        assertThat(metadataBLOB.getHeader()).isEqualTo(expected.getHeader());
+        assertThat(metadataBLOB.getPayload()).isEqualTo(expected.getPayload());
+        assertThat(metadataBLOB.getSignature()).isEqualTo(expected.getSignature());
+        assertThat(metadataBLOB.getBytes()).isEqualTo(expected.getBytes());
+        assertThat(metadataBLOB.isValidSignature()).isEqualTo(expected.isValidSignature());
+    }
+
     private MetadataBLOB getMetadataBLOB() {
         try {
             Path blobPath = new File("src/test/resources/integration/component/blob.jwt").toPath();
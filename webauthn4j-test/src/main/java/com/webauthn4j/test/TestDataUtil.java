@@ -430,6 +430,9 @@ public class TestDataUtil {
             if (privateKey.getAlgorithm().equals("EC")) {
                 signature = SignatureUtil.createES256();
             }
+            else if (privateKey.getAlgorithm().equals("EdDSA") || privateKey.getAlgorithm().equals("Ed25519")) {
+                signature = SignatureUtil.createSignature("EdDSA");
+            }
             else {
                 signature = SignatureUtil.createRS256();
             }
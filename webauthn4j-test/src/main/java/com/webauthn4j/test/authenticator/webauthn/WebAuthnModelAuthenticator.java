@@ -28,6 +28,8 @@ import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.EdDSACOSEKey;
+import com.webauthn4j.data.attestation.authenticator.RSACOSEKey;
 import com.webauthn4j.data.attestation.statement.AttestationStatement;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
@@ -44,15 +46,18 @@ import com.webauthn4j.test.client.AuthenticationEmulationOption;
 import com.webauthn4j.test.client.RegistrationEmulationOption;
 import com.webauthn4j.util.ECUtil;
 import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.RSAUtil;
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.security.KeyPair;
-import java.security.PrivateKey;
-import java.security.SecureRandom;
+import java.security.*;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -221,11 +226,22 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
         COSEKey cosePublicKey;
         COSEKey cosePrivateKey;
         try {
-            credentialKeyPair = ECUtil.createKeyPair();
-            ECPublicKey publicKey = (ECPublicKey) credentialKeyPair.getPublic();
-            ECPrivateKey privateKey = (ECPrivateKey) credentialKeyPair.getPrivate();
-            cosePublicKey = TestDataUtil.createEC2COSEPublicKey(publicKey);
-            cosePrivateKey = TestDataUtil.createEC2COSEPrivateKey(publicKey, privateKey);
+            COSEAlgorithmIdentifier alg = publicKeyCredentialParameters.getAlg();
+            credentialKeyPair = createCredentialKeyPair(alg);
+            if (COSEAlgorithmIdentifier.RS256.equals(alg)) {
+                cosePublicKey = RSACOSEKey.create((RSAPublicKey) credentialKeyPair.getPublic(), alg);
+                cosePrivateKey = RSACOSEKey.create((RSAPrivateKey) credentialKeyPair.getPrivate(), alg);
+            }
+            else if (COSEAlgorithmIdentifier.EdDSA.equals(alg)) {
+                cosePublicKey = EdDSACOSEKey.create((EdECPublicKey) credentialKeyPair.getPublic(), alg);
+                cosePrivateKey = EdDSACOSEKey.create(credentialKeyPair, alg);
+            }
+            else {
+                ECPublicKey publicKey = (ECPublicKey) credentialKeyPair.getPublic();
+                ECPrivateKey privateKey = (ECPrivateKey) credentialKeyPair.getPrivate();
+                cosePublicKey = TestDataUtil.createEC2COSEPublicKey(publicKey);
+                cosePrivateKey = TestDataUtil.createEC2COSEPrivateKey(publicKey, privateKey);
+            }
 
             // Let userHandle be userEntity.id.
             byte[] userHandle = makeCredentialRequest.getUserEntity().getId();
@@ -430,8 +446,26 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
     }
 
     private boolean isCapableOfHandling(PublicKeyCredentialParameters publicKeyCredentialParameters) {
+        COSEAlgorithmIdentifier alg = publicKeyCredentialParameters.getAlg();
         return publicKeyCredentialParameters.getType().equals(PublicKeyCredentialType.PUBLIC_KEY) &&
-                COSEAlgorithmIdentifier.ES256.equals(publicKeyCredentialParameters.getAlg());
+                (COSEAlgorithmIdentifier.ES256.equals(alg) || COSEAlgorithmIdentifier.RS256.equals(alg) || COSEAlgorithmIdentifier.EdDSA.equals(alg));
+    }
+
+    @SuppressWarnings("Since15")
+    private KeyPair createCredentialKeyPair(COSEAlgorithmIdentifier alg) {
+        if (COSEAlgorithmIdentifier.RS256.equals(alg)) {
+            return RSAUtil.createKeyPair();
+        }
+        else if (COSEAlgorithmIdentifier.EdDSA.equals(alg)) {
+            try {
+                return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            } catch (NoSuchAlgorithmException e) {
+                throw new UnexpectedCheckedException(e);
+            }
+        }
+        else {
+            return ECUtil.createKeyPair();
+        }
     }
 
     public boolean isCountUpEnabled() {
@@ -20,6 +20,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 public class ArrayUtil {
 
@@ -35,6 +36,21 @@ public class ArrayUtil {
         return value == null ? null : value.clone();
     }
 
+    /**
+     * Copies the remaining bytes of the buffer, which can be a direct buffer, without changing its position
+     *
+     * @param value buffer
+     * @return copied bytes
+     */
+    public static @Nullable byte[] toByteArray(@Nullable ByteBuffer value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = new byte[value.remaining()];
+        value.duplicate().get(bytes);
+        return bytes;
+    }
+
     public static @Nullable String toHexString(@Nullable byte[] value){
         return value == null ? null : HexUtil.encodeToString(value);
     }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Utility class for executors
+ */
+public class ExecutorUtil {
+
+    private ExecutorUtil() {
+    }
+
+    /**
+     * Returns the pool shared by the managers to run validateAsync and validateAll, unless another executor is set.
+     * <p>
+     * It is dedicated to the validation instead of {@link ForkJoinPool#commonPool()}, so that the CPU bound signature
+     * verification doesn't starve parallel streams and other users of the common pool, and vice versa.
+     * Its parallelism is the number of available processors, and its worker threads are daemon threads named
+     * {@code webauthn4j-validation-<n>}. The pool is created on the first call.
+     *
+     * @return shared validation pool
+     */
+    public static @NonNull ForkJoinPool getValidationPool() {
+        return ValidationPoolHolder.validationPool;
+    }
+
+    private static class ValidationPoolHolder {
+
+        private static final AtomicInteger threadNumber = new AtomicInteger();
+
+        private static final ForkJoinPool validationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("webauthn4j-validation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+}
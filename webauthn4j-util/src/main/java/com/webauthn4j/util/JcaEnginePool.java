@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A bounded pool of JCA engine instances (like {@link java.security.Signature} or {@link java.security.MessageDigest})
+ * keyed by JCA algorithm name.
+ * Instances are not bound to threads, so the pool stays small with virtual threads as well.
+ *
+ * @param <T> engine type
+ */
+class JcaEnginePool<T> {
+
+    private final ConcurrentMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+    private final int maxIdlePerAlgorithm;
+
+    JcaEnginePool(@NonNull Function<String, T> factory, int maxIdlePerAlgorithm) {
+        this.factory = factory;
+        this.maxIdlePerAlgorithm = maxIdlePerAlgorithm;
+    }
+
+    @NonNull T acquire(@NonNull String algorithm) {
+        Entry<T> entry = entries.get(algorithm);
+        if (entry != null) {
+            T engine = entry.idle.poll();
+            if (engine != null) {
+                entry.size.decrementAndGet();
+                return engine;
+            }
+        }
+        return factory.apply(algorithm);
+    }
+
+    void release(@NonNull String algorithm, @NonNull T engine) {
+        Entry<T> entry = entries.computeIfAbsent(algorithm, key -> new Entry<>());
+        if (entry.size.incrementAndGet() > maxIdlePerAlgorithm) {
+            entry.size.decrementAndGet();
+            return;
+        }
+        entry.idle.offer(engine);
+    }
+
+    private static class Entry<T> {
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
@@ -26,22 +26,16 @@ import java.security.NoSuchAlgorithmException;
  */
 public class MessageDigestUtil {
 
+    private static final int MAX_IDLE_MESSAGE_DIGESTS_PER_ALGORITHM = 64;
+
+    private static final JcaEnginePool<MessageDigest> pool = new JcaEnginePool<>(MessageDigestUtil::createMessageDigest, MAX_IDLE_MESSAGE_DIGESTS_PER_ALGORITHM);
 
     private MessageDigestUtil() {
     }
 
     public static @NonNull MessageDigest createMessageDigest(@NonNull String hashAlgorithm) {
         try {
-            switch (hashAlgorithm) {
-                case "S256":
-                    return MessageDigest.getInstance("SHA-256");
-                case "S384":
-                    return MessageDigest.getInstance("SHA-384");
-                case "S512":
-                    return MessageDigest.getInstance("SHA-512");
-                default:
-                    return MessageDigest.getInstance(hashAlgorithm);
-            }
+            return MessageDigest.getInstance(toJcaName(hashAlgorithm));
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalArgumentException(e);
         }
@@ -51,4 +45,67 @@ public class MessageDigestUtil {
         return createMessageDigest("SHA-256");
     }
 
+    /**
+     * Acquires a {@link MessageDigest} for the algorithm from the shared pool, or creates a new one if none is idle.
+     * The returned instance should be handed back with {@link #releaseMessageDigest(MessageDigest)} once the digest is computed.
+     *
+     * @param hashAlgorithm hash algorithm name
+     * @return {@link MessageDigest}
+     */
+    public static @NonNull MessageDigest acquireMessageDigest(@NonNull String hashAlgorithm) {
+        AssertUtil.notNull(hashAlgorithm, "hashAlgorithm must not be null");
+        return pool.acquire(toJcaName(hashAlgorithm));
+    }
+
+    /**
+     * Resets a {@link MessageDigest} acquired by {@link #acquireMessageDigest(String)} and returns it to the shared pool.
+     * The caller must not use the instance afterwards.
+     *
+     * @param messageDigest {@link MessageDigest} to return
+     */
+    public static void releaseMessageDigest(@NonNull MessageDigest messageDigest) {
+        AssertUtil.notNull(messageDigest, "messageDigest must not be null");
+        messageDigest.reset();
+        pool.release(messageDigest.getAlgorithm(), messageDigest);
+    }
+
+    /**
+     * Calculates the digest of the data with a pooled {@link MessageDigest}.
+     *
+     * @param hashAlgorithm hash algorithm name
+     * @param data          data to digest
+     * @return digest
+     */
+    public static @NonNull byte[] digest(@NonNull String hashAlgorithm, @NonNull byte[] data) {
+        MessageDigest messageDigest = acquireMessageDigest(hashAlgorithm);
+        try {
+            return messageDigest.digest(data);
+        } finally {
+            releaseMessageDigest(messageDigest);
+        }
+    }
+
+    /**
+     * Calculates the SHA-256 digest of the data with a pooled {@link MessageDigest}.
+     *
+     * @param data data to digest
+     * @return digest
+     */
+    public static @NonNull byte[] digestSHA256(@NonNull byte[] data) {
+        return digest("SHA-256", data);
+    }
+
+    private static @NonNull String toJcaName(@NonNull String hashAlgorithm) {
+        switch (hashAlgorithm) {
+            case "S256":
+                return "SHA-256";
+            case "S384":
+                return "SHA-384";
+            case "S512":
+                return "SHA-512";
+            default:
+                return hashAlgorithm;
+        }
+    }
+
 }
@@ -26,6 +26,10 @@ import java.security.Signature;
  */
 public class SignatureUtil {
 
+    private static final int MAX_IDLE_SIGNATURES_PER_ALGORITHM = 64;
+
+    private static final JcaEnginePool<Signature> pool = new JcaEnginePool<>(SignatureUtil::createSignature, MAX_IDLE_SIGNATURES_PER_ALGORITHM);
+
     private SignatureUtil() {
     }
 
@@ -46,4 +50,28 @@ public class SignatureUtil {
         }
     }
 
+    /**
+     * Acquires a {@link Signature} for the algorithm from the shared pool, or creates a new one if none is idle.
+     * The returned instance must be initialized with {@link Signature#initVerify} or {@link Signature#initSign} before use,
+     * and should be handed back with {@link #releaseSignature(Signature)} once the operation completes.
+     *
+     * @param algorithm JCA signature algorithm name
+     * @return {@link Signature}
+     */
+    public static @NonNull Signature acquireSignature(@NonNull String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm is required; it must not be null");
+        return pool.acquire(algorithm);
+    }
+
+    /**
+     * Returns a {@link Signature} acquired by {@link #acquireSignature(String)} to the shared pool.
+     * The caller must not use the instance afterwards.
+     *
+     * @param signature {@link Signature} to return
+     */
+    public static void releaseSignature(@NonNull Signature signature) {
+        AssertUtil.notNull(signature, "signature must not be null");
+        pool.release(signature.getAlgorithm(), signature);
+    }
+
 }
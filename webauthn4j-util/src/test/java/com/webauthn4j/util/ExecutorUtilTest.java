@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExecutorUtilTest {
+
+    @Test
+    void getValidationPool_test() throws ExecutionException, InterruptedException {
+        ForkJoinPool validationPool = ExecutorUtil.getValidationPool();
+        Thread thread = validationPool.submit(Thread::currentThread).get();
+
+        assertThat(ExecutorUtil.getValidationPool()).isSameAs(validationPool).isNotSameAs(ForkJoinPool.commonPool());
+        assertThat(validationPool.getParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+        assertThat(thread.getName()).startsWith("webauthn4j-validation-");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+}
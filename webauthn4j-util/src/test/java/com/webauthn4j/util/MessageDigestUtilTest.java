@@ -51,4 +51,29 @@ class MessageDigestUtilTest {
                 () -> MessageDigestUtil.createMessageDigest("wrong-arg")
         );
     }
+
+    @Test
+    void acquireMessageDigest_test() {
+        MessageDigest s256 = MessageDigestUtil.acquireMessageDigest("S256");
+        assertThat(s256.getAlgorithm()).isEqualTo("SHA-256");
+    }
+
+    @Test
+    void releaseMessageDigest_resets_state_test() {
+        MessageDigest messageDigest = MessageDigestUtil.acquireMessageDigest("SHA-384");
+        messageDigest.update(new byte[]{0x01, 0x02, 0x03});
+        MessageDigestUtil.releaseMessageDigest(messageDigest);
+
+        MessageDigest reused = MessageDigestUtil.acquireMessageDigest("SHA-384");
+        assertAll(
+                () -> assertThat(reused).isSameAs(messageDigest),
+                () -> assertThat(reused.digest()).isEqualTo(MessageDigestUtil.createMessageDigest("SHA-384").digest())
+        );
+    }
+
+    @Test
+    void digestSHA256_test() {
+        byte[] data = "webauthn4j".getBytes();
+        assertThat(MessageDigestUtil.digestSHA256(data)).isEqualTo(MessageDigestUtil.createSHA256().digest(data));
+    }
 }
@@ -18,6 +18,8 @@ package com.webauthn4j.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.security.Signature;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -54,4 +56,24 @@ class SignatureUtilTest {
         );
         assertThat(t).hasMessageContaining("dummyAlg Signature not available");
     }
+
+    @Test
+    void acquireSignature_test() {
+        Signature signature = SignatureUtil.acquireSignature("SHA256withECDSA");
+        assertThat(signature.getAlgorithm()).isEqualTo("SHA256withECDSA");
+    }
+
+    @Test
+    void acquireSignature_reuses_released_instance_test() {
+        Signature signature = SignatureUtil.acquireSignature("SHA256withRSA");
+        SignatureUtil.releaseSignature(signature);
+        assertThat(SignatureUtil.acquireSignature("SHA256withRSA")).isSameAs(signature);
+    }
+
+    @Test
+    void acquireSignature_test_with_illegal_argument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SignatureUtil.acquireSignature("dummyAlg")
+        );
+    }
 }